@@ -0,0 +1,56 @@
+"""
+Compare a JMH JSON result file against the stored baseline.
+
+  python benchmarks/compare_baseline.py benchmarks/baseline/DateTimeCheckerBenchmark.json result.json
+
+A benchmark regresses when its throughput drops, or its allocation per
+operation (gc.alloc.rate.norm, from -prof gc) rises, by more than the
+threshold (default 20%). Exits with status 1 if anything regressed.
+"""
+
+import json
+import sys
+
+ALLOC_METRIC = "gc.alloc.rate.norm"
+
+
+def load(path):
+  "map (benchmark, params) -> (throughput, bytes per op or None)"
+  with open(path, encoding="utf-8") as ifp:
+    runs = json.load(ifp)
+  results = {}
+  for run in runs:
+    key = (run["benchmark"], tuple(sorted(run.get("params", {}).items())))
+    alloc = run.get("secondaryMetrics", {}).get(ALLOC_METRIC, {}).get("score")
+    results[key] = (run["primaryMetric"]["score"], alloc)
+  return results
+
+
+def main(argv):
+  if len(argv) < 3:
+    print(__doc__)
+    return 2
+  threshold = float(argv[3]) if len(argv) > 3 else 0.20
+  baseline = load(argv[1])
+  current = load(argv[2])
+
+  regressed = False
+  for key, (base_score, base_alloc) in sorted(baseline.items()):
+    if key not in current:
+      continue
+    score, alloc = current[key]
+    name = key[0].rsplit(".", 2)[-2] + "." + key[0].rsplit(".", 1)[-1]
+    params = ",".join(f"{k}={v}" for k, v in key[1])
+    status = "ok"
+    if score < base_score * (1 - threshold):
+      status = "SLOWER"
+    elif base_alloc is not None and alloc is not None and alloc > base_alloc * (1 + threshold) + 1:
+      status = "ALLOCATES MORE"
+    regressed = regressed or status != "ok"
+    print(f"{status:15} {name} [{params}] {base_score:.3f} -> {score:.3f}"
+          + ("" if alloc is None else f", {base_alloc:.1f} -> {alloc:.1f} B/op"))
+  return 1 if regressed else 0
+
+
+if __name__ == "__main__":
+  sys.exit(main(sys.argv))
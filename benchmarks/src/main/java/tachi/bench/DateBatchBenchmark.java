@@ -0,0 +1,74 @@
+package tachi.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validating a whole column of dates: one isValidDate call per value against
+ * DateTimeChecker.validateDates on a String[] and on packed fixed-width records.
+ *
+ * The column mixes the VALID, BOUNDARY and INVALID partitions in equal parts.
+ * Scores are columns per millisecond; divide by {@link #size} for values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateBatchBenchmark {
+
+    @Param({"1024"})
+    public int size;
+
+    private String[] column;
+    private byte[] packed;
+
+    @Setup
+    public void setup() {
+        String[][] partitions = {Inputs.dates("VALID"), Inputs.dates("BOUNDARY"), Inputs.dates("INVALID")};
+        column = new String[size];
+        StringBuilder records = new StringBuilder(size * 10);
+        for (int i = 0; i < size; i++) {
+            String date = partitions[i % 3][(i / 3) % Inputs.SIZE];
+            column[i] = date;
+            // packed records are exactly 10 bytes, so pad or cut the wrong-length inputs
+            records.append((date + "          ").substring(0, 10));
+        }
+        packed = records.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public BitSet loopIsValidDate() {
+        BitSet result = new BitSet(size);
+        for (int i = 0; i < column.length; i++) {
+            if (Validators.isValidDate(column[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BitSet validateDates() {
+        return Validators.validateDates(column);
+    }
+
+    @Benchmark
+    public BitSet validatePackedDates() {
+        return Validators.validateDates(packed, 0, 10, size);
+    }
+}
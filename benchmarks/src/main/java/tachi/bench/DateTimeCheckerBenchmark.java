@@ -0,0 +1,89 @@
+package tachi.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of DateTimeChecker.isValidDate / isValidDateTime / validateDateTime per input partition,
+ * against the pre-rewrite implementation (LegacyDateTimeChecker).
+ *
+ * Run with {@code -prof gc} to see the allocation rate (gc.alloc.rate.norm, bytes per op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeCheckerBenchmark {
+
+    @Param({"VALID", "BOUNDARY", "INVALID"})
+    public String partition;
+
+    private String[] dates;
+    private String[] dateTimes;
+    private Object parsed;
+
+    @Setup
+    public void setup() {
+        dates = Inputs.dates(partition);
+        dateTimes = Inputs.dateTimes(partition);
+        parsed = Validators.newParsed();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public void isValidDate(Blackhole bh) {
+        for (String input : dates) {
+            bh.consume(Validators.isValidDate(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public void isValidDateTime(Blackhole bh) {
+        for (String input : dateTimes) {
+            bh.consume(Validators.isValidDateTime(input));
+        }
+    }
+
+    /**
+     * Reason and parsed epoch minute in one pass (should allocate nothing).
+     */
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public void validateDateTime(Blackhole bh) {
+        for (String input : dateTimes) {
+            bh.consume(Validators.validateDateTime(input, parsed));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public void legacyIsValidDate(Blackhole bh) {
+        for (String input : dates) {
+            bh.consume(LegacyDateTimeChecker.isValidDate(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public void legacyIsValidDateTime(Blackhole bh) {
+        for (String input : dateTimes) {
+            bh.consume(LegacyDateTimeChecker.isValidDateTime(input));
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package tachi.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Differential soak test: DateTimeChecker against java.time over the whole input space.
+ *
+ * For each fixed "today" the harness checks
+ * <ul>
+ *   <li>every {@code YYYY-MM-DD} for years 0000–9999, months 00–19 and days 00–39
+ *       (every real date plus the near misses around each boundary)</li>
+ *   <li>every real date of 0000–9999 as a datetime, each with a few times drawn from the
+ *       full {@code 00:00}–{@code 99:99} grid, so every HH:MM is checked thousands of times</li>
+ *   <li>random malformed strings: valid dates and datetimes with one character replaced,
+ *       inserted or deleted, and random strings of 0–20 characters</li>
+ * </ul>
+ * through {@code isValidDate}/{@code isValidDateTime} on String and on byte[], and
+ * through {@code validateDate}/{@code validateDateTime}, whose epoch day / minute must
+ * also match. The reference is a strict java.time formatter for {@code uuuu-MM-dd} and
+ * {@code uuuu-MM-ddTHH:mm} plus the "not before today" rule; a datetime of length 10 is
+ * a bare date, as DateTimeChecker allows. Non-ASCII decimal digits are mapped to ASCII
+ * first, since DateTimeChecker deliberately accepts them as Integer.parseInt did.
+ *
+ * Work is split by year (and by random block) across a pool of one thread per core.
+ * Each implementation is timed on the same chunk, so the throughput columns compare like
+ * with like. The exit status is 1 if any input disagrees.
+ *
+ * Usage:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar tachi.bench.DifferentialSoak \
+ *     [threads=cores] [random strings=20000000] [todays=0000-01-01,2030-06-15] [seed=1]
+ * </pre>
+ */
+public final class DifferentialSoak {
+
+    // Outcome of an input that is rejected; a valid input's outcome is its epoch day / minute
+    private static final long INVALID = Long.MIN_VALUE;
+
+    // Outcome of a valid input from an implementation that does not return the value
+    private static final long VALID = Long.MAX_VALUE;
+
+    // Outcome of an input an implementation does not take (non-ASCII for the byte[] API)
+    private static final long SKIPPED = Long.MAX_VALUE - 1;
+
+    private static final int MAX_REPORTED = 20;
+    private static final int RANDOM_BLOCK = 100_000;
+    private static final int TIMES_PER_DATE = 4;
+
+    private static final DateTimeFormatter DATE = new DateTimeFormatterBuilder()
+            .appendValue(ChronoField.YEAR, 4)
+            .appendLiteral('-')
+            .appendValue(ChronoField.MONTH_OF_YEAR, 2)
+            .appendLiteral('-')
+            .appendValue(ChronoField.DAY_OF_MONTH, 2)
+            .toFormatter()
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    private static final DateTimeFormatter DATE_TIME = new DateTimeFormatterBuilder()
+            .append(DATE)
+            .appendLiteral('T')
+            .appendValue(ChronoField.HOUR_OF_DAY, 2)
+            .appendLiteral(':')
+            .appendValue(ChronoField.MINUTE_OF_HOUR, 2)
+            .toFormatter()
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    // Characters used to corrupt inputs: the ones that matter to the format plus lookalikes
+    private static final char[] NOISE = "0123456789-T: +tZ/.a٣０".toCharArray();
+
+    /**
+     * One way of checking an input.
+     */
+    private enum Implementation {
+
+        STRING("isValid*(String)") {
+            @Override
+            long check(String input, byte[] ascii, boolean dateTime, Object parsed) {
+                boolean valid = dateTime ? Validators.isValidDateTime(input) : Validators.isValidDate(input);
+                return valid ? VALID : INVALID;
+            }
+        },
+        BYTES("isValid*(byte[])") {
+            @Override
+            long check(String input, byte[] ascii, boolean dateTime, Object parsed) {
+                if (ascii == null){
+                    return SKIPPED;
+                }
+                boolean valid = dateTime ? Validators.isValidDateTime(ascii, 0, ascii.length)
+                        : Validators.isValidDate(ascii, 0, ascii.length);
+                return valid ? VALID : INVALID;
+            }
+        },
+        PARSED("validate*(Parsed)") {
+            @Override
+            long check(String input, byte[] ascii, boolean dateTime, Object parsed) {
+                if (dateTime){
+                    return Validators.isValid(Validators.validateDateTime(input, parsed))
+                            ? Validators.getEpochMinute(parsed) : INVALID;
+                }
+                return Validators.isValid(Validators.validateDate(input, parsed))
+                        ? Validators.getEpochDay(parsed) : INVALID;
+            }
+        },
+        JAVA_TIME("java.time") {
+            @Override
+            long check(String input, byte[] ascii, boolean dateTime, Object parsed) {
+                return reference(input, dateTime);
+            }
+        };
+
+        final String label;
+
+        Implementation(String label) {
+            this.label = label;
+        }
+
+        /**
+         * @return INVALID, VALID, or the epoch day (date) / epoch minute (datetime) of a valid input
+         */
+        abstract long check(String input, byte[] ascii, boolean dateTime, Object parsed);
+    }
+
+    private static final Implementation[] IMPLEMENTATIONS = Implementation.values();
+
+    private static volatile LocalDate today;
+
+    private static final LongAdder[] NANOS = newAdders(IMPLEMENTATIONS.length);
+    private static final LongAdder INPUTS = new LongAdder();
+    private static final LongAdder MISMATCHES = new LongAdder();
+    private static final Queue<String> REPORTED = new ConcurrentLinkedQueue<>();
+
+    private DifferentialSoak() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        long randomCount = args.length > 1 ? Long.parseLong(args[1]) : 20_000_000L;
+        String[] todays = (args.length > 2 ? args[2] : "0000-01-01,2030-06-15").split(",");
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            for (String text : todays) {
+                today = LocalDate.parse(text, DATE);
+                Validators.setFixedToday(today.getYear(), today.getMonthValue(), today.getDayOfMonth());
+                System.out.printf("today=%s threads=%d%n", today, threads);
+
+                List<Future<?>> tasks = new ArrayList<>();
+                for (int year = 0; year <= 9999; year++) {
+                    int y = year;
+                    tasks.add(pool.submit(() -> run(dateGrid(y), false)));
+                    tasks.add(pool.submit(() -> run(dateTimes(y), true)));
+                }
+                SplittableRandom random = new SplittableRandom(seed);
+                for (long done = 0; done < randomCount; done += RANDOM_BLOCK) {
+                    SplittableRandom block = random.split();
+                    int count = (int) Math.min(RANDOM_BLOCK, randomCount - done);
+                    tasks.add(pool.submit(() -> {
+                        run(malformed(block, count, false), false);
+                        run(malformed(block, count, true), true);
+                    }));
+                }
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long inputs = INPUTS.sum();
+        System.out.printf("inputs=%d per implementation, wall time %.1f s%n", inputs, elapsed / 1e9);
+        for (Implementation implementation : IMPLEMENTATIONS) {
+            // nanos are summed over all threads: this is the rate of one thread
+            double nanos = NANOS[implementation.ordinal()].sum();
+            System.out.printf("  %-22s %8.1f M checks/s per thread%n", implementation.label, inputs * 1e3 / nanos);
+        }
+        System.out.printf("mismatches=%d%n", MISMATCHES.sum());
+        for (String mismatch : REPORTED) {
+            System.out.println("  " + mismatch);
+        }
+        System.exit(MISMATCHES.sum() == 0 ? 0 : 1);
+    }
+
+    /**
+     * Check one chunk with every implementation, timing each, and compare with java.time.
+     */
+    private static void run(List<String> inputs, boolean dateTime) {
+
+        int count = inputs.size();
+        byte[][] ascii = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            ascii[i] = toAscii(inputs.get(i));
+        }
+        Object parsed = Validators.newParsed();
+        long[][] outcomes = new long[IMPLEMENTATIONS.length][count];
+        for (Implementation implementation : IMPLEMENTATIONS) {
+            long[] outcome = outcomes[implementation.ordinal()];
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                outcome[i] = implementation.check(inputs.get(i), ascii[i], dateTime, parsed);
+            }
+            NANOS[implementation.ordinal()].add(System.nanoTime() - start);
+        }
+
+        long[] expected = outcomes[Implementation.JAVA_TIME.ordinal()];
+        for (Implementation implementation : IMPLEMENTATIONS) {
+            long[] actual = outcomes[implementation.ordinal()];
+            for (int i = 0; i < count; i++) {
+                if (!agrees(actual[i], expected[i])){
+                    MISMATCHES.increment();
+                    if (REPORTED.size() < MAX_REPORTED){
+                        REPORTED.add(String.format("%s %s \"%s\": expected %s, got %s", implementation.label,
+                                dateTime ? "datetime" : "date", escape(inputs.get(i)),
+                                describe(expected[i]), describe(actual[i])));
+                    }
+                }
+            }
+        }
+        INPUTS.add(count);
+    }
+
+    private static boolean agrees(long actual, long expected) {
+
+        if (actual == SKIPPED){
+            return true;
+        }
+        if (actual == VALID){
+            return expected != INVALID;
+        }
+        return actual == expected;
+    }
+
+    /**
+     * The rules DateTimeChecker implements, written with java.time.
+     */
+    private static long reference(String input, boolean dateTime) {
+
+        input = asciiDigits(input);
+        try {
+            if (!dateTime || input.length() == 10){
+                LocalDate date = LocalDate.parse(input, DATE);
+                return date.isBefore(today) ? INVALID : date.toEpochDay();
+            }
+            LocalDateTime dateTimeValue = LocalDateTime.parse(input, DATE_TIME);
+            return dateTimeValue.toLocalDate().isBefore(today) ? INVALID
+                    : dateTimeValue.toEpochSecond(ZoneOffset.UTC) / 60;
+        } catch (DateTimeException e) {
+            return INVALID;
+        }
+    }
+
+    /**
+     * @return the input with every non-ASCII decimal digit replaced by its ASCII digit
+     */
+    private static String asciiDigits(String input) {
+
+        char[] chars = null;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            int digit = c < 0x80 ? -1 : Character.digit(c, 10);
+            if (digit >= 0){
+                if (chars == null){
+                    chars = input.toCharArray();
+                }
+                chars[i] = (char) ('0' + digit);
+            }
+        }
+        return chars == null ? input : new String(chars);
+    }
+
+    /**
+     * Every YYYY-MM-DD of one year with months 00–19 and days 00–39.
+     */
+    private static List<String> dateGrid(int year) {
+
+        List<String> inputs = new ArrayList<>(20 * 40);
+        String prefix = fourDigits(year) + "-";
+        for (int month = 0; month < 20; month++) {
+            for (int day = 0; day < 40; day++) {
+                inputs.add(prefix + twoDigits(month) + "-" + twoDigits(day));
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Every real date of one year, each with TIMES_PER_DATE times from the 00:00–99:99
+     * grid; consecutive dates step through the grid so all of it is covered.
+     */
+    private static List<String> dateTimes(int year) {
+
+        List<String> inputs = new ArrayList<>(366 * TIMES_PER_DATE);
+        LocalDate date = LocalDate.of(year, 1, 1);
+        int step = year * 366;
+        while (date.getYear() == year) {
+            String prefix = date.format(DATE) + "T";
+            for (int k = 0; k < TIMES_PER_DATE; k++) {
+                int time = (step * TIMES_PER_DATE + k) * 2503 % 10_000;
+                inputs.add(prefix + twoDigits(time / 100) + ":" + twoDigits(time % 100));
+            }
+            date = date.plusDays(1);
+            step++;
+        }
+        return inputs;
+    }
+
+    /**
+     * Random near misses of valid inputs, and random short strings.
+     */
+    private static List<String> malformed(SplittableRandom random, int count, boolean dateTime) {
+
+        List<String> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextLong(
+                    LocalDate.of(0, 1, 1).toEpochDay(), LocalDate.of(9999, 12, 31).toEpochDay() + 1));
+            StringBuilder text = new StringBuilder(date.format(DATE));
+            if (dateTime){
+                text.append('T').append(twoDigits(random.nextInt(24))).append(':').append(twoDigits(random.nextInt(60)));
+            }
+            int at = random.nextInt(text.length());
+            switch (random.nextInt(4)) {
+                case 0:
+                    text.setCharAt(at, noise(random));
+                    break;
+                case 1:
+                    text.insert(at, noise(random));
+                    break;
+                case 2:
+                    text.deleteCharAt(at);
+                    break;
+                default:
+                    text.setLength(0);
+                    int length = random.nextInt(21);
+                    for (int j = 0; j < length; j++) {
+                        text.append(noise(random));
+                    }
+            }
+            inputs.add(text.toString());
+        }
+        return inputs;
+    }
+
+    private static char noise(SplittableRandom random) {
+
+        return NOISE[random.nextInt(NOISE.length)];
+    }
+
+    /**
+     * @return the input's bytes, or null if it is not ASCII
+     */
+    private static byte[] toAscii(String input) {
+
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) > 0x7F){
+                return null;
+            }
+        }
+        return input.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String describe(long outcome) {
+
+        return outcome == INVALID ? "invalid" : outcome == VALID ? "valid" : "valid " + outcome;
+    }
+
+    private static String escape(String input) {
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c < 0x20 || c > 0x7E){
+                text.append(String.format("\\u%04x", (int) c));
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    private static String fourDigits(int value) {
+
+        return String.format("%04d", value);
+    }
+
+    private static String twoDigits(int value) {
+
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+
+    private static LongAdder[] newAdders(int count) {
+
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
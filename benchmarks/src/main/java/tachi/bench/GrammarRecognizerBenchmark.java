@@ -0,0 +1,117 @@
+package tachi.bench;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validating whole {@code shop flight fare} commands: the DFA compiled from
+ * tachi_grammer.txt (CommandValidator) against the chained approach of splitting
+ * on spaces and checking each token with its own validator.
+ *
+ * Partitions follow the SFC cases: VALID (OneWay and Return), SEMANTIC (length of
+ * stay out of range, same airports, date before today) and SYNTACTIC.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(GrammarRecognizerBenchmark.SIZE)
+public class GrammarRecognizerBenchmark {
+
+    static final int SIZE = 4;
+
+    private static final Set<String> CABINS = Set.of("P", "F", "J", "C", "S", "Y");
+
+    @Param({"VALID", "SEMANTIC", "SYNTACTIC"})
+    public String partition;
+
+    private String[] commands;
+    private Object validator;
+
+    @Setup
+    public void setup() {
+        switch (partition) {
+            case "VALID":
+                commands = new String[] {
+                    "shop flight fare PER SYD OneWay Y 2099-01-02",
+                    "shop flight fare MEL BNE Return 7 J 2099-06-30",
+                    "shop flight fare SYD PER Return 20 F 2099-12-31",
+                    "shop flight fare ADL DRW OneWay C 2099-02-28"};
+                break;
+            case "SEMANTIC":
+                commands = new String[] {
+                    "shop flight fare PER SYD Return 25 Y 2099-01-02",
+                    "shop flight fare PER PER OneWay Y 2099-01-02",
+                    "shop flight fare PER SYD OneWay Y 2000-01-01",
+                    "shop flight fare PER SYD OneWay Y 2099-02-30"};
+                break;
+            default:
+                commands = new String[] {
+                    "shop flight fare PE SYD OneWay Y 2099-01-02",
+                    "shop flight fare PER SYD Roundtrip Y 2099-01-02",
+                    "shop flight fare PER SYD OneWay Q 2099-01-02",
+                    "shop flight fare PER SYD OneWay Y 2099-13-02"};
+                break;
+        }
+        validator = Validators.newCommandValidator();
+    }
+
+    @Benchmark
+    public void compiledDfa(Blackhole bh) {
+        for (String command : commands) {
+            bh.consume(Validators.checkShopFlightFare(validator, command, 1));
+        }
+    }
+
+    @Benchmark
+    public void chainedFieldChecks(Blackhole bh) {
+        for (String command : commands) {
+            bh.consume(chained(command));
+        }
+    }
+
+    /**
+     * The per-field approach the DFA replaces: split, then one check per token.
+     */
+    private static boolean chained(String command) {
+
+        String[] tokens = command.split(" ");
+        if (tokens.length < 8 || !tokens[0].equals("shop") || !tokens[1].equals("flight")
+                || !tokens[2].equals("fare")){
+            return false;
+        }
+        if (!tokens[3].matches("[A-Z]{3}") || !tokens[4].matches("[A-Z]{3}") || tokens[3].equals(tokens[4])){
+            return false;
+        }
+        int next = 6;
+        if (tokens[5].equals("Return") && tokens.length == 9){
+            if (!tokens[6].matches("[0-9]{1,2}")){
+                return false;
+            }
+            int lengthOfStay = Integer.parseInt(tokens[6]);
+            if (lengthOfStay > 20){
+                return false;
+            }
+            next = 7;
+        } else if (!tokens[5].equals("OneWay") || tokens.length != 8){
+            return false;
+        }
+        return CABINS.contains(tokens[next]) && LegacyDateTimeChecker.isValidDate(tokens[next + 1]);
+    }
+}
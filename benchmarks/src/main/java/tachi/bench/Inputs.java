@@ -0,0 +1,89 @@
+package tachi.bench;
+
+import java.time.LocalDate;
+
+/**
+ * Benchmark input sets, one per partition used in the phase 2 ISP analysis
+ * (see SegmentSubcommandTest and project-phase2-report.md, Task 5.2).
+ *
+ * Every set has {@link #SIZE} entries so benchmarks can use a fixed
+ * {@code @OperationsPerInvocation}.
+ */
+final class Inputs {
+
+    static final int SIZE = 8;
+
+    private Inputs() {
+    }
+
+    /**
+     * Date strings (YYYY-MM-DD) for a partition.
+     *
+     * @param partition VALID, BOUNDARY or INVALID
+     */
+    static String[] dates(String partition) {
+        LocalDate today = today();
+        switch (partition) {
+            case "VALID":
+                // > today, different months and years
+                return new String[] {
+                    "2099-12-31", "2099-01-01", "2098-06-15", "2097-11-30",
+                    today.plusDays(1).toString(), today.plusDays(30).toString(),
+                    today.plusYears(1).toString(), "2050-07-04"
+                };
+            case "BOUNDARY":
+                // = today, < today, leap day, last day of month/year
+                return new String[] {
+                    today.toString(), today.minusDays(1).toString(), "2096-02-29", "2097-02-28",
+                    "2099-12-31", "2099-01-01", "2000-01-01", "9999-12-31"
+                };
+            case "INVALID":
+                // wrong separators, non-digit, month/day range, non-leap Feb 29, wrong length
+                return new String[] {
+                    "2025/12/31", "20a9-12-31", "2099-13-01", "2099-00-10",
+                    "2099-04-31", "2025-02-29", "2099-12-3", "2099-12-31 "
+                };
+            default:
+                throw new IllegalArgumentException("unknown partition: " + partition);
+        }
+    }
+
+    /**
+     * Datetime strings (YYYY-MM-DDTHH:MM) for a partition.
+     *
+     * @param partition VALID, BOUNDARY or INVALID
+     */
+    static String[] dateTimes(String partition) {
+        LocalDate today = today();
+        switch (partition) {
+            case "VALID":
+                return new String[] {
+                    "2099-12-31T14:30", "2099-01-01T09:05", "2098-06-15T18:45", "2097-11-30T06:00",
+                    today.plusDays(1) + "T12:00", today.plusDays(30) + "T07:15",
+                    today.plusYears(1) + "T21:40", "2050-07-04T10:10"
+                };
+            case "BOUNDARY":
+                // = today, < today, 00:00 and 23:59, date-only form
+                return new String[] {
+                    today + "T00:00", today.minusDays(1) + "T23:59", "2096-02-29T23:59", "2099-12-31T00:00",
+                    "2099-12-31", today.toString(), "2000-01-01T10:00", "9999-12-31T23:59"
+                };
+            case "INVALID":
+                // seconds, missing T, wrong separators, too short, non-digit time, 24:00, 23:60, bad date
+                return new String[] {
+                    "2099-12-31T14:30:33", "2099-09-03 13:45", "2099/09/03T13:45", "2099-09-03T13",
+                    "2099-09-03T12:4a", "2099-09-03T24:00", "2099-09-03T23:60", "2025-02-29T10:00"
+                };
+            default:
+                throw new IllegalArgumentException("unknown partition: " + partition);
+        }
+    }
+
+    /**
+     * Today's date as the validator sees it, so the = today / < today cases stay on the boundary.
+     */
+    static LocalDate today() {
+        int key = Validators.todayKey();
+        return LocalDate.of(key / 10000, key / 100 % 100, key % 100);
+    }
+}
@@ -0,0 +1,83 @@
+package tachi.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of constructing a SegmentSubcommand for the SS-TC1 … SS-TC6 partitions.
+ *
+ * Needs the unit's Tachi command JAR at run time:
+ * {@code java -cp benchmarks/target/benchmarks.jar:/path/to/tachi.jar org.openjdk.jmh.Main SegmentSubcommand}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SegmentSubcommandBenchmark {
+
+    /**
+     * SS-TC1 baseline, SS-TC1b people = 10, SS-TC2 same airports, SS-TC3 date = today,
+     * SS-TC4 people = 11, SS-TC5 bad IATA, SS-TC6 bad flight number.
+     */
+    @Param({"SS-TC1", "SS-TC1b", "SS-TC2", "SS-TC3", "SS-TC4", "SS-TC5", "SS-TC6"})
+    public String testCase;
+
+    private MethodHandle constructor;
+    private String origin;
+    private String destination;
+    private String flightNumber;
+    private LocalDate date;
+    private Object cabin;
+    private int people;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setup() {
+        Class cabinType = Validators.classForName("CabinType");
+        constructor = Validators.findConstructor("SegmentSubcommand", MethodType.methodType(void.class,
+                String.class, String.class, String.class, LocalDate.class, cabinType, int.class));
+
+        origin = "PER";
+        destination = "SYD";
+        flightNumber = "QF123";
+        date = LocalDate.of(2099, 1, 1);
+        cabin = Enum.valueOf(cabinType, "EconomyClass");
+        people = 1;
+
+        switch (testCase) {
+            case "SS-TC1b": people = 10; break;
+            case "SS-TC2": destination = origin; break;
+            case "SS-TC3": date = Inputs.today(); break;
+            case "SS-TC4": people = 11; break;
+            case "SS-TC5": origin = "P3R"; break;
+            case "SS-TC6": flightNumber = "QF"; break;
+            default: break;
+        }
+    }
+
+    @Benchmark
+    public Object construct() {
+        try {
+            return constructor.invoke(origin, destination, flightNumber, date, cabin, people);
+        } catch (Throwable t) {
+            // SyntacticError / SemanticError are the expected outcome for the invalid partitions
+            return t;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package tachi.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to first validation in a fresh JVM: loading and initialising the validator
+ * classes plus one {@code shop flight fare} or {@code air book request} check.
+ *
+ * Every fork is a new JVM and measures a single call, so the score is the cold-start
+ * cost a short-lived CLI or serverless invocation pays. {@code compileGrammar=true}
+ * compiles the DFAs from tachi_grammer.txt at class initialisation, as before the
+ * tables were precompiled (see PrecompiledGrammar).
+ *
+ * The validator classes are reached by plain reflection, not through Validators,
+ * whose static handles would initialise every validator class up front.
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar StartupBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Param({"false", "true"})
+    public String compileGrammar;
+
+    @Setup
+    public void setup() {
+        // read when CommandValidator is initialised, i.e. inside the measured call
+        System.setProperty("tachi.grammar.compile", compileGrammar);
+    }
+
+    @Benchmark
+    public Object firstShopFlightFare() throws ReflectiveOperationException {
+        Class<?> validator = Class.forName("CommandValidator");
+        return validator.getMethod("checkShopFlightFare", CharSequence.class, long.class)
+                .invoke(validator.getConstructor().newInstance(), "shop flight fare PER SYD OneWay Y 2099-01-02", 1L);
+    }
+
+    @Benchmark
+    public Object firstAirBookRequest() throws ReflectiveOperationException {
+        Class<?> validator = Class.forName("AirBookRequestValidator");
+        return validator.getMethod("validate", CharSequence.class)
+                .invoke(validator.getConstructor().newInstance(),
+                        "air book request\nseg PER SYD QF123 2099-01-01 Y 1\nseg SYD PER QF124 2099-01-08 Y 1\nEOC\n");
+    }
+}
@@ -0,0 +1,119 @@
+package tachi.bench;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shared "today" state under many reader threads.
+ *
+ * {@code today} and {@code isValidDate} read one TodayClock shared by all benchmark
+ * threads. Run them with {@code -t 1}, {@code -t 2}, ... {@code -t max}: as the read path
+ * is one volatile load and no writes, ops/s should grow linearly with the thread count
+ * (until hyper-threads share a core).
+ *
+ * {@code rollover} runs three readers against a writer that moves a shared clock one
+ * minute on per call, so the readers cross a simulated midnight every 1440 writer calls
+ * and race the re-computation of the day.
+ *
+ * <pre>
+ * for t in 1 2 4 8; do java -jar benchmarks/target/benchmarks.jar TodayClockBenchmark -t $t; done
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodayClockBenchmark {
+
+    private static final long MINUTE = 60_000;
+
+    /**
+     * Clock moved on by the rollover writer.
+     */
+    private static final class SteppedClock extends Clock {
+
+        volatile long millis;
+
+        SteppedClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private Object systemClock;
+    private SteppedClock stepped;
+    private Object steppedClock;
+
+    @Setup
+    public void setup() {
+        systemClock = Validators.newTodayClock(Clock.systemUTC());
+        stepped = new SteppedClock(Instant.parse("2030-01-01T00:00:00Z").toEpochMilli());
+        steppedClock = Validators.newTodayClock(stepped);
+    }
+
+    @Benchmark
+    public int today() {
+        return Validators.today(systemClock);
+    }
+
+    /**
+     * Full date check through DateTimeChecker's shared clock.
+     */
+    @Benchmark
+    public boolean isValidDate() {
+        return Validators.isValidDate("2099-12-31");
+    }
+
+    @Benchmark
+    @Group("rollover")
+    @GroupThreads(3)
+    public int rolloverRead() {
+        return Validators.today(steppedClock);
+    }
+
+    @Benchmark
+    @Group("rollover")
+    @GroupThreads(1)
+    public int rolloverAdvance() {
+        // single writer: the volatile read-modify-write is not contended
+        stepped.millis = stepped.millis + MINUTE;
+        return Validators.today(steppedClock);
+    }
+}
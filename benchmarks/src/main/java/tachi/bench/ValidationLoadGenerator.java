@@ -0,0 +1,171 @@
+package tachi.bench;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Loopback load generator for ValidationServer: throughput and latency percentiles.
+ *
+ * Each connection has a sender thread and a reader thread. The sender keeps up to
+ * {@code window} commands in flight (pipelining); the reader times each reply against
+ * the send time of its command. Commands cycle through valid, semantic and syntactic
+ * shop commands and a valid two-segment air book request.
+ *
+ * Usage (start {@code java -cp validator/target/classes ValidationServer 7070} first):
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar tachi.bench.ValidationLoadGenerator \
+ *     7070 [connections=4] [commands per connection=200000] [window=64]
+ * </pre>
+ * Use {@code unix:/path/to/socket} instead of the port for a Unix-domain socket.
+ */
+public final class ValidationLoadGenerator {
+
+    private static final byte[][] COMMANDS = {
+        ascii("shop flight fare PER SYD OneWay Y 2099-01-02\n"),
+        ascii("air book request\nseg PER SYD QF123 2099-01-01 Y 1\nseg SYD PER QF124 2099-01-08 Y 1\nEOC\n"),
+        ascii("shop flight fare PER SYD Return 25 Y 2099-01-02\n"),
+        ascii("shop flight fare PE SYD OneWay Y 2099-01-02\n"),
+    };
+
+    private ValidationLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        if (args.length < 1){
+            System.err.println("usage: ValidationLoadGenerator <port> | unix:<path> [connections] [commands] [window]");
+            System.exit(2);
+        }
+        SocketAddress address = args[0].startsWith("unix:")
+                ? UnixDomainSocketAddress.of(args[0].substring("unix:".length()))
+                : new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0]));
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int commands = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+        int window = args.length > 3 ? Integer.parseInt(args[3]) : 64;
+
+        Client[] clients = new Client[connections];
+        long start = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            clients[i] = new Client(address, commands, window);
+            clients[i].start();
+        }
+        long[] latencies = new long[connections * commands];
+        for (int i = 0; i < connections; i++) {
+            clients[i].join();
+            System.arraycopy(clients[i].latencies, 0, latencies, i * commands, commands);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        System.out.printf("connections=%d commands=%d window=%d%n", connections, latencies.length, window);
+        System.out.printf("throughput: %.0f commands/s%n", latencies.length * 1e9 / elapsed);
+        System.out.printf("latency us: p50=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                percentile(latencies, 0.999), latencies[latencies.length - 1] / 1e3);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e3;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * One connection: a sender and a reader sharing the send times.
+     */
+    private static final class Client {
+
+        private final SocketChannel channel;
+        private final int commands;
+        private final Semaphore inFlight;
+        private final AtomicLongArray sentAt;    // written by the sender, read by the reader
+        private final long[] latencies;
+        private final Thread sender;
+        private final Thread reader;
+        private volatile Exception failure;
+
+        Client(SocketAddress address, int commands, int window) throws IOException {
+
+            this.channel = address instanceof UnixDomainSocketAddress
+                    ? SocketChannel.open(StandardProtocolFamily.UNIX) : SocketChannel.open();
+            this.channel.connect(address);
+            this.commands = commands;
+            this.inFlight = new Semaphore(window);
+            this.sentAt = new AtomicLongArray(commands);
+            this.latencies = new long[commands];
+            // plain channel reads and writes: the Channels stream adapters would make the
+            // sender and reader share the channel's blocking lock
+            this.sender = new Thread(this::send, "load-sender");
+            this.reader = new Thread(this::read, "load-reader");
+        }
+
+        void start() {
+
+            reader.start();
+            sender.start();
+        }
+
+        void join() throws Exception {
+
+            sender.join();
+            reader.join();
+            channel.close();
+            if (failure != null){
+                throw failure;
+            }
+        }
+
+        private void send() {
+
+            try {
+                for (int i = 0; i < commands; i++) {
+                    inFlight.acquire();
+                    sentAt.set(i, System.nanoTime());
+                    ByteBuffer command = ByteBuffer.wrap(COMMANDS[i % COMMANDS.length]);
+                    while (command.hasRemaining()) {
+                        channel.write(command);
+                    }
+                }
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+
+        private void read() {
+
+            try {
+                ByteBuffer in = ByteBuffer.allocate(16 * 1024);
+                int replies = 0;
+                while (replies < commands) {
+                    in.clear();
+                    if (channel.read(in) < 0){
+                        throw new IOException("server closed the connection after " + replies + " replies");
+                    }
+                    // one reply line per command
+                    for (int i = 0; i < in.position(); i++) {
+                        if (in.get(i) == '\n'){
+                            latencies[replies] = System.nanoTime() - sentAt.get(replies);
+                            replies++;
+                            inFlight.release();
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package tachi.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Clock;
+import java.util.BitSet;
+
+/**
+ * Bridge from the benchmarks to the validator classes.
+ *
+ * The validator lives in the default package (as the unit's Tachi JAR does), and Java
+ * does not allow a named package to refer to it. JMH in turn refuses benchmarks in the
+ * default package. The calls therefore go through static final MethodHandles, which the
+ * JIT constant-folds and inlines, so they cost the same as a direct call once warmed up.
+ */
+final class Validators {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private static final MethodHandle IS_VALID_DATE = findStatic("DateTimeChecker", "isValidDate",
+            MethodType.methodType(boolean.class, String.class));
+    private static final MethodHandle IS_VALID_DATE_TIME = findStatic("DateTimeChecker", "isValidDateTime",
+            MethodType.methodType(boolean.class, String.class));
+
+    private static final MethodHandle VALIDATE_DATES = findStatic("DateTimeChecker", "validateDates",
+            MethodType.methodType(BitSet.class, CharSequence[].class));
+    private static final MethodHandle VALIDATE_PACKED_DATES = findStatic("DateTimeChecker", "validateDates",
+            MethodType.methodType(BitSet.class, byte[].class, int.class, int.class, int.class));
+
+    private static final MethodHandle GET_TODAY_CLOCK = findStatic("DateTimeChecker", "getTodayClock",
+            MethodType.methodType(classForName("TodayClock")));
+    private static final MethodHandle TODAY = findVirtual("TodayClock", "today",
+            MethodType.methodType(int.class));
+
+    private static final MethodHandle NEW_PARSED = findConstructor("DateTimeChecker$Parsed",
+            MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+    private static final MethodHandle VALIDATE_DATE_TIME = findStatic("DateTimeChecker", "validateDateTime",
+            MethodType.methodType(classForName("DateTimeResult"), CharSequence.class, classForName("DateTimeChecker$Parsed")))
+            .asType(MethodType.methodType(Object.class, CharSequence.class, Object.class));
+
+    private static final MethodHandle IS_VALID_DATE_BYTES = findStatic("DateTimeChecker", "isValidDate",
+            MethodType.methodType(boolean.class, byte[].class, int.class, int.class));
+    private static final MethodHandle IS_VALID_DATE_TIME_BYTES = findStatic("DateTimeChecker", "isValidDateTime",
+            MethodType.methodType(boolean.class, byte[].class, int.class, int.class));
+    private static final MethodHandle VALIDATE_DATE = findStatic("DateTimeChecker", "validateDate",
+            MethodType.methodType(classForName("DateTimeResult"), CharSequence.class, classForName("DateTimeChecker$Parsed")))
+            .asType(MethodType.methodType(Object.class, CharSequence.class, Object.class));
+    private static final MethodHandle RESULT_IS_VALID = findVirtual("DateTimeResult", "isValid",
+            MethodType.methodType(boolean.class)).asType(MethodType.methodType(boolean.class, Object.class));
+    private static final MethodHandle GET_EPOCH_DAY = findVirtual("DateTimeChecker$Parsed", "getEpochDay",
+            MethodType.methodType(int.class)).asType(MethodType.methodType(int.class, Object.class));
+    private static final MethodHandle GET_EPOCH_MINUTE = findVirtual("DateTimeChecker$Parsed", "getEpochMinute",
+            MethodType.methodType(long.class)).asType(MethodType.methodType(long.class, Object.class));
+
+    private static final MethodHandle FIXED_CLOCK = findStatic("TodayClock", "fixed",
+            MethodType.methodType(classForName("TodayClock"), int.class, int.class, int.class))
+            .asType(MethodType.methodType(Object.class, int.class, int.class, int.class));
+    private static final MethodHandle TODAY_CLOCK_OF = findStatic("TodayClock", "of",
+            MethodType.methodType(classForName("TodayClock"), Clock.class))
+            .asType(MethodType.methodType(Object.class, Clock.class));
+    private static final MethodHandle TODAY_OF = TODAY.asType(MethodType.methodType(int.class, Object.class));
+    private static final MethodHandle SET_TODAY_CLOCK = findStatic("DateTimeChecker", "setTodayClock",
+            MethodType.methodType(void.class, classForName("TodayClock")))
+            .asType(MethodType.methodType(void.class, Object.class));
+
+    private static final MethodHandle NEW_COMMAND_VALIDATOR = findConstructor("CommandValidator",
+            MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+    private static final MethodHandle CHECK_SHOP_FLIGHT_FARE = findVirtual("CommandValidator", "checkShopFlightFare",
+            MethodType.methodType(classForName("CommandError"), CharSequence.class, long.class))
+            .asType(MethodType.methodType(Object.class, Object.class, CharSequence.class, long.class));
+
+    private Validators() {
+    }
+
+    static boolean isValidDate(String input) {
+        try {
+            return (boolean) IS_VALID_DATE.invokeExact(input);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean isValidDateTime(String input) {
+        try {
+            return (boolean) IS_VALID_DATE_TIME.invokeExact(input);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static BitSet validateDates(CharSequence[] inputs) {
+        try {
+            return (BitSet) VALIDATE_DATES.invokeExact(inputs);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static BitSet validateDates(byte[] records, int offset, int stride, int count) {
+        try {
+            return (BitSet) VALIDATE_PACKED_DATES.invokeExact(records, offset, stride, count);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean isValidDate(byte[] bytes, int offset, int length) {
+        try {
+            return (boolean) IS_VALID_DATE_BYTES.invokeExact(bytes, offset, length);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean isValidDateTime(byte[] bytes, int offset, int length) {
+        try {
+            return (boolean) IS_VALID_DATE_TIME_BYTES.invokeExact(bytes, offset, length);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return a new DateTimeChecker.Parsed (typed as Object, see the class comment)
+     */
+    static Object newParsed() {
+        try {
+            return (Object) NEW_PARSED.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return the DateTimeResult of DateTimeChecker.validateDateTime
+     */
+    static Object validateDateTime(CharSequence input, Object parsed) {
+        try {
+            return (Object) VALIDATE_DATE_TIME.invokeExact(input, parsed);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return the DateTimeResult of DateTimeChecker.validateDate
+     */
+    static Object validateDate(CharSequence input, Object parsed) {
+        try {
+            return (Object) VALIDATE_DATE.invokeExact(input, parsed);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return DateTimeResult.isValid() of a result from validateDate / validateDateTime
+     */
+    static boolean isValid(Object result) {
+        try {
+            return (boolean) RESULT_IS_VALID.invokeExact(result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static int getEpochDay(Object parsed) {
+        try {
+            return (int) GET_EPOCH_DAY.invokeExact(parsed);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static long getEpochMinute(Object parsed) {
+        try {
+            return (long) GET_EPOCH_MINUTE.invokeExact(parsed);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return TodayClock.of(clock) (typed as Object, see the class comment)
+     */
+    static Object newTodayClock(Clock clock) {
+        try {
+            return (Object) TODAY_CLOCK_OF.invokeExact(clock);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return today() of a TodayClock from newTodayClock (YYYYMMDD key)
+     */
+    static int today(Object todayClock) {
+        try {
+            return (int) TODAY_OF.invokeExact(todayClock);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Pin DateTimeChecker's "today" to a fixed date (TodayClock.fixed).
+     */
+    static void setFixedToday(int year, int month, int day) {
+        try {
+            SET_TODAY_CLOCK.invokeExact((Object) FIXED_CLOCK.invokeExact(year, month, day));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return a new CommandValidator (typed as Object, see the class comment)
+     */
+    static Object newCommandValidator() {
+        try {
+            return (Object) NEW_COMMAND_VALIDATOR.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return null if the command is valid, otherwise its CommandError
+     */
+    static Object checkShopFlightFare(Object validator, CharSequence command, long lineNumber) {
+        try {
+            return (Object) CHECK_SHOP_FLIGHT_FARE.invokeExact(validator, command, lineNumber);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Today's date as DateTimeChecker sees it (YYYYMMDD key).
+     */
+    static int todayKey() {
+        try {
+            return (int) TODAY.invoke(GET_TODAY_CLOCK.invoke());
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static Class<?> classForName(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("class " + className + " is not on the classpath", e);
+        }
+    }
+
+    /**
+     * Look up a public static method of a default-package class.
+     */
+    static MethodHandle findStatic(String className, String name, MethodType type) {
+        try {
+            return LOOKUP.findStatic(classForName(className), name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("cannot find " + className + "." + name + type, e);
+        }
+    }
+
+    /**
+     * Look up a public instance method of a default-package class.
+     */
+    static MethodHandle findVirtual(String className, String name, MethodType type) {
+        try {
+            return LOOKUP.findVirtual(classForName(className), name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("cannot find " + className + "." + name + type, e);
+        }
+    }
+
+    /**
+     * Look up a public constructor of a default-package class.
+     */
+    static MethodHandle findConstructor(String className, MethodType type) {
+        try {
+            return LOOKUP.findConstructor(classForName(className), type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("cannot find constructor " + className + type, e);
+        }
+    }
+
+    static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException(t);
+    }
+}
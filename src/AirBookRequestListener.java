@@ -0,0 +1,40 @@
+/**
+ * Receives the results of an {@link AirBookRequestParser} as the input arrives.
+ *
+ * Segments are delivered as soon as their line ends. If the request later
+ * turns out to be invalid, {@link #onError} is called instead of
+ * {@link #onRequestEnd}, and the segments already delivered for that
+ * request should be discarded.
+ */
+public interface AirBookRequestListener {
+
+    /**
+     * An {@code air book request} header line was read.
+     *
+     * @param line 1-based line number of the header
+     */
+    void onRequestStart(long line);
+
+    /**
+     * A {@code seg} line was read and is syntactically and semantically valid.
+     *
+     * @param segment the parsed segment
+     */
+    void onSegment(SegmentLine segment);
+
+    /**
+     * The {@code EOC} line closed a valid request.
+     *
+     * @param line         1-based line number of the EOC line
+     * @param segmentCount number of segments in the request
+     */
+    void onRequestEnd(long line, int segmentCount);
+
+    /**
+     * The current request is invalid. The parser skips to the next {@code EOC}
+     * line and then expects a new request.
+     *
+     * @param error what went wrong and where
+     */
+    void onError(CommandError error);
+}
@@ -0,0 +1,259 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Incremental, push-based parser for {@code air book request} commands
+ * (see {@code <air_book_request>} in tachi_grammer.txt):
+ *
+ * <pre>
+ * air book request
+ * seg PER SYD QF123 2099-01-01 Y 1
+ * seg SYD PER QF124 2099-01-08 Y 1
+ * EOC
+ * </pre>
+ *
+ * Input is fed in chunks of any size (ASCII bytes or characters). Each seg line is
+ * validated when its newline arrives, by {@link CommandValidator} (one DFA pass compiled
+ * from the grammar), and passed to the listener straight away, so a request is never
+ * buffered as a whole. Memory use is one line buffer of
+ * {@link #MAX_LINE_LENGTH} bytes, whatever the number of segments.
+ *
+ * Error classes follow the phase 2 error model: input that does not match the grammar
+ * is SYNTACTIC; well-formed input that breaks a rule (same origin and destination,
+ * date not a real date or before today, people outside 1–10) is SEMANTIC.
+ * After an error the parser skips to the next EOC line and expects a new request.
+ *
+ * Not thread-safe: use one parser per input stream.
+ */
+public final class AirBookRequestParser {
+
+    /**
+     * Longest line kept; the longest valid seg line is 34 characters
+     * ({@code seg PER SYD QF1234 2099-01-01 Y 10}).
+     */
+    public static final int MAX_LINE_LENGTH = 64;
+
+    private static final byte[] HEADER = "air book request".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EOC = "EOC".getBytes(StandardCharsets.US_ASCII);
+
+    // Stored in place of any non-ASCII character so it never matches the grammar
+    private static final byte NON_ASCII = (byte) 0x80;
+
+    private enum State {
+        EXPECT_HEADER,
+        EXPECT_FIRST_SEGMENT,
+        EXPECT_SEGMENT_OR_EOC,
+        SKIP_TO_EOC
+    }
+
+    private final AirBookRequestListener listener;
+    private final CommandValidator validator = new CommandValidator();
+
+    private final byte[] line = new byte[MAX_LINE_LENGTH];
+    private int lineLength;
+    private boolean lineTooLong;
+    private long lineNumber = 1;
+
+    private State state = State.EXPECT_HEADER;
+    private int segmentCount;
+
+    public AirBookRequestParser(AirBookRequestListener listener) {
+
+        if (listener == null){
+            throw new IllegalArgumentException("listener must not be null");
+        }
+        this.listener = listener;
+    }
+
+    /**
+     * Feed the next chunk of ASCII input.
+     *
+     * @param chunk  buffer holding the input
+     * @param offset index of the first byte to read
+     * @param length number of bytes to read
+     */
+    public void feed(byte[] chunk, int offset, int length) {
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            accept(chunk[i]);
+        }
+    }
+
+    /**
+     * Feed the next chunk of ASCII input from a buffer (e.g. a memory-mapped file).
+     * Uses absolute reads, so the buffer's position is not changed.
+     *
+     * @param chunk  buffer holding the input
+     * @param offset index of the first byte to read
+     * @param length number of bytes to read
+     */
+    public void feed(ByteBuffer chunk, int offset, int length) {
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            accept(chunk.get(i));
+        }
+    }
+
+    /**
+     * Feed the next chunk of input as characters.
+     *
+     * @param chunk input characters
+     */
+    public void feed(CharSequence chunk) {
+
+        for (int i = 0, end = chunk.length(); i < end; i++) {
+            char c = chunk.charAt(i);
+            accept(c < 0x80 ? (byte) c : NON_ASCII);
+        }
+    }
+
+    /**
+     * Signal the end of the input. Reports an error if a request is left open
+     * or the last line has no newline. The parser can then be fed a new input.
+     */
+    public void finish() {
+
+        if (lineLength > 0 || lineTooLong){
+            listener.onError(new CommandError(CommandError.Kind.SYNTACTIC, lineNumber,
+                    Math.min(lineLength, MAX_LINE_LENGTH) + 1, "missing newline at end of input"));
+        } else if (state == State.EXPECT_FIRST_SEGMENT || state == State.EXPECT_SEGMENT_OR_EOC){
+            listener.onError(new CommandError(CommandError.Kind.SYNTACTIC, lineNumber, 1,
+                    "input ended before EOC"));
+        }
+        state = State.EXPECT_HEADER;
+        lineLength = 0;
+        lineTooLong = false;
+    }
+
+    /**
+     * @return 1-based number of the line currently being read
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Set the number of the next line, for callers that take some lines of the
+     * input out before feeding the rest. Call it only between lines.
+     *
+     * @param lineNumber 1-based number of the next line fed
+     */
+    public void setLineNumber(long lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * @return true if the parser is between requests (the next line must be a header)
+     */
+    public boolean isBetweenRequests() {
+        return state == State.EXPECT_HEADER;
+    }
+
+    private void accept(byte b) {
+
+        if (b == '\n'){
+            endOfLine();
+            lineNumber++;
+            lineLength = 0;
+            lineTooLong = false;
+        } else if (lineLength < MAX_LINE_LENGTH){
+            line[lineLength++] = b;
+        } else {
+            lineTooLong = true;
+        }
+    }
+
+    private void endOfLine() {
+
+        if (state == State.SKIP_TO_EOC){
+            if (!lineTooLong && isLine(EOC)){
+                state = State.EXPECT_HEADER;
+            }
+            return;
+        }
+
+        if (lineTooLong){
+            error(CommandError.Kind.SYNTACTIC, MAX_LINE_LENGTH + 1, "line too long");
+            return;
+        }
+
+        switch (state) {
+            case EXPECT_HEADER:
+                if (isLine(HEADER)){
+                    segmentCount = 0;
+                    state = State.EXPECT_FIRST_SEGMENT;
+                    listener.onRequestStart(lineNumber);
+                } else {
+                    error(CommandError.Kind.SYNTACTIC, mismatchColumn(HEADER), "expected 'air book request'");
+                }
+                break;
+
+            case EXPECT_FIRST_SEGMENT:
+                if (isLine(EOC)){
+                    // EOC consumed: the next line starts a new request
+                    listener.onError(new CommandError(CommandError.Kind.SYNTACTIC, lineNumber, 1,
+                            "expected at least one seg line before EOC"));
+                    state = State.EXPECT_HEADER;
+                } else {
+                    segmentLine();
+                }
+                break;
+
+            case EXPECT_SEGMENT_OR_EOC:
+                if (isLine(EOC)){
+                    state = State.EXPECT_HEADER;
+                    listener.onRequestEnd(lineNumber, segmentCount);
+                } else {
+                    segmentLine();
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Validate the current line as a seg line and emit it, or report the first error.
+     */
+    private void segmentLine() {
+
+        CommandError error = validator.checkSegLine(line, 0, lineLength, lineNumber);
+        if (error != null){
+            listener.onError(error);
+            state = State.SKIP_TO_EOC;
+            return;
+        }
+        segmentCount++;
+        state = State.EXPECT_SEGMENT_OR_EOC;
+        listener.onSegment(validator.toSegmentLine(line, 0, lineNumber));
+    }
+
+    private void error(CommandError.Kind kind, int column, String message) {
+
+        listener.onError(new CommandError(kind, lineNumber, column, message));
+        state = State.SKIP_TO_EOC;
+    }
+
+    /**
+     * Utility: check the current line is exactly the given text.
+     */
+    private boolean isLine(byte[] text) {
+
+        return lineLength == text.length && mismatchColumn(text) > text.length;
+    }
+
+    /**
+     * Utility: 1-based column of the first character that differs from text,
+     * or text.length + 1 if the line starts with text.
+     */
+    private int mismatchColumn(byte[] text) {
+
+        for (int i = 0; i < text.length; i++) {
+            if (i >= lineLength || line[i] != text[i]){
+                return i + 1;
+            }
+        }
+        return text.length + 1;
+    }
+}
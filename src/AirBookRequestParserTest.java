@@ -0,0 +1,157 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AirBookRequestParserTest {
+
+    /**
+     * Listener that records every event as a short string.
+     */
+    private static final class Recorder implements AirBookRequestListener {
+
+        final List<String> events = new ArrayList<>();
+        final List<SegmentLine> segments = new ArrayList<>();
+        final List<CommandError> errors = new ArrayList<>();
+
+        @Override
+        public void onRequestStart(long line) {
+            events.add("start@" + line);
+        }
+
+        @Override
+        public void onSegment(SegmentLine segment) {
+            segments.add(segment);
+            events.add("seg@" + segment.getLine());
+        }
+
+        @Override
+        public void onRequestEnd(long line, int segmentCount) {
+            events.add("end@" + line + "x" + segmentCount);
+        }
+
+        @Override
+        public void onError(CommandError error) {
+            errors.add(error);
+            events.add(error.getKind() + "@" + error.getLine() + ":" + error.getColumn());
+        }
+    }
+
+    private Recorder recorder;
+    private AirBookRequestParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        // fixed "today" so the date rules are deterministic
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+        recorder = new Recorder();
+        parser = new AirBookRequestParser(recorder);
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    @Test
+    public void testValidRequest_FedOneByteAtATime() {
+        // Arrange
+        byte[] input = ("air book request\n"
+                + "seg PER SYD QF123 2099-01-01 Y 1\n"
+                + "seg SYD PER VA6789 2099-01-08 J 10\n"
+                + "EOC\n").getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        for (int i = 0; i < input.length; i++) {
+            parser.feed(input, i, 1);
+        }
+        parser.finish();
+
+        // Assert
+        assertEquals(List.of("start@1", "seg@2", "seg@3", "end@4x2"), recorder.events);
+        SegmentLine first = recorder.segments.get(0);
+        assertEquals("PER", first.getOrigin());
+        assertEquals("SYD", first.getDestination());
+        assertEquals("QF123", first.getFlightNumber());
+        assertEquals(LocalDate.of(2099, 1, 1), first.getDepartureDate());
+        assertEquals('Y', first.getCabinCode());
+        assertEquals(1, first.getNumPeople());
+        assertEquals(10, recorder.segments.get(1).getNumPeople());
+        // codes are packed IDs; the same airport compares equal across segments
+        assertEquals(first.getOriginId(), recorder.segments.get(1).getDestinationId());
+        assertSame(first.getOrigin(), recorder.segments.get(1).getDestination());
+    }
+
+    @Test
+    public void testSegmentEmittedWhenItsLineEnds() {
+        // the segment is delivered before the rest of the request arrives
+        parser.feed("air book request\nseg PER SYD QF123 2099-01-01 Y 1");
+        assertTrue(recorder.segments.isEmpty());
+        parser.feed("\n");
+        assertEquals(1, recorder.segments.size());
+    }
+
+    @Test
+    public void testSyntacticError_BadIata_ReportsColumn() {
+        // "P3R" starts at column 5 of line 2
+        parser.feed("air book request\nseg P3R SYD QF123 2099-01-01 Y 1\nEOC\n");
+        assertEquals(List.of("start@1", "SYNTACTIC@2:5"), recorder.events);
+    }
+
+    @Test
+    public void testSyntacticError_BadFlightNumberAndCabin() {
+        parser.feed("air book request\nseg PER SYD QF 2099-01-01 Y 1\nEOC\n");
+        parser.feed("air book request\nseg PER SYD QF123 2099-01-01 X 1\nEOC\n");
+        assertEquals(List.of("start@1", "SYNTACTIC@2:13", "start@4", "SYNTACTIC@5:30"), recorder.events);
+    }
+
+    @Test
+    public void testSemanticErrors() {
+        // same airports, date before today, people out of range
+        parser.feed("air book request\nseg PER PER QF123 2099-01-01 Y 1\nEOC\n");
+        parser.feed("air book request\nseg PER SYD QF123 2029-12-31 Y 1\nEOC\n");
+        parser.feed("air book request\nseg PER SYD QF123 2099-02-29 Y 1\nEOC\n");
+        parser.feed("air book request\nseg PER SYD QF123 2099-01-01 Y 11\nEOC\n");
+        List<CommandError> errors = recorder.errors;
+        assertEquals(4, errors.size());
+        for (CommandError error : errors) {
+            assertEquals(CommandError.Kind.SEMANTIC, error.getKind(), error.toString());
+        }
+        assertEquals(9, errors.get(0).getColumn());
+        assertEquals(19, errors.get(1).getColumn());
+        assertEquals(32, errors.get(3).getColumn());
+    }
+
+    @Test
+    public void testRecoversAfterErrorAtNextEoc() {
+        // the bad segment's remaining lines are skipped; the next request parses normally
+        parser.feed("air book request\nseg PER SYD QF123 2099-13-01 Y 1\n"
+                + "seg PER SYD QF123 2099-01-01 Y 1\nEOC\n"
+                + "air book request\nseg MEL SYD VA678 2099-01-01 C 2\nEOC\n");
+        assertEquals(List.of("start@1", "SYNTACTIC@2:19", "start@5", "seg@6", "end@7x1"), recorder.events);
+    }
+
+    @Test
+    public void testStructuralErrors() {
+        // no seg lines, then an unfinished request at end of input
+        parser.feed("air book request\nEOC\nair book request\nseg PER SYD QF123 2099-01-01 Y 1\n");
+        parser.finish();
+        assertEquals(List.of("start@1", "SYNTACTIC@2:1", "start@3", "seg@4", "SYNTACTIC@5:1"), recorder.events);
+    }
+
+    @Test
+    public void testLongLine_BoundedBuffer() {
+        // a line longer than the buffer is rejected without growing memory
+        StringBuilder longLine = new StringBuilder("seg ");
+        for (int i = 0; i < 10_000; i++) {
+            longLine.append('A');
+        }
+        parser.feed("air book request\n" + longLine + "\nEOC\n");
+        assertEquals(1, recorder.errors.size());
+        assertEquals(AirBookRequestParser.MAX_LINE_LENGTH + 1, recorder.errors.get(0).getColumn());
+    }
+}
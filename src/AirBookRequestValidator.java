@@ -0,0 +1,313 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Validates one whole {@code air book request}, checking its seg lines in parallel
+ * when there are many of them (group bookings, charter manifests).
+ *
+ * The request is split into lines once; ranges of seg lines are then validated by
+ * fork-join tasks, each with its own {@link CommandValidator}. Results are joined in
+ * line order, and the first error is the one on the lowest line, so the outcome is
+ * exactly that of {@link AirBookRequestParser}: the segments before the first error,
+ * then that error.
+ *
+ * Requests with fewer seg lines than the threshold, and requests whose structure is
+ * not header, seg lines, EOC, go through AirBookRequestParser on the calling thread.
+ *
+ * Thread-safe: any number of threads may call validate at once.
+ */
+public final class AirBookRequestValidator {
+
+    /**
+     * Default number of seg lines below which a request is validated sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 512;
+
+    private static final byte[] HEADER = {'a', 'i', 'r', ' ', 'b', 'o', 'o', 'k', ' ',
+        'r', 'e', 'q', 'u', 'e', 's', 't'};
+    private static final byte[] EOC = {'E', 'O', 'C'};
+
+    /**
+     * Outcome of validating one request.
+     */
+    public static final class Result {
+
+        private final List<SegmentLine> segments;
+        private final CommandError error;
+
+        Result(List<SegmentLine> segments, CommandError error) {
+
+            this.segments = Collections.unmodifiableList(segments);
+            this.error = error;
+        }
+
+        /**
+         * @return segments in line order; on error, those before the error line
+         */
+        public List<SegmentLine> getSegments() {
+            return segments;
+        }
+
+        /**
+         * @return the first error, or null if the request is valid
+         */
+        public CommandError getError() {
+            return error;
+        }
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Use the common pool and {@link #DEFAULT_THRESHOLD}.
+     */
+    public AirBookRequestValidator() {
+
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool      pool to run the seg line tasks on
+     * @param threshold fewest seg lines worth validating in parallel; also the most
+     *                  seg lines one task validates
+     * @throws IllegalArgumentException if pool is null or threshold is not positive
+     */
+    public AirBookRequestValidator(ForkJoinPool pool, int threshold) {
+
+        if (pool == null || threshold < 1){
+            throw new IllegalArgumentException("pool must not be null and threshold must be positive");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Validate a request given as characters.
+     *
+     * @param request the request, lines separated by '\n'
+     * @return the segments and the first error, if any
+     */
+    public Result validate(CharSequence request) {
+
+        byte[] bytes = new byte[request.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            char c = request.charAt(i);
+            // non-ASCII never matches the grammar, as in AirBookRequestParser
+            bytes[i] = c < 0x80 ? (byte) c : (byte) 0x80;
+        }
+        return validate(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Validate a request held as ASCII bytes. Line numbers in the result start at 1
+     * for the header line.
+     *
+     * @param request buffer holding the request, lines separated by '\n'
+     * @param offset  index of the first byte
+     * @param length  number of bytes
+     * @return the segments and the first error, if any
+     */
+    public Result validate(byte[] request, int offset, int length) {
+
+        int[] lineStarts = lineStarts(request, offset, length);
+        // lineStarts has one more entry than lines: the (virtual) start after the last line
+        int lines = lineStarts.length - 1;
+        int segmentLines = lines - 2;
+
+        if (segmentLines < threshold || !isWellFormed(request, lineStarts, offset, offset + length)){
+            return sequential(request, offset, length);
+        }
+
+        Leaf[] leaves = pool.invoke(new SegmentTask(request, lineStarts, 1, lines - 1, threshold));
+        List<SegmentLine> segments = new ArrayList<>(segmentLines);
+        for (Leaf leaf : leaves) {
+            segments.addAll(Arrays.asList(leaf.segments).subList(0, leaf.count));
+            if (leaf.error != null){
+                return new Result(segments, leaf.error);
+            }
+        }
+        return new Result(segments, null);
+    }
+
+    /**
+     * Utility: start index of every line, plus one past the end of the last line
+     * (a trailing newline does not start another line).
+     */
+    private static int[] lineStarts(byte[] request, int offset, int length) {
+
+        int end = offset + length;
+        int[] starts = new int[16];
+        int count = 0;
+        starts[count++] = offset;
+        for (int i = offset; i < end; i++) {
+            if (request[i] == '\n' && i + 1 < end){
+                if (count == starts.length){
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+        if (count == starts.length){
+            starts = Arrays.copyOf(starts, count + 1);
+        }
+        // as if the last line ended with a newline
+        starts[count++] = length > 0 && request[end - 1] == '\n' ? end : end + 1;
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * Utility: check the request is a header, seg lines (none of them EOC) and EOC,
+     * ending with a newline. Anything else is left to the sequential parser.
+     */
+    private static boolean isWellFormed(byte[] request, int[] lineStarts, int start, int end) {
+
+        int lines = lineStarts.length - 1;
+        if (end == start || request[end - 1] != '\n'){
+            return false;
+        }
+        if (!isLine(request, lineStarts, 0, HEADER) || !isLine(request, lineStarts, lines - 1, EOC)){
+            return false;
+        }
+        for (int i = 1; i < lines - 1; i++) {
+            if (isLine(request, lineStarts, i, EOC)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLine(byte[] request, int[] lineStarts, int line, byte[] text) {
+
+        int start = lineStarts[line];
+        if (lineStarts[line + 1] - 1 - start != text.length){
+            return false;
+        }
+        for (int i = 0; i < text.length; i++) {
+            if (request[start + i] != text[i]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Result sequential(byte[] request, int offset, int length) {
+
+        List<SegmentLine> segments = new ArrayList<>();
+        CommandError[] firstError = new CommandError[1];
+        AirBookRequestParser parser = new AirBookRequestParser(new AirBookRequestListener() {
+
+            @Override
+            public void onRequestStart(long line) {
+            }
+
+            @Override
+            public void onSegment(SegmentLine segment) {
+                if (firstError[0] == null){
+                    segments.add(segment);
+                }
+            }
+
+            @Override
+            public void onRequestEnd(long line, int segmentCount) {
+            }
+
+            @Override
+            public void onError(CommandError error) {
+                if (firstError[0] == null){
+                    firstError[0] = error;
+                }
+            }
+        });
+        parser.feed(request, offset, length);
+        parser.finish();
+        return new Result(segments, firstError[0]);
+    }
+
+    /**
+     * Segments of a run of seg lines, stopping at the first error.
+     */
+    private static final class Leaf {
+
+        final SegmentLine[] segments;
+        int count;
+        CommandError error;
+
+        Leaf(int capacity) {
+            this.segments = new SegmentLine[capacity];
+        }
+    }
+
+    /**
+     * Validates seg lines [from, to) by splitting in halves down to the leaf size.
+     * Returns the leaves in line order.
+     */
+    private static final class SegmentTask extends RecursiveTask<Leaf[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] request;
+        private final int[] lineStarts;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        SegmentTask(byte[] request, int[] lineStarts, int from, int to, int leafSize) {
+
+            this.request = request;
+            this.lineStarts = lineStarts;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected Leaf[] compute() {
+
+            if (to - from <= leafSize){
+                return new Leaf[] {validateRange()};
+            }
+            int middle = (from + to) >>> 1;
+            SegmentTask right = new SegmentTask(request, lineStarts, middle, to, leafSize);
+            right.fork();
+            Leaf[] left = new SegmentTask(request, lineStarts, from, middle, leafSize).compute();
+            Leaf[] rightLeaves = right.join();
+
+            Leaf[] joined = Arrays.copyOf(left, left.length + rightLeaves.length);
+            System.arraycopy(rightLeaves, 0, joined, left.length, rightLeaves.length);
+            return joined;
+        }
+
+        private Leaf validateRange() {
+
+            CommandValidator validator = new CommandValidator();
+            Leaf leaf = new Leaf(to - from);
+            for (int line = from; line < to; line++) {
+                int start = lineStarts[line];
+                int length = lineStarts[line + 1] - 1 - start;
+                long lineNumber = line + 1L;
+                if (length > AirBookRequestParser.MAX_LINE_LENGTH){
+                    // same error the streaming parser reports
+                    leaf.error = new CommandError(CommandError.Kind.SYNTACTIC, lineNumber,
+                            AirBookRequestParser.MAX_LINE_LENGTH + 1, "line too long");
+                    return leaf;
+                }
+                CommandError error = validator.checkSegLine(request, start, length, lineNumber);
+                if (error != null){
+                    leaf.error = error;
+                    return leaf;
+                }
+                leaf.segments[leaf.count++] = validator.toSegmentLine(request, start, lineNumber);
+            }
+            return leaf;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class AirBookRequestValidatorTest {
+
+    private static final String SEG = "seg PER SYD QF123 2099-01-01 Y 1";
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUp() {
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    /**
+     * Utility: a request with count seg lines, where line badLine (if > 0) is replaced.
+     */
+    private static String request(int count, int badLine, String bad) {
+        StringBuilder request = new StringBuilder("air book request\n");
+        for (int line = 2; line < count + 2; line++) {
+            // vary the flight number so segments can be told apart
+            request.append(line == badLine ? bad : "seg PER SYD QF" + (line % 10000) + " 2099-01-01 Y 1").append('\n');
+        }
+        return request.append("EOC\n").toString();
+    }
+
+    @Test
+    public void testParallel_KeepsLineOrder() {
+        // Arrange: 16 seg lines per task, 1000 seg lines
+        AirBookRequestValidator validator = new AirBookRequestValidator(pool, 16);
+
+        // Act
+        AirBookRequestValidator.Result result = validator.validate(request(1000, 0, null));
+
+        // Assert
+        assertTrue(result.isValid());
+        assertEquals(1000, result.getSegments().size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 2, result.getSegments().get(i).getLine());
+            assertEquals("QF" + (i + 2), result.getSegments().get(i).getFlightNumber());
+        }
+    }
+
+    @Test
+    public void testParallel_FirstErrorSameAsSequential() {
+        // errors on lines 300 (semantic) and 700 (syntactic): only the first counts
+        String request = request(1000, 300, "seg PER PER QF1 2099-01-01 Y 1")
+                .replace("QF700 ", "Q7700 ");
+        AirBookRequestValidator.Result parallel = new AirBookRequestValidator(pool, 16).validate(request);
+        AirBookRequestValidator.Result sequential = new AirBookRequestValidator(pool, Integer.MAX_VALUE).validate(request);
+
+        assertEquals(CommandError.Kind.SEMANTIC, parallel.getError().getKind());
+        assertEquals(300, parallel.getError().getLine());
+        assertEquals(sequential.getError().toString(), parallel.getError().toString());
+        assertEquals(298, parallel.getSegments().size());
+        assertEquals(sequential.getSegments().size(), parallel.getSegments().size());
+    }
+
+    @Test
+    public void testParallel_LongLine() {
+        StringBuilder longLine = new StringBuilder(SEG);
+        for (int i = 0; i < 100; i++) {
+            longLine.append(' ');
+        }
+        String request = request(100, 50, longLine.toString());
+        AirBookRequestValidator.Result parallel = new AirBookRequestValidator(pool, 8).validate(request);
+        AirBookRequestValidator.Result sequential = new AirBookRequestValidator(pool, Integer.MAX_VALUE).validate(request);
+        assertEquals(sequential.getError().toString(), parallel.getError().toString());
+    }
+
+    @Test
+    public void testStructuralErrors_UseSequentialParser() {
+        AirBookRequestValidator validator = new AirBookRequestValidator(pool, 1);
+
+        // no EOC, EOC in the middle, no trailing newline
+        assertEquals("input ended before EOC",
+                validator.validate("air book request\n" + SEG + "\n" + SEG + "\n").getError().getMessage());
+        assertFalse(validator.validate("air book request\n" + SEG + "\nEOC\n" + SEG + "\nEOC\n").isValid());
+        assertEquals("missing newline at end of input",
+                validator.validate("air book request\n" + SEG + "\nEOC").getError().getMessage());
+    }
+}
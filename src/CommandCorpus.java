@@ -0,0 +1,405 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded, endless generator of Tachi commands for benchmarks and soak tests, driven by
+ * tachi_grammer.txt.
+ *
+ * Commands are random derivations of {@code <shop_flight_fare>} and
+ * {@code <air_book_request>}: every alternative of every rule is picked with equal
+ * probability, except that airports, dates and flight numbers get plausible values
+ * (origin ≠ destination, real dates from today to two years ahead). A share of the
+ * commands then gets exactly one {@link Mutation}, so each command carries the error
+ * kind a validator should report for it.
+ *
+ * The same seed, today and rates give the same commands, so implementations can be
+ * compared on identical workloads. Not thread-safe; use {@link #split()} for one
+ * generator per thread.
+ *
+ * Usage: {@code java CommandCorpus <output file> <count> [seed]}
+ */
+public final class CommandCorpus implements Iterator<CommandCorpus.Command> {
+
+    /**
+     * The one change made to an otherwise valid command.
+     */
+    public enum Mutation {
+
+        /** No change: valid */
+        NONE,
+
+        /** Month 00 or 13 (SYNTACTIC), or a day past the end of its month (SEMANTIC) */
+        BAD_DATE,
+
+        /** A real date before today (SEMANTIC) */
+        PAST_DATE,
+
+        /** 29 February of a future year: valid in a leap year, SEMANTIC otherwise */
+        LEAP_DAY,
+
+        /** An airport or airline letter replaced by a lowercase letter or digit (SYNTACTIC) */
+        BAD_IATA,
+
+        /** people 11–99 or length_of_stay 21–99 (SEMANTIC) */
+        OUT_OF_RANGE
+    }
+
+    /**
+     * One generated command.
+     */
+    public static final class Command {
+
+        private final String text;
+        private final Mutation mutation;
+        private final CommandError.Kind expected;
+
+        Command(String text, Mutation mutation, CommandError.Kind expected) {
+
+            this.text = text;
+            this.mutation = mutation;
+            this.expected = expected;
+        }
+
+        /**
+         * @return the command: one line without a newline for shop flight fare, or the
+         *         whole request ending in "EOC\n" for air book request
+         */
+        public String getText() {
+            return text;
+        }
+
+        public Mutation getMutation() {
+            return mutation;
+        }
+
+        /**
+         * @return the kind of error a validator should report, or null if the command is valid
+         */
+        public CommandError.Kind getExpected() {
+            return expected;
+        }
+
+        public boolean isAirBookRequest() {
+            return text.startsWith("air");
+        }
+    }
+
+    /**
+     * A generated field and where it ended up in the text.
+     */
+    private static final class Field {
+
+        final String rule;
+        final int start;
+        final int end;
+
+        Field(String rule, int start, int end) {
+
+            this.rule = rule;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private static final TachiGrammar GRAMMAR = TachiGrammar.load();
+
+    private static final double DEFAULT_AIR_BOOK_SHARE = 0.3;
+    private static final double DEFAULT_MUTATION_RATE = 0.05;
+
+    // Valid dates are spread over this many days from today
+    private static final int DATE_SPAN_DAYS = 2 * 366;
+
+    private static final int[] SHORT_MONTHS = {2, 4, 6, 9, 11};
+
+    private final SplittableRandom random;
+    private final LocalDate today;
+    private final double airBookShare;
+    private final Mutation[] mutations;
+    private final double[] cumulativeRates;
+
+    private final StringBuilder text = new StringBuilder(256);
+    private final List<Field> fields = new ArrayList<>();
+    private String lastAirport;
+
+    /**
+     * Generator with 30% air book requests and 5% of each mutation, relative to today's
+     * date as DateTimeChecker sees it.
+     *
+     * @param seed random seed
+     */
+    public CommandCorpus(long seed) {
+
+        this(seed, todayOfChecker(), DEFAULT_AIR_BOOK_SHARE, defaultRates());
+    }
+
+    /**
+     * @param seed          random seed
+     * @param today         date that valid commands must not be before (use the validator's today)
+     * @param airBookShare  fraction of commands that are air book requests, 0–1
+     * @param mutationRates fraction of commands for each mutation (missing = 0); the rest are valid
+     * @throws IllegalArgumentException if a rate is negative or the rates add up to more than 1
+     */
+    public CommandCorpus(long seed, LocalDate today, double airBookShare, Map<Mutation, Double> mutationRates) {
+
+        this(new SplittableRandom(seed), today, airBookShare, mutationRates);
+    }
+
+    private CommandCorpus(SplittableRandom random, LocalDate today, double airBookShare,
+            Map<Mutation, Double> mutationRates) {
+
+        if (today == null || airBookShare < 0 || airBookShare > 1){
+            throw new IllegalArgumentException("today must not be null and airBookShare must be 0-1");
+        }
+        this.random = random;
+        this.today = today;
+        this.airBookShare = airBookShare;
+        this.mutations = Mutation.values();
+        this.cumulativeRates = new double[mutations.length];
+        double total = 0;
+        for (int i = 1; i < mutations.length; i++) {
+            double rate = mutationRates.getOrDefault(mutations[i], 0.0);
+            if (rate < 0){
+                throw new IllegalArgumentException("negative rate for " + mutations[i]);
+            }
+            total += rate;
+            cumulativeRates[i] = total;
+        }
+        if (total > 1){
+            throw new IllegalArgumentException("mutation rates add up to more than 1");
+        }
+    }
+
+    /**
+     * @return the default rates: 5% for each mutation
+     */
+    public static Map<Mutation, Double> defaultRates() {
+
+        Map<Mutation, Double> rates = new EnumMap<>(Mutation.class);
+        for (Mutation mutation : Mutation.values()) {
+            if (mutation != Mutation.NONE){
+                rates.put(mutation, DEFAULT_MUTATION_RATE);
+            }
+        }
+        return rates;
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length < 2 || args.length > 3){
+            System.err.println("usage: java CommandCorpus <output file> <count> [seed]");
+            System.exit(2);
+        }
+        long seed = args.length == 3 ? Long.parseLong(args[2]) : 1;
+        new CommandCorpus(seed).writeTo(Path.of(args[0]), Long.parseLong(args[1]));
+    }
+
+    /**
+     * A new generator with the same settings and a random stream split off this one
+     * (see {@link SplittableRandom#split()}), for use on another thread.
+     *
+     * @return the new generator
+     */
+    public CommandCorpus split() {
+
+        Map<Mutation, Double> rates = new EnumMap<>(Mutation.class);
+        for (int i = 1; i < mutations.length; i++) {
+            rates.put(mutations[i], cumulativeRates[i] - cumulativeRates[i - 1]);
+        }
+        return new CommandCorpus(random.split(), today, airBookShare, rates);
+    }
+
+    /**
+     * Always true: the corpus never ends.
+     */
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+
+    @Override
+    public Command next() {
+
+        boolean airBook = random.nextDouble() < airBookShare;
+        Mutation mutation = pickMutation();
+        while (true) {
+            text.setLength(0);
+            fields.clear();
+            lastAirport = null;
+            expand(airBook ? "air_book_request" : "shop_flight_fare");
+            if (mutation == Mutation.NONE){
+                return new Command(text.toString(), mutation, null);
+            }
+            // OneWay shop commands have no number field to push out of range: derive again
+            Command mutated = mutate(mutation);
+            if (mutated != null){
+                return mutated;
+            }
+        }
+    }
+
+    /**
+     * Write commands to a file, each followed by a newline (air book requests already end in one).
+     *
+     * @param file  output file (created or replaced)
+     * @param count number of commands
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Path file, long count) throws IOException {
+
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (long i = 0; i < count; i++) {
+                Command command = next();
+                out.write(command.getText());
+                if (!command.isAirBookRequest()){
+                    out.write('\n');
+                }
+            }
+        }
+    }
+
+    private Mutation pickMutation() {
+
+        double draw = random.nextDouble();
+        for (int i = 1; i < mutations.length; i++) {
+            if (draw < cumulativeRates[i]){
+                return mutations[i];
+            }
+        }
+        return Mutation.NONE;
+    }
+
+    /**
+     * Utility: append a random derivation of a rule, with plausible values for the fields.
+     */
+    private void expand(String rule) {
+
+        int start = text.length();
+        switch (rule) {
+            case "airport":
+                String airport;
+                do {
+                    airport = letters(3);
+                } while (airport.equals(lastAirport));
+                lastAirport = airport;
+                text.append(airport);
+                break;
+            case "date":
+                text.append(today.plusDays(random.nextInt(DATE_SPAN_DAYS)));
+                break;
+            default:
+                List<List<TachiGrammar.Symbol>> alternatives = GRAMMAR.getRule(rule);
+                for (TachiGrammar.Symbol symbol : alternatives.get(random.nextInt(alternatives.size()))) {
+                    if (symbol.isTerminal()){
+                        text.append(symbol.getText());
+                    } else {
+                        expand(symbol.getText());
+                    }
+                }
+        }
+        if (rule.equals("airport") || rule.equals("date") || rule.equals("flight_number")
+                || rule.equals("people") || rule.equals("length_of_stay")){
+            fields.add(new Field(rule, start, text.length()));
+        }
+    }
+
+    /**
+     * Utility: apply a mutation to one suitable field of the derivation in text.
+     *
+     * @return the mutated command, or null if the derivation has no suitable field
+     */
+    private Command mutate(Mutation mutation) {
+
+        List<Field> targets = new ArrayList<>();
+        for (Field field : fields) {
+            boolean suitable;
+            switch (mutation) {
+                case BAD_IATA:
+                    suitable = field.rule.equals("airport") || field.rule.equals("flight_number");
+                    break;
+                case OUT_OF_RANGE:
+                    suitable = field.rule.equals("people") || field.rule.equals("length_of_stay");
+                    break;
+                default:
+                    suitable = field.rule.equals("date");
+            }
+            if (suitable){
+                targets.add(field);
+            }
+        }
+        if (targets.isEmpty()){
+            return null;
+        }
+        Field field = targets.get(random.nextInt(targets.size()));
+
+        String replacement;
+        CommandError.Kind expected;
+        switch (mutation) {
+            case BAD_DATE:
+                if (random.nextBoolean()){
+                    LocalDate date = LocalDate.parse(text.subSequence(field.start, field.end));
+                    replacement = date.getYear() + (random.nextBoolean() ? "-00-" : "-13-") + twoDigits(date.getDayOfMonth());
+                    expected = CommandError.Kind.SYNTACTIC;
+                } else {
+                    // a day the grammar allows but the month does not have (months under 31 days)
+                    LocalDate date = today.plusYears(1).withMonth(SHORT_MONTHS[random.nextInt(SHORT_MONTHS.length)]).withDayOfMonth(1);
+                    int day = date.lengthOfMonth() + 1 + random.nextInt(31 - date.lengthOfMonth());
+                    replacement = date.getYear() + "-" + twoDigits(date.getMonthValue()) + "-" + twoDigits(day);
+                    expected = CommandError.Kind.SEMANTIC;
+                }
+                break;
+            case PAST_DATE:
+                replacement = today.minusDays(1 + random.nextInt(DATE_SPAN_DAYS)).toString();
+                expected = CommandError.Kind.SEMANTIC;
+                break;
+            case LEAP_DAY:
+                int year = today.getYear() + 1 + random.nextInt(8);
+                replacement = year + "-02-29";
+                expected = LocalDate.of(year, 1, 1).isLeapYear() ? null : CommandError.Kind.SEMANTIC;
+                break;
+            case BAD_IATA:
+                // airport letters, or the airline letters at the start of a flight number
+                int at = field.start + random.nextInt(field.rule.equals("airport") ? 3 : 2);
+                String bad = random.nextBoolean() ? String.valueOf((char) ('a' + random.nextInt(26)))
+                        : String.valueOf((char) ('0' + random.nextInt(10)));
+                replacement = text.substring(field.start, at) + bad + text.substring(at + 1, field.end);
+                expected = CommandError.Kind.SYNTACTIC;
+                break;
+            default:
+                int minimum = field.rule.equals("people") ? 11 : 21;
+                replacement = String.valueOf(minimum + random.nextInt(100 - minimum));
+                expected = CommandError.Kind.SEMANTIC;
+        }
+        text.replace(field.start, field.end, replacement);
+        return new Command(text.toString(), mutation, expected);
+    }
+
+    private String letters(int count) {
+
+        char[] letters = new char[count];
+        for (int i = 0; i < count; i++) {
+            letters[i] = (char) ('A' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    private static String twoDigits(int value) {
+
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+
+    private static LocalDate todayOfChecker() {
+
+        int today = DateTimeChecker.getTodayClock().today();
+        return LocalDate.of(today / 10000, today / 100 % 100, today % 100);
+    }
+}
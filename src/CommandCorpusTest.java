@@ -0,0 +1,103 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class CommandCorpusTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    @BeforeEach
+    public void pinToday() {
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    private static Map<CommandCorpus.Mutation, Double> rates(double each) {
+        Map<CommandCorpus.Mutation, Double> rates = new EnumMap<>(CommandCorpus.Mutation.class);
+        for (CommandCorpus.Mutation mutation : CommandCorpus.Mutation.values()) {
+            rates.put(mutation, each);
+        }
+        return rates;
+    }
+
+    @Test
+    public void testSameSeed_SameCommands() {
+        // Arrange
+        CommandCorpus first = new CommandCorpus(42, TODAY, 0.5, rates(0.1));
+        CommandCorpus second = new CommandCorpus(42, TODAY, 0.5, rates(0.1));
+        CommandCorpus other = new CommandCorpus(43, TODAY, 0.5, rates(0.1));
+
+        // Act
+        StringBuilder a = new StringBuilder();
+        StringBuilder b = new StringBuilder();
+        StringBuilder c = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            a.append(first.next().getText()).append('\n');
+            b.append(second.next().getText()).append('\n');
+            c.append(other.next().getText()).append('\n');
+        }
+
+        // Assert
+        assertEquals(a.toString(), b.toString());
+        assertNotEquals(a.toString(), c.toString());
+    }
+
+    @Test
+    public void testExpectedKind_MatchesValidators() {
+        // Arrange: every mutation about as often as valid commands
+        CommandCorpus corpus = new CommandCorpus(7, TODAY, 0.4, rates(1.0 / 7));
+        CommandValidator validator = new CommandValidator();
+        AirBookRequestValidator requestValidator = new AirBookRequestValidator();
+        Map<CommandCorpus.Mutation, Integer> seen = new EnumMap<>(CommandCorpus.Mutation.class);
+
+        // Act / Assert
+        for (int i = 0; i < 5000; i++) {
+            CommandCorpus.Command command = corpus.next();
+            CommandError error = command.isAirBookRequest()
+                    ? requestValidator.validate(command.getText()).getError()
+                    : validator.checkShopFlightFare(command.getText(), 1);
+            assertEquals(command.getExpected(), error == null ? null : error.getKind(),
+                    command.getMutation() + ": " + command.getText());
+            seen.merge(command.getMutation(), 1, Integer::sum);
+        }
+        assertEquals(CommandCorpus.Mutation.values().length, seen.size());
+    }
+
+    @Test
+    public void testStream_OneOutcomePerCommand() {
+        // Arrange
+        CommandCorpus corpus = new CommandCorpus(11, TODAY, 0.3, CommandCorpus.defaultRates());
+        List<CommandError.Kind> expected = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            CommandCorpus.Command command = corpus.next();
+            expected.add(command.getExpected());
+            text.append(command.getText());
+            if (!command.isAirBookRequest()) {
+                text.append('\n');
+            }
+        }
+        List<CommandError.Kind> actual = new ArrayList<>();
+        CommandStreamValidator stream = new CommandStreamValidator(
+                (line, error) -> actual.add(error == null ? null : error.getKind()));
+
+        // Act
+        byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+        stream.feed(bytes, 0, bytes.length);
+        stream.finish();
+
+        // Assert
+        assertEquals(expected, actual);
+    }
+}
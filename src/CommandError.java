@@ -0,0 +1,58 @@
+/**
+ * A syntactic or semantic error found while checking a Tachi command,
+ * with the 1-based line and column where it was detected.
+ *
+ * Mirrors the unit's error model: SyntacticError for input that does not
+ * match tachi_grammer.txt, SemanticError for well-formed input that breaks
+ * a business rule (e.g. origin = destination, date before today).
+ */
+public final class CommandError {
+
+    /**
+     * Error class, as in the SyntacticError / SemanticError split.
+     */
+    public enum Kind {
+        SYNTACTIC,
+        SEMANTIC
+    }
+
+    private final Kind kind;
+    private final long line;
+    private final int column;
+    private final String message;
+
+    public CommandError(Kind kind, long line, int column, String message) {
+
+        this.kind = kind;
+        this.line = line;
+        this.column = column;
+        this.message = message;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return 1-based line number in the input
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * @return 1-based column within the line
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " error at " + line + ":" + column + ": " + message;
+    }
+}
@@ -0,0 +1,329 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Offline validator for newline-delimited Tachi command logs.
+ *
+ * The log is memory-mapped chunk by chunk with {@link FileChannel#map} and the chunks
+ * are validated in parallel. Chunks are split only before a line that starts a command
+ * ({@code shop ...} or {@code air book request}), so no request is cut in two and the
+ * results are the same as a single sequential pass. Each chunk is read straight from
+ * the mapped buffer by a {@link CommandStreamValidator}, which sets the rules for mixing
+ * commands in one stream. No String is built for a valid line. At most two chunks per
+ * thread are in flight, so heap use does not grow with the size of the log.
+ *
+ * The result file has one byte per input line: {@link #RESULT_OK}, {@link #RESULT_SYNTACTIC}
+ * or {@link #RESULT_SEMANTIC}, for the first error on that line. A request still open at
+ * the end of the log is marked on the log's last line.
+ *
+ * Usage: {@code java CommandLogValidator <log file> <result file> [threads]}
+ */
+public final class CommandLogValidator {
+
+    public static final byte RESULT_OK = 0;
+    public static final byte RESULT_SYNTACTIC = 1;
+    public static final byte RESULT_SEMANTIC = 2;
+
+    /**
+     * Default target chunk size; a chunk ends at the first command line after it.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 32 << 20;
+
+    private static final byte[] SHOP = "shop ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEADER = "air book request".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NEWLINE = {'\n'};
+
+    // Chunks submitted but not yet written, per thread: enough to keep every thread busy
+    // while the oldest is written, without holding the results of the whole log
+    private static final int CHUNKS_PER_THREAD = 2;
+
+    // Bytes read around each candidate split point
+    private static final int SCAN_WINDOW = 64 * 1024;
+
+    /**
+     * Counts over a whole log.
+     */
+    public static final class Summary {
+
+        private long lines;
+        private long commands;
+        private long syntacticErrors;
+        private long semanticErrors;
+
+        public long getLines() {
+            return lines;
+        }
+
+        /**
+         * @return number of commands (shop commands, air book requests and
+         *         lines outside a request that are not a command)
+         */
+        public long getCommands() {
+            return commands;
+        }
+
+        public long getSyntacticErrors() {
+            return syntacticErrors;
+        }
+
+        public long getSemanticErrors() {
+            return semanticErrors;
+        }
+
+        @Override
+        public String toString() {
+            return "lines=" + lines + " commands=" + commands
+                    + " syntactic=" + syntacticErrors + " semantic=" + semanticErrors;
+        }
+    }
+
+    private final int threads;
+    private final int chunkSize;
+
+    /**
+     * @param threads   number of worker threads
+     * @param chunkSize target chunk size in bytes
+     * @throws IllegalArgumentException if threads or chunkSize is not positive
+     */
+    public CommandLogValidator(int threads, int chunkSize) {
+
+        if (threads < 1 || chunkSize < 1){
+            throw new IllegalArgumentException("threads and chunkSize must be positive");
+        }
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length < 2 || args.length > 3){
+            System.err.println("usage: java CommandLogValidator <log file> <result file> [threads]");
+            System.exit(2);
+        }
+        int threads = args.length == 3 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Summary summary = new CommandLogValidator(threads, DEFAULT_CHUNK_SIZE).validate(Path.of(args[0]), Path.of(args[1]));
+        System.out.println(summary);
+    }
+
+    /**
+     * Validate a log and write the per-line result file.
+     *
+     * @param log    the command log
+     * @param output the result file (created or replaced)
+     * @return counts over the whole log
+     * @throws IOException if the log cannot be read or the result file written,
+     *                     or a chunk is larger than 2 GB (no command line for that long)
+     */
+    public Summary validate(Path log, Path output) throws IOException {
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (FileChannel in = FileChannel.open(log, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            List<Long> bounds = split(in);
+            Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+            int next = 0;
+
+            // Write in file order as chunks complete, keeping only a few chunks' results on the heap
+            Summary summary = new Summary();
+            byte carried = RESULT_OK;
+            byte lastResult = RESULT_OK;
+            while (next + 1 < bounds.size() || !inFlight.isEmpty()) {
+                while (next + 1 < bounds.size() && inFlight.size() < threads * CHUNKS_PER_THREAD) {
+                    long start = bounds.get(next);
+                    long end = bounds.get(next + 1);
+                    inFlight.add(pool.submit(() -> validateChunk(in, start, end)));
+                    next++;
+                }
+                Chunk chunk = await(inFlight.poll());
+                if (carried != RESULT_OK && chunk.lineCount > 0){
+                    // The previous chunk's last request was ended by this chunk's first line
+                    chunk.results[0] = carried;
+                }
+                out.write(ByteBuffer.wrap(chunk.results, 0, chunk.lineCount));
+                if (chunk.lineCount > 0){
+                    lastResult = chunk.results[chunk.lineCount - 1];
+                }
+                summary.lines += chunk.lineCount;
+                summary.commands += chunk.commands;
+                summary.syntacticErrors += chunk.syntacticErrors;
+                summary.semanticErrors += chunk.semanticErrors;
+                carried = chunk.trailing;
+            }
+            if (carried != RESULT_OK && lastResult == RESULT_OK && summary.lines > 0){
+                // The last request was still open at the end of the log: there is no next line
+                out.write(ByteBuffer.wrap(new byte[] {carried}), summary.lines - 1);
+            }
+            return summary;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Utility: chunk start offsets, ending with the file size. Each start after the
+     * first is the start of a command line at or after the previous start + chunkSize.
+     */
+    private List<Long> split(FileChannel in) throws IOException {
+
+        long size = in.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long next = (long) chunkSize;
+        while (next < size) {
+            long start = nextCommandLine(in, next, size);
+            if (start >= size){
+                break;
+            }
+            bounds.add(start);
+            next = start + chunkSize;
+        }
+        bounds.add(size);
+        return bounds;
+    }
+
+    /**
+     * Utility: offset of the first line at or after from that starts a command, or size.
+     */
+    private static long nextCommandLine(FileChannel in, long from, long size) throws IOException {
+
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW);
+        // from is a line start if the byte before it is a newline
+        long position = from - 1;
+        while (position < size) {
+            window.clear();
+            int read = in.read(window, position);
+            if (read <= 0){
+                return size;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n'){
+                    long lineStart = position + i + 1;
+                    if (lineStart < size && isCommandLine(in, lineStart)){
+                        return lineStart;
+                    }
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static boolean isCommandLine(FileChannel in, long lineStart) throws IOException {
+
+        ByteBuffer prefix = ByteBuffer.allocate(HEADER.length);
+        int read = Math.max(in.read(prefix, lineStart), 0);
+        return startsWith(prefix, 0, read, SHOP) || startsWith(prefix, 0, read, HEADER);
+    }
+
+    private static boolean startsWith(ByteBuffer buffer, int offset, int length, byte[] prefix) {
+
+        if (length < prefix.length){
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(offset + i) != prefix[i]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Chunk validateChunk(FileChannel in, long start, long end) throws IOException {
+
+        if (end - start > Integer.MAX_VALUE){
+            throw new IOException("no command line for more than 2 GB after offset " + start);
+        }
+        MappedByteBuffer map = in.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        Chunk chunk = new Chunk();
+        chunk.validate(map);
+        return chunk;
+    }
+
+    private static Chunk await(Future<Chunk> future) throws IOException {
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException){
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Validation state and results of one chunk. Used by one thread.
+     */
+    private static final class Chunk implements CommandStreamValidator.Listener {
+
+        private final CommandStreamValidator stream = new CommandStreamValidator(this);
+
+        private byte[] results = new byte[1024];
+        private int lineCount;
+        private long commands;
+        private long syntacticErrors;
+        private long semanticErrors;
+        private boolean finishing;
+        private byte trailing = RESULT_OK;
+
+        void validate(ByteBuffer map) {
+
+            int limit = map.limit();
+            stream.feed(map, 0, limit);
+            if (limit > 0 && map.get(limit - 1) != '\n'){
+                stream.feed(NEWLINE, 0, 1);
+            }
+            lineCount = (int) stream.getLineNumber() - 1;
+            // An open request at the end is reported on the line after the chunk
+            finishing = true;
+            stream.finish();
+        }
+
+        @Override
+        public void onCommand(long line, CommandError error) {
+
+            commands++;
+            if (error == null){
+                return;
+            }
+            byte result;
+            if (error.getKind() == CommandError.Kind.SYNTACTIC){
+                syntacticErrors++;
+                result = RESULT_SYNTACTIC;
+            } else {
+                semanticErrors++;
+                result = RESULT_SEMANTIC;
+            }
+            if (finishing){
+                trailing = result;
+                return;
+            }
+            int index = (int) error.getLine() - 1;
+            if (index >= results.length){
+                results = Arrays.copyOf(results, Math.max(results.length * 2, index + 1));
+            }
+            if (results[index] == RESULT_OK){
+                results[index] = result;
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class CommandLogValidatorTest {
+
+    private static final String LOG = String.join("\n",
+            "shop flight fare PER SYD OneWay Y 2030-01-02",        // 1 ok
+            "air book request",                                    // 2 ok
+            "seg PER SYD QF123 2099-01-01 Y 1",                    // 3 ok
+            "EOC",                                                 // 4 ok
+            "",                                                    // 5 blank, ignored
+            "shop flight fare PER SYD Return 25 Y 2030-01-02",     // 6 semantic
+            "air book request",                                    // 7 ok
+            "seg P3R SYD QF123 2099-01-01 Y 1",                    // 8 syntactic
+            "seg PER SYD QF123 2099-01-01 Y 1",                    // 9 skipped
+            "air book request",                                    // 10 ok (previous request was already in error)
+            "seg PER SYD QF123 2099-01-01 Y 1",                    // 11 ok
+            "shop flight fare PER PER OneWay Y 2030-01-02",        // 12 ends request 10: syntactic first
+            "hello",                                               // 13 syntactic
+            "shop flight fare PER SYD OneWay Y 2030-01-02");       // 14 ok, no final newline
+
+    private static final byte[] EXPECTED = {0, 0, 0, 0, 0, 2, 0, 1, 0, 0, 0, 1, 1, 0};
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    public void setUp() {
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    private CommandLogValidator.Summary validate(int threads, int chunkSize, Path results) throws IOException {
+        return validate(LOG, threads, chunkSize, results);
+    }
+
+    private CommandLogValidator.Summary validate(String text, int threads, int chunkSize, Path results)
+            throws IOException {
+        Path log = dir.resolve("commands.log");
+        Files.write(log, text.getBytes(StandardCharsets.US_ASCII));
+        return new CommandLogValidator(threads, chunkSize).validate(log, results);
+    }
+
+    @Test
+    public void testSingleChunk() throws IOException {
+        // Act
+        Path results = dir.resolve("single.res");
+        CommandLogValidator.Summary summary = validate(1, CommandLogValidator.DEFAULT_CHUNK_SIZE, results);
+
+        // Assert
+        assertArrayEquals(EXPECTED, Files.readAllBytes(results));
+        assertEquals(14, summary.getLines());
+        assertEquals(8, summary.getCommands());
+        assertEquals(3, summary.getSyntacticErrors());
+        // line 12 has both the unfinished request (first) and same airports
+        assertEquals(2, summary.getSemanticErrors());
+    }
+
+    @Test
+    public void testManySmallChunks_SameAsSequential() throws IOException {
+        // chunk boundaries at almost every command line
+        Path results = dir.resolve("chunked.res");
+        CommandLogValidator.Summary summary = validate(3, 1, results);
+
+        assertArrayEquals(EXPECTED, Files.readAllBytes(results));
+        assertEquals(3, summary.getSyntacticErrors());
+        assertEquals(2, summary.getSemanticErrors());
+    }
+
+    @Test
+    public void testRequestOpenAtEndOfLog_MarkedOnLastLine() throws IOException {
+        // Arrange: the last request has no EOC
+        String log = "shop flight fare PER SYD OneWay Y 2030-01-02\n"
+                + "air book request\n"
+                + "seg PER SYD QF123 2099-01-01 Y 1\n";
+
+        for (int chunkSize : new int[] {1, CommandLogValidator.DEFAULT_CHUNK_SIZE}) {
+            // Act
+            Path results = dir.resolve("open-" + chunkSize + ".res");
+            CommandLogValidator.Summary summary = validate(log, 2, chunkSize, results);
+
+            // Assert: the file agrees with the counts
+            assertArrayEquals(new byte[] {0, 0, 1}, Files.readAllBytes(results));
+            assertEquals(1, summary.getSyntacticErrors());
+            assertEquals(2, summary.getCommands());
+        }
+    }
+}
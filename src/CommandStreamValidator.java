@@ -0,0 +1,204 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental, push-based validator for a stream of Tachi commands: one-line
+ * {@code shop flight fare} commands and multi-line {@code air book request} commands,
+ * in any order. Reports one outcome per command, in input order.
+ *
+ * Shop lines are checked by {@link CommandValidator}; requests by
+ * {@link AirBookRequestParser}. Rules for the stream (on top of the grammar):
+ * <ul>
+ *   <li>blank lines between commands are ignored</li>
+ *   <li>a line that starts a command ({@code shop ...} or {@code air book request}) also
+ *       ends an unfinished request, which fails with "input ended before EOC"</li>
+ *   <li>any other line outside a request is a SYNTACTIC error of its own</li>
+ * </ul>
+ *
+ * Memory use is one line buffer; valid commands allocate nothing apart from the
+ * parser's segments. Not thread-safe: use one instance per stream.
+ */
+public final class CommandStreamValidator {
+
+    /**
+     * Receives the outcome of each command.
+     */
+    public interface Listener {
+
+        /**
+         * @param line  1-based line number where the command starts
+         * @param error the first error in the command, or null if it is valid
+         */
+        void onCommand(long line, CommandError error);
+    }
+
+    private static final byte[] SHOP = {'s', 'h', 'o', 'p', ' '};
+    private static final byte[] HEADER = {'a', 'i', 'r', ' ', 'b', 'o', 'o', 'k', ' ',
+        'r', 'e', 'q', 'u', 'e', 's', 't'};
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final Listener listener;
+    private final CommandValidator validator = new CommandValidator();
+    private final AirBookRequestParser parser;
+
+    private final byte[] line = new byte[AirBookRequestParser.MAX_LINE_LENGTH];
+    private int lineLength;
+    private boolean lineTooLong;
+    private long lineNumber = 1;
+
+    // Header line of the open request, 0 if none
+    private long requestLine;
+
+    public CommandStreamValidator(Listener listener) {
+
+        if (listener == null){
+            throw new IllegalArgumentException("listener must not be null");
+        }
+        this.listener = listener;
+        this.parser = new AirBookRequestParser(new RequestListener());
+    }
+
+    /**
+     * Feed the next chunk of ASCII input.
+     *
+     * @param chunk  buffer holding the input
+     * @param offset index of the first byte to read
+     * @param length number of bytes to read
+     */
+    public void feed(byte[] chunk, int offset, int length) {
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            accept(chunk[i]);
+        }
+    }
+
+    /**
+     * Feed the next chunk of ASCII input from a buffer (e.g. a memory-mapped file).
+     * Uses absolute reads, so the buffer's position is not changed.
+     *
+     * @param chunk  buffer holding the input
+     * @param offset index of the first byte to read
+     * @param length number of bytes to read
+     */
+    public void feed(ByteBuffer chunk, int offset, int length) {
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            accept(chunk.get(i));
+        }
+    }
+
+    /**
+     * Signal the end of the input. A last line without a newline is validated as a
+     * line, then an unfinished request fails. The validator can then be fed a new input.
+     */
+    public void finish() {
+
+        if (lineLength > 0 || lineTooLong){
+            accept((byte) '\n');
+        }
+        endRequest();
+    }
+
+    /**
+     * @return 1-based number of the line currently being read
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private void accept(byte b) {
+
+        if (b == '\n'){
+            endOfLine();
+            lineNumber++;
+            lineLength = 0;
+            lineTooLong = false;
+        } else if (lineLength < line.length){
+            line[lineLength++] = b;
+        } else {
+            lineTooLong = true;
+        }
+    }
+
+    private void endOfLine() {
+
+        boolean shop = startsWith(SHOP);
+        boolean header = startsWith(HEADER);
+        if (shop || header){
+            endRequest();
+        }
+
+        if (parser.isBetweenRequests() && !header){
+            if (shop){
+                listener.onCommand(lineNumber, lineTooLong
+                        ? new CommandError(CommandError.Kind.SYNTACTIC, lineNumber, line.length + 1, "line too long")
+                        : validator.checkShopFlightFare(line, 0, lineLength, lineNumber));
+            } else if (lineLength > 0){
+                listener.onCommand(lineNumber, new CommandError(CommandError.Kind.SYNTACTIC, lineNumber, 1,
+                        "expected a shop flight fare or air book request command"));
+            }
+            return;
+        }
+
+        parser.setLineNumber(lineNumber);
+        parser.feed(line, 0, lineLength);
+        if (lineTooLong){
+            // the parser only needs to see one byte more than its buffer holds
+            parser.feed(line, 0, 1);
+        }
+        parser.feed(NEWLINE, 0, 1);
+    }
+
+    /**
+     * Fail the open request, if any, at the current line.
+     */
+    private void endRequest() {
+
+        if (!parser.isBetweenRequests()){
+            parser.setLineNumber(lineNumber);
+            parser.finish();
+        }
+    }
+
+    private boolean startsWith(byte[] prefix) {
+
+        if (lineLength < prefix.length){
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (line[i] != prefix[i]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Turns the parser's events into one outcome per request.
+     */
+    private final class RequestListener implements AirBookRequestListener {
+
+        @Override
+        public void onRequestStart(long line) {
+            requestLine = line;
+        }
+
+        @Override
+        public void onSegment(SegmentLine segment) {
+        }
+
+        @Override
+        public void onRequestEnd(long line, int segmentCount) {
+
+            listener.onCommand(requestLine, null);
+            requestLine = 0;
+        }
+
+        @Override
+        public void onError(CommandError error) {
+
+            // a bad header is a command of its own
+            listener.onCommand(requestLine != 0 ? requestLine : error.getLine(), error);
+            requestLine = 0;
+        }
+    }
+}
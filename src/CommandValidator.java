@@ -0,0 +1,357 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Validates single-line Tachi commands ({@code shop flight fare ...}) and {@code seg} lines
+ * with recognisers compiled from tachi_grammer.txt ahead of time (PrecompiledGrammar).
+ *
+ * Syntax is checked by one DFA pass over the line; the semantic rules are then checked
+ * on the field positions recorded during that pass:
+ * <ul>
+ *   <li>origin and destination must differ</li>
+ *   <li>the date must be a real calendar date, not earlier than today (DateTimeChecker)</li>
+ *   <li>a number field (people, length_of_stay) made of digits but out of range is SEMANTIC,
+ *       as in the phase 2 error model</li>
+ * </ul>
+ *
+ * Valid input allocates nothing. Instances keep the last match and are not thread-safe:
+ * use one per thread or per parser. Checks are counted in {@link ValidationMetrics}
+ * when metrics are enabled.
+ */
+public final class CommandValidator {
+
+    // Field numbers (in input order) for the lines we validate
+    public static final int SEG_ORIGIN = 0;
+    public static final int SEG_DESTINATION = 1;
+    public static final int SEG_FLIGHT_NUMBER = 2;
+    public static final int SEG_DATE = 3;
+    public static final int SEG_CABIN = 4;
+    public static final int SEG_PEOPLE = 5;
+
+    public static final int SHOP_ORIGIN = 0;
+    public static final int SHOP_DESTINATION = 1;
+
+    private static final Map<String, String> FIELD_MESSAGES = Map.of(
+            "airport", "airport must be 3 uppercase letters",
+            "flight_number", "flight number must be 2 uppercase letters and 1-4 digits",
+            "date", "date must be YYYY-MM-DD with month 01-12 and day 01-31",
+            "cabin", "cabin must be one of P F J C S Y",
+            "length_of_stay", "length of stay must be a number 0-20",
+            "people", "people must be a number 1-10");
+
+    private static final Map<String, String> RANGE_MESSAGES = Map.of(
+            "length_of_stay", "length of stay must be between 0 and 20",
+            "people", "people must be between 1 and 10");
+
+    // Compiled ahead of time (see PrecompiledGrammar), so class initialisation does not run the subset construction
+    private static final GrammarRecognizer SHOP_FLIGHT_FARE = PrecompiledGrammar.recognizer("shop_flight_fare");
+    private static final GrammarRecognizer SEG_LINE = PrecompiledGrammar.recognizer("seg_line");
+
+    private final GrammarRecognizer.Match match = new GrammarRecognizer.Match(8);
+    private int lineEnd;
+
+    /**
+     * Validate a {@code shop flight fare} command.
+     *
+     * @param command    the command text, without a trailing newline
+     * @param lineNumber line number to put in the error
+     * @return null if valid, otherwise the first error
+     */
+    public CommandError checkShopFlightFare(CharSequence command, long lineNumber) {
+
+        if (!ValidationMetrics.ENABLED){
+            return shopFlightFare(command, lineNumber);
+        }
+        long start = System.nanoTime();
+        CommandError error = shopFlightFare(command, lineNumber);
+        ValidationMetrics.recordCommand(ValidationMetrics.Operation.SHOP_FLIGHT_FARE, error, System.nanoTime() - start);
+        return error;
+    }
+
+    private CommandError shopFlightFare(CharSequence command, long lineNumber) {
+
+        if (!SHOP_FLIGHT_FARE.recognize(command, match)){
+            return syntaxError(SHOP_FLIGHT_FARE, command, lineNumber);
+        }
+        return shopSemantics(command, lineNumber);
+    }
+
+    /**
+     * Validate a {@code shop flight fare} command held as ASCII bytes.
+     *
+     * @param bytes      buffer holding the command
+     * @param offset     index of the first byte
+     * @param length     number of bytes, without a trailing newline
+     * @param lineNumber line number to put in the error
+     * @return null if valid, otherwise the first error
+     */
+    public CommandError checkShopFlightFare(byte[] bytes, int offset, int length, long lineNumber) {
+
+        if (!ValidationMetrics.ENABLED){
+            return shopFlightFare(bytes, offset, length, lineNumber);
+        }
+        long start = System.nanoTime();
+        CommandError error = shopFlightFare(bytes, offset, length, lineNumber);
+        ValidationMetrics.recordCommand(ValidationMetrics.Operation.SHOP_FLIGHT_FARE, error, System.nanoTime() - start);
+        return error;
+    }
+
+    private CommandError shopFlightFare(byte[] bytes, int offset, int length, long lineNumber) {
+
+        if (!SHOP_FLIGHT_FARE.recognize(bytes, offset, length, match)){
+            return syntaxError(SHOP_FLIGHT_FARE, new AsciiSequence(bytes, offset, length), lineNumber);
+        }
+
+        int origin = offset + match.getFieldStart(SHOP_ORIGIN);
+        int destination = offset + match.getFieldStart(SHOP_DESTINATION);
+        if (sameAirport(bytes, origin, destination)){
+            return new CommandError(CommandError.Kind.SEMANTIC, lineNumber, destination - offset + 1,
+                    "origin and destination must differ");
+        }
+        // The date is always the last field, for both OneWay and Return
+        int date = offset + match.getFieldStart(match.getFieldCount() - 1);
+        if (!DateTimeChecker.isValidDate(bytes, date, 10)){
+            return new CommandError(CommandError.Kind.SEMANTIC, lineNumber, date - offset + 1,
+                    "date must be a real date not earlier than today");
+        }
+        return null;
+    }
+
+    /**
+     * Validate a {@code seg} line held as ASCII bytes. On success the field positions
+     * are available from {@link #getFieldStart(int)} (SEG_* constants).
+     *
+     * @param bytes      buffer holding the line
+     * @param offset     index of the first byte
+     * @param length     number of bytes, without the newline
+     * @param lineNumber line number to put in the error
+     * @return null if valid, otherwise the first error
+     */
+    public CommandError checkSegLine(byte[] bytes, int offset, int length, long lineNumber) {
+
+        if (!ValidationMetrics.ENABLED){
+            return segLine(bytes, offset, length, lineNumber);
+        }
+        long start = System.nanoTime();
+        CommandError error = segLine(bytes, offset, length, lineNumber);
+        ValidationMetrics.recordCommand(ValidationMetrics.Operation.SEG_LINE, error, System.nanoTime() - start);
+        return error;
+    }
+
+    private CommandError segLine(byte[] bytes, int offset, int length, long lineNumber) {
+
+        if (!SEG_LINE.recognize(bytes, offset, length, match)){
+            return syntaxError(SEG_LINE, new AsciiSequence(bytes, offset, length), lineNumber);
+        }
+        lineEnd = length;
+
+        int origin = offset + match.getFieldStart(SEG_ORIGIN);
+        int destination = offset + match.getFieldStart(SEG_DESTINATION);
+        if (sameAirport(bytes, origin, destination)){
+            return new CommandError(CommandError.Kind.SEMANTIC, lineNumber, destination - offset + 1,
+                    "origin and destination must differ");
+        }
+        int date = offset + match.getFieldStart(SEG_DATE);
+        if (!DateTimeChecker.isValidDate(bytes, date, 10)){
+            return new CommandError(CommandError.Kind.SEMANTIC, lineNumber, date - offset + 1,
+                    "date must be a real date not earlier than today");
+        }
+        return null;
+    }
+
+    /**
+     * Build the segment for the seg line just accepted by
+     * {@link #checkSegLine(byte[], int, int, long)}. Codes are packed straight from
+     * the bytes, so no Strings are created.
+     *
+     * @param bytes      the same buffer passed to checkSegLine
+     * @param offset     the same offset passed to checkSegLine
+     * @param lineNumber line number to give the segment
+     * @return the segment
+     */
+    public SegmentLine toSegmentLine(byte[] bytes, int offset, long lineNumber) {
+
+        int flight = offset + match.getFieldStart(SEG_FLIGHT_NUMBER);
+        int date = offset + match.getFieldStart(SEG_DATE);
+        int people = offset + match.getFieldStart(SEG_PEOPLE);
+        int end = offset + lineEnd;
+
+        int numPeople = bytes[people] - '0';
+        if (people + 1 < end){
+            numPeople = numPeople * 10 + bytes[people + 1] - '0';
+        }
+        int year = twoDigits(bytes, date) * 100 + twoDigits(bytes, date + 2);
+
+        return new SegmentLine(lineNumber,
+                IataCodes.airport(bytes, offset + match.getFieldStart(SEG_ORIGIN)),
+                IataCodes.airport(bytes, offset + match.getFieldStart(SEG_DESTINATION)),
+                IataCodes.flightNumber(bytes, flight, date - 1 - flight),
+                DateTimeChecker.dateKey(year, twoDigits(bytes, date + 5), twoDigits(bytes, date + 8)),
+                IataCodes.cabin((char) bytes[offset + match.getFieldStart(SEG_CABIN)]),
+                numPeople);
+    }
+
+    /**
+     * Validate a {@code seg} line given as characters.
+     *
+     * @param line       the seg line, without the newline
+     * @param lineNumber line number to put in the error
+     * @return null if valid, otherwise the first error
+     */
+    public CommandError checkSegLine(CharSequence line, long lineNumber) {
+
+        if (!ValidationMetrics.ENABLED){
+            return segLine(line, lineNumber);
+        }
+        long start = System.nanoTime();
+        CommandError error = segLine(line, lineNumber);
+        ValidationMetrics.recordCommand(ValidationMetrics.Operation.SEG_LINE, error, System.nanoTime() - start);
+        return error;
+    }
+
+    private CommandError segLine(CharSequence line, long lineNumber) {
+
+        if (!SEG_LINE.recognize(line, match)){
+            return syntaxError(SEG_LINE, line, lineNumber);
+        }
+        int origin = match.getFieldStart(SEG_ORIGIN);
+        int destination = match.getFieldStart(SEG_DESTINATION);
+        if (sameAirport(line, origin, destination)){
+            return new CommandError(CommandError.Kind.SEMANTIC, lineNumber, destination + 1,
+                    "origin and destination must differ");
+        }
+        int date = match.getFieldStart(SEG_DATE);
+        if (!DateTimeChecker.isValidDate(line, date, 10)){
+            return new CommandError(CommandError.Kind.SEMANTIC, lineNumber, date + 1,
+                    "date must be a real date not earlier than today");
+        }
+        return null;
+    }
+
+    /**
+     * @param field field number from the last successful check (SEG_* / SHOP_* constants)
+     * @return index of the field's first character, relative to the start of the line
+     */
+    public int getFieldStart(int field) {
+        return match.getFieldStart(field);
+    }
+
+    /**
+     * @return number of fields in the last successful check
+     *         (shop flight fare: 4 for OneWay, 5 for Return)
+     */
+    public int getFieldCount() {
+        return match.getFieldCount();
+    }
+
+    private CommandError shopSemantics(CharSequence command, long lineNumber) {
+
+        int origin = match.getFieldStart(SHOP_ORIGIN);
+        int destination = match.getFieldStart(SHOP_DESTINATION);
+        if (sameAirport(command, origin, destination)){
+            return new CommandError(CommandError.Kind.SEMANTIC, lineNumber, destination + 1,
+                    "origin and destination must differ");
+        }
+        // The date is always the last field, for both OneWay and Return
+        int date = match.getFieldStart(match.getFieldCount() - 1);
+        if (!DateTimeChecker.isValidDate(command, date, 10)){
+            return new CommandError(CommandError.Kind.SEMANTIC, lineNumber, date + 1,
+                    "date must be a real date not earlier than today");
+        }
+        return null;
+    }
+
+    /**
+     * Build the error for a failed recognition. A number field that is all digits but
+     * outside the grammar's range is reported as SEMANTIC; everything else is SYNTACTIC.
+     */
+    private CommandError syntaxError(GrammarRecognizer recognizer, CharSequence line, long lineNumber) {
+
+        String field = recognizer.failFieldName(match);
+        int start = match.getFailFieldStart();
+
+        if (field == null){
+            String message = match.getFailPosition() >= line.length()
+                    ? "line ended early" : "unexpected character for " + recognizer.getRuleName();
+            return new CommandError(CommandError.Kind.SYNTACTIC, lineNumber, match.getFailPosition() + 1, message);
+        }
+
+        if (RANGE_MESSAGES.containsKey(field) && isNumberToken(line, start)){
+            return new CommandError(CommandError.Kind.SEMANTIC, lineNumber, start + 1, RANGE_MESSAGES.get(field));
+        }
+        return new CommandError(CommandError.Kind.SYNTACTIC, lineNumber, start + 1, FIELD_MESSAGES.get(field));
+    }
+
+    /**
+     * Utility: check the space-delimited token starting at index is 1–2 digits without a leading zero.
+     */
+    private static boolean isNumberToken(CharSequence line, int start) {
+
+        int end = start;
+        while (end < line.length() && line.charAt(end) != ' ') {
+            char c = line.charAt(end);
+            if (c < '0' || c > '9'){
+                return false;
+            }
+            end++;
+        }
+        int digits = end - start;
+        return digits == 1 || (digits == 2 && line.charAt(start) != '0');
+    }
+
+    private static int twoDigits(byte[] bytes, int at) {
+
+        return (bytes[at] - '0') * 10 + (bytes[at + 1] - '0');
+    }
+
+    private static boolean sameAirport(CharSequence line, int first, int second) {
+
+        return line.charAt(first) == line.charAt(second)
+                && line.charAt(first + 1) == line.charAt(second + 1)
+                && line.charAt(first + 2) == line.charAt(second + 2);
+    }
+
+    private static boolean sameAirport(byte[] bytes, int first, int second) {
+
+        return bytes[first] == bytes[second]
+                && bytes[first + 1] == bytes[second + 1]
+                && bytes[first + 2] == bytes[second + 2];
+    }
+
+    /**
+     * CharSequence view over ASCII bytes, used only on the error path.
+     */
+    private static final class AsciiSequence implements CharSequence {
+
+        private final byte[] bytes;
+        private final int offset;
+        private final int length;
+
+        AsciiSequence(byte[] bytes, int offset, int length) {
+
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[offset + index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new AsciiSequence(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for CommandValidator, following the ShopFlightFareCommand ISP cases
+ * (SFC1–SFC3) and the SegmentSubcommand cases (SS-TC1–SS-TC6) from Task 5.2,
+ * applied to command text.
+ */
+public class CommandValidatorTest {
+
+    private CommandValidator validator;
+
+    @BeforeEach
+    public void setUp() {
+        // fixed "today" so the date rules are deterministic
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+        validator = new CommandValidator();
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    @Test
+    public void testShopFlightFare_SFC1_OneWayValid() {
+        assertNull(validator.checkShopFlightFare("shop flight fare PER SYD OneWay Y 2030-01-02", 1));
+        assertEquals(4, validator.getFieldCount());
+    }
+
+    @Test
+    public void testShopFlightFare_ReturnValid_Bytes() {
+        byte[] command = "shop flight fare PER SYD Return 20 J 2030-01-01".getBytes(StandardCharsets.US_ASCII);
+        assertNull(validator.checkShopFlightFare(command, 0, command.length, 1));
+        assertEquals(5, validator.getFieldCount());
+    }
+
+    @Test
+    public void testShopFlightFare_SFC2_LengthOfStayOutOfRange() {
+        // LOS = 25 is well-formed digits but outside 0–20: semantic
+        CommandError error = validator.checkShopFlightFare("shop flight fare PER SYD Return 25 Y 2030-01-02", 1);
+        assertEquals(CommandError.Kind.SEMANTIC, error.getKind());
+        assertEquals(33, error.getColumn());
+    }
+
+    @Test
+    public void testShopFlightFare_SFC3_DateBeforeToday() {
+        CommandError error = validator.checkShopFlightFare("shop flight fare PER SYD OneWay Y 2029-12-31", 1);
+        assertEquals(CommandError.Kind.SEMANTIC, error.getKind());
+        assertEquals(35, error.getColumn());
+    }
+
+    @Test
+    public void testShopFlightFare_SyntacticErrors() {
+        // 2-letter airport, unknown trip type, bad cabin
+        assertEquals(CommandError.Kind.SYNTACTIC,
+                validator.checkShopFlightFare("shop flight fare PE SYD OneWay Y 2030-01-02", 1).getKind());
+        assertEquals(CommandError.Kind.SYNTACTIC,
+                validator.checkShopFlightFare("shop flight fare PER SYD Roundtrip Y 2030-01-02", 1).getKind());
+        assertEquals(CommandError.Kind.SYNTACTIC,
+                validator.checkShopFlightFare("shop flight fare PER SYD OneWay Q 2030-01-02", 1).getKind());
+    }
+
+    @Test
+    public void testShopFlightFare_SameOriginDestination() {
+        CommandError error = validator.checkShopFlightFare("shop flight fare PER PER OneWay Y 2030-01-02", 1);
+        assertEquals(CommandError.Kind.SEMANTIC, error.getKind());
+    }
+
+    @Test
+    public void testSegLine_SS_TC1_Valid() {
+        assertNull(validator.checkSegLine("seg PER SYD QF123 2099-01-01 Y 1", 1));
+        assertEquals(29, validator.getFieldStart(CommandValidator.SEG_CABIN));
+    }
+
+    @Test
+    public void testSegLine_SS_TC4_PeopleOutOfRange() {
+        // 0 and 11 are out of range (semantic); 011 is not a number in the grammar (syntactic)
+        assertEquals(CommandError.Kind.SEMANTIC, validator.checkSegLine("seg PER SYD QF123 2099-01-01 Y 0", 1).getKind());
+        assertEquals(CommandError.Kind.SEMANTIC, validator.checkSegLine("seg PER SYD QF123 2099-01-01 Y 11", 1).getKind());
+        assertEquals(CommandError.Kind.SYNTACTIC, validator.checkSegLine("seg PER SYD QF123 2099-01-01 Y 011", 1).getKind());
+    }
+
+    @Test
+    public void testSegLine_SS_TC5_TC6_SyntacticFields() {
+        CommandError badIata = validator.checkSegLine("seg P3R SYD QF123 2099-01-01 Y 1", 7);
+        assertEquals(CommandError.Kind.SYNTACTIC, badIata.getKind());
+        assertEquals(7, badIata.getLine());
+        assertEquals(5, badIata.getColumn());
+
+        CommandError badFlight = validator.checkSegLine("seg PER SYD 12345 2099-01-01 Y 1", 1);
+        assertEquals(CommandError.Kind.SYNTACTIC, badFlight.getKind());
+        assertEquals(13, badFlight.getColumn());
+    }
+}
@@ -1,3 +1,8 @@
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Utilty class to check date and datetime strings
  * correctly formmatted for the Taohi Flight Booking System commands.
@@ -18,49 +23,150 @@ public class DateTimeChecker {
         31, 31, 30, 31, 30, 31
     };
 
+    // Days in months indexed by (month & 15); 0 for anything that is not a month 1–12
+    private static final int[] DAYS_IN_MONTH_MASKED = {
+        0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31, 0, 0, 0
+    };
+
+    // Constants for the closed-form epoch-day conversion
+    private static final long SECONDS_PER_DAY = 24L * 60 * 60;
+    private static final long DAYS_PER_ERA = 146097;              // days in 400 Gregorian years
+    private static final long DAYS_0000_03_01_TO_EPOCH = 719468;  // 0000-03-01 .. 1970-01-01
+
+    // Precomputed calendar for the years served most: one int per month,
+    // (epoch day of the 1st << 5) | days in the month. Other years fall back to arithmetic.
+    static final int CALENDAR_FIRST_YEAR = 2000;
+    static final int CALENDAR_LAST_YEAR = 2099;
+    private static final int[] CALENDAR = buildCalendar();
+
+    /**
+     * Returned by {@link #encodeDateTime(CharSequence)} for input that is not a valid datetime.
+     */
+    public static final long INVALID_EPOCH_MINUTE = Long.MIN_VALUE;
+
+    // Source of today's date for the "≥ today" check
+    private static volatile TodayClock todayClock = TodayClock.system();
+
+    /**
+     * Replace the clock used for the "≥ today" check (e.g. a fixed clock in tests).
+     *
+     * @param clock clock to use from now on
+     */
+    public static void setTodayClock(TodayClock clock) {
+
+        if (clock == null){
+            throw new IllegalArgumentException("clock must not be null");
+        }
+        todayClock = clock;
+    }
+
+    /**
+     * @return the clock currently used for the "≥ today" check
+     */
+    public static TodayClock getTodayClock() {
+
+        return todayClock;
+    }
+
     /**
      * Check if a string is a valid date of the form YYYY-MM-DD and the date is not earlier than today's date.
      * @param input date string in format YYYY-MM-DD
-     * @return ue if the date is syntactically and semantically valid and ≥ today
+     * @return true if the date is syntactically and semantically valid and ≥ today
      */
     public static boolean isValidDate(String input) {
 
-        if (input == null || input.length() != 10){
-            return false;
+        return isValidDate((CharSequence) input);
+    }
+
+    /**
+     * Check if a character sequence is a valid date of the form YYYY-MM-DD ≥ today.
+     * Same rules as {@link #isValidDate(String)}, without needing a String.
+     *
+     * @param input date characters in format YYYY-MM-DD
+     * @return true if the date is syntactically and semantically valid and ≥ today
+     */
+    public static boolean isValidDate(CharSequence input) {
+
+        if (!ValidationMetrics.ENABLED){
+            return checkDate(input);
         }
-        if (input.charAt(4) != '-' || input.charAt(7) != '-'){
+        long start = System.nanoTime();
+        DateTimeResult result = validate(input, false, null);
+        ValidationMetrics.recordDate(ValidationMetrics.Operation.IS_VALID_DATE, result, System.nanoTime() - start);
+        return result.isValid();
+    }
+
+    private static boolean checkDate(CharSequence input) {
+
+        if (input == null || input.length() != 10){
             return false;
         }
+        return isValidDatePrefix(input);
+    }
 
-        String yearStr = input.substring(0, 4);
-        String monthStr = input.substring(5, 7);
-        String dayStr = input.substring(8, 10);
+    /**
+     * Check if characters [offset, offset + length) of a sequence are a valid date of the form YYYY-MM-DD ≥ today.
+     * Lets a field inside a longer line be checked without taking a substring.
+     *
+     * @param input  characters holding the date
+     * @param offset index of the first character of the date
+     * @param length number of characters in the date field
+     * @return true if the date is syntactically and semantically valid and ≥ today
+     * @throws IndexOutOfBoundsException if the range is outside the sequence
+     */
+    public static boolean isValidDate(CharSequence input, int offset, int length) {
 
-        if (!isAllDigits(yearStr) || !isAllDigits(monthStr) || !isAllDigits(dayStr)){
+        if (input == null){
             return false;
         }
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (length != 10){
+            return false;
+        }
+        return isValidDatePrefix(input, offset);
+    }
 
-        int year = Integer.parseInt(yearStr);
-        int month = Integer.parseInt(monthStr);
-        int day = Integer.parseInt(dayStr);
+    /**
+     * Check if ASCII bytes[offset, offset + length) are a valid date of the form YYYY-MM-DD ≥ today.
+     *
+     * @param bytes  buffer holding the date
+     * @param offset index of the first byte of the date
+     * @param length number of bytes in the date field
+     * @return true if the date is syntactically and semantically valid and ≥ today
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public static boolean isValidDate(byte[] bytes, int offset, int length) {
 
-        if (month < 1 || month > 12){
+        if (bytes == null){
+            return false;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length != 10){
             return false;
         }
-        int maxDay = DAYS_IN_MONTH[month - 1];
+        return isValidDatePrefix(bytes, offset);
+    }
 
-        // Leap year check
-        if (month == 2 && isLeapYear(year)){
-            maxDay = 29;
+    /**
+     * Check if ASCII bytes [offset, offset + length) of a buffer are a valid date of the form YYYY-MM-DD ≥ today.
+     * Uses absolute reads, so the buffer position is not changed and direct or mapped buffers are not copied.
+     *
+     * @param buffer buffer holding the date
+     * @param offset absolute index of the first byte of the date
+     * @param length number of bytes in the date field
+     * @return true if the date is syntactically and semantically valid and ≥ today
+     * @throws IndexOutOfBoundsException if the range is outside the buffer limit
+     */
+    public static boolean isValidDate(ByteBuffer buffer, int offset, int length) {
+
+        if (buffer == null){
+            return false;
         }
-        if (day < 1 || day > maxDay){
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+        if (length != 10){
             return false;
         }
-
-        // Compare with today's date
-        int[] now = getCurrentDateParts(); // {year, month, day}
-        int cmp = compareDateParts(year, month, day, now[0], now[1], now[2]);
-        return cmp >= 0;
+        return isValidDatePrefix(buffer, offset);
     }
 
     /**
@@ -74,165 +180,770 @@ public class DateTimeChecker {
      */
     public static boolean isValidDateTime(String input) {
 
+        return isValidDateTime((CharSequence) input);
+    }
+
+    /**
+     * Check if a character sequence is a valid datetime of the form YYYY-MM-DDTHH:MM.
+     * Same rules as {@link #isValidDateTime(String)}, without needing a String.
+     *
+     * @param input datetime characters
+     * @return true if the datetime is valid, false otherwise.
+     */
+    public static boolean isValidDateTime(CharSequence input) {
+
+        if (!ValidationMetrics.ENABLED){
+            return checkDateTime(input);
+        }
+        long start = System.nanoTime();
+        DateTimeResult result = validate(input, true, null);
+        ValidationMetrics.recordDate(ValidationMetrics.Operation.IS_VALID_DATE_TIME, result, System.nanoTime() - start);
+        return result.isValid();
+    }
+
+    private static boolean checkDateTime(CharSequence input) {
+
         if (input == null){
             return false;
         }
 
-        if (input.length() == 10
-                && input.charAt(4) == '-'
-                && input.charAt(7) == '-') {
-            return isValidDate(input);
+        if (input.length() == 10){
+            return isValidDatePrefix(input);
         }
 
         if (input.length() != 16
-                || input.charAt(4) != '-'
-                || input.charAt(7) != '-'
                 || input.charAt(10) != 'T'
                 || input.charAt(13) != ':') {
             return false;
         }
 
-        String datePart = input.substring(0, 10);
-        String hourStr = input.substring(11, 13);
-        String minuteStr = input.substring(14, 16);
+        if (!isValidDatePrefix(input)){
+            return false;
+        }
 
-        if (!isValidDate(datePart)){
+        return isValidTime(twoDigits(input, 11), twoDigits(input, 14));
+    }
+
+    /**
+     * Check if ASCII bytes[offset, offset + length) are a valid datetime of the form YYYY-MM-DDTHH:MM.
+     *
+     * @param bytes  buffer holding the datetime
+     * @param offset index of the first byte of the datetime
+     * @param length number of bytes in the datetime field
+     * @return true if the datetime is valid, false otherwise.
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public static boolean isValidDateTime(byte[] bytes, int offset, int length) {
+
+        if (bytes == null){
             return false;
         }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+
+        if (length == 10){
+            return isValidDatePrefix(bytes, offset);
+        }
 
-        if (!isAllDigits(hourStr) || !isAllDigits(minuteStr)){
+        if (length != 16
+                || bytes[offset + 10] != 'T'
+                || bytes[offset + 13] != ':') {
             return false;
         }
 
-        int hour = Integer.parseInt(hourStr);
-        int minute = Integer.parseInt(minuteStr);
-        return (hour >= 0 && hour <= 23) && (minute >= 0 && minute <= 59);
+        if (!isValidDatePrefix(bytes, offset)){
+            return false;
+        }
+
+        return isValidTime(twoDigits(bytes, offset + 11), twoDigits(bytes, offset + 14));
+    }
+
+    /**
+     * Check if ASCII bytes [offset, offset + length) of a buffer are a valid datetime of the form YYYY-MM-DDTHH:MM.
+     * Uses absolute reads, so the buffer position is not changed and direct or mapped buffers are not copied.
+     *
+     * @param buffer buffer holding the datetime
+     * @param offset absolute index of the first byte of the datetime
+     * @param length number of bytes in the datetime field
+     * @return true if the datetime is valid, false otherwise.
+     * @throws IndexOutOfBoundsException if the range is outside the buffer limit
+     */
+    public static boolean isValidDateTime(ByteBuffer buffer, int offset, int length) {
+
+        if (buffer == null){
+            return false;
+        }
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+
+        if (length == 10){
+            return isValidDatePrefix(buffer, offset);
+        }
+
+        if (length != 16
+                || buffer.get(offset + 10) != 'T'
+                || buffer.get(offset + 13) != ':') {
+            return false;
+        }
+
+        if (!isValidDatePrefix(buffer, offset)){
+            return false;
+        }
+
+        return isValidTime(twoDigits(buffer, offset + 11), twoDigits(buffer, offset + 14));
     }
 
+    /**
+     * Parsed value of a date or datetime accepted by {@link #validateDate(CharSequence, Parsed)}
+     * or {@link #validateDateTime(CharSequence, Parsed)}. Reuse one instance per thread;
+     * the fields are only written when the result is OK.
+     */
+    public static final class Parsed {
+
+        private int epochDay;
+        private int minuteOfDay;
+
         /**
-         * Utility: check if all characters in string are digits.
-         *
-         * @param s input string
-         * @return true if all characters are digits
+         * @return days since 1970-01-01
          */
-    private static boolean isAllDigits(String s) {
+        public int getEpochDay() {
+            return epochDay;
+        }
 
-        for (char c : s.toCharArray()) {
-            if (!Character.isDigit(c)) return false;
+        /**
+         * @return minutes since midnight (0 for a date alone)
+         */
+        public int getMinuteOfDay() {
+            return minuteOfDay;
+        }
+
+        /**
+         * @return minutes since 1970-01-01T00:00 (UTC)
+         */
+        public long getEpochMinute() {
+            return epochDay * 1440L + minuteOfDay;
         }
-        return true;
     }
 
+    /**
+     * Check a date (YYYY-MM-DD, ≥ today) and say why it was rejected, in one pass.
+     * Same rules as {@link #isValidDate(CharSequence)}. Allocates nothing and does not throw.
+     *
+     * @param input  date characters
+     * @param parsed receives the epoch day if the date is OK; may be null
+     * @return OK or the first rule broken (see {@link DateTimeResult#getKind()})
+     */
+    public static DateTimeResult validateDate(CharSequence input, Parsed parsed) {
+
+        return validate(input, false, parsed);
+    }
 
     /**
-     * Utility: check if a given year is a leap year.
+     * Check a datetime (YYYY-MM-DDTHH:MM or YYYY-MM-DD, date ≥ today) and say why it was
+     * rejected, in one pass. Same rules as {@link #isValidDateTime(CharSequence)}.
+     * Allocates nothing and does not throw.
      *
-     * @param year input year
-     * @return true if leap year, false otherwise
+     * @param input  datetime characters
+     * @param parsed receives the epoch day and minute if the datetime is OK; may be null
+     * @return OK or the first rule broken (see {@link DateTimeResult#getKind()})
      */
-    private static boolean isLeapYear(int year) {
+    public static DateTimeResult validateDateTime(CharSequence input, Parsed parsed) {
 
-        return (year % 4 == 0 && year % 100 != 0) || (year % 400 == 0);
+        return validate(input, true, parsed);
     }
 
     /**
-     * Utility: compute the current system date parts (year, month, day).
-     * Uses System.currentTimeMillis() and manual conversion.
+     * ASCII bytes[offset, offset + length) version of {@link #validateDate(CharSequence, Parsed)}.
      *
-     * Output format: {year, month, day}
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public static DateTimeResult validateDate(byte[] bytes, int offset, int length, Parsed parsed) {
+
+        return validate(bytes, offset, length, false, parsed);
+    }
+
+    /**
+     * ASCII bytes[offset, offset + length) version of {@link #validateDateTime(CharSequence, Parsed)}.
      *
-     * @return int array of size 3 with year, month, day
+     * @throws IndexOutOfBoundsException if the range is outside the array
      */
-    private static int[] getCurrentDateParts() {
+    public static DateTimeResult validateDateTime(byte[] bytes, int offset, int length, Parsed parsed) {
 
-        long millis = System.currentTimeMillis();
-        long millisWithOffset = millis + 8L * 60 * 60 * 1000;
-        long daysSinceEpoch = millisWithOffset / (1000 * 60 * 60 * 24);
-        int year = 1970;
-        int month = 1;
+        return validate(bytes, offset, length, true, parsed);
+    }
 
-        while (true) {
-            int daysInYear = isLeapYear(year) ? 366 : 365;
-            if (daysSinceEpoch < daysInYear){
-                break;
-            }
-            daysSinceEpoch -= daysInYear;
-            year++;
+    /**
+     * Check a datetime and encode it as minutes since 1970-01-01T00:00 UTC in one pass.
+     * Same rules as {@link #isValidDateTime(CharSequence)}: a date alone is its midnight.
+     * Allocates nothing and does not throw.
+     *
+     * @param input datetime characters (YYYY-MM-DDTHH:MM or YYYY-MM-DD)
+     * @return epoch minute, or {@link #INVALID_EPOCH_MINUTE} if the datetime is not valid
+     */
+    public static long encodeDateTime(CharSequence input) {
+
+        int length = input == null ? 0 : input.length();
+        if (length != 10 && length != 16){
+            return INVALID_EPOCH_MINUTE;
+        }
+        boolean hasTime = length == 16;
+        if (input.charAt(4) != '-' || input.charAt(7) != '-'
+                || (hasTime && (input.charAt(10) != 'T' || input.charAt(13) != ':'))){
+            return INVALID_EPOCH_MINUTE;
         }
+        return encodeFields(twoDigits(input, 0), twoDigits(input, 2), twoDigits(input, 5), twoDigits(input, 8),
+                hasTime ? twoDigits(input, 11) : 0, hasTime ? twoDigits(input, 14) : 0);
+    }
 
-        int[] dim = DAYS_IN_MONTH.clone();
-        if (isLeapYear(year)){
-            dim[1] = 29;
+    /**
+     * ASCII bytes[offset, offset + length) version of {@link #encodeDateTime(CharSequence)}.
+     *
+     * @return epoch minute, or {@link #INVALID_EPOCH_MINUTE} if the datetime is not valid
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public static long encodeDateTime(byte[] bytes, int offset, int length) {
+
+        if (bytes == null){
+            return INVALID_EPOCH_MINUTE;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length != 10 && length != 16){
+            return INVALID_EPOCH_MINUTE;
         }
+        boolean hasTime = length == 16;
+        if (bytes[offset + 4] != '-' || bytes[offset + 7] != '-'
+                || (hasTime && (bytes[offset + 10] != 'T' || bytes[offset + 13] != ':'))){
+            return INVALID_EPOCH_MINUTE;
+        }
+        return encodeFields(twoDigits(bytes, offset), twoDigits(bytes, offset + 2),
+                twoDigits(bytes, offset + 5), twoDigits(bytes, offset + 8),
+                hasTime ? twoDigits(bytes, offset + 11) : 0, hasTime ? twoDigits(bytes, offset + 14) : 0);
+    }
 
-        while (month <= 12) {
-            int daysInMonth = dim[month - 1];
-            if (daysSinceEpoch < daysInMonth){
-                break;
+    /**
+     * Check a column of dates (YYYY-MM-DD, ≥ today) in one call.
+     * Today's date is looked up once for the whole batch.
+     *
+     * @param inputs date strings; null entries are invalid
+     * @return bit i set if inputs[i] is a valid date
+     */
+    public static BitSet validateDates(CharSequence[] inputs) {
+
+        int today = todayClock.today();
+        long[] words = new long[(inputs.length + 63) >>> 6];
+        for (int i = 0; i < inputs.length; i++) {
+            CharSequence input = inputs[i];
+            if (input == null || input.length() != 10){
+                continue;
             }
-            daysSinceEpoch -= daysInMonth;
-            month++;
+            boolean valid = input.charAt(4) == '-' & input.charAt(7) == '-'
+                    & isValidDateFieldsBatch(twoDigits(input, 0), twoDigits(input, 2),
+                            twoDigits(input, 5), twoDigits(input, 8), today);
+            words[i >>> 6] |= (valid ? 1L : 0L) << i;
         }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Check a list of dates (YYYY-MM-DD, ≥ today) in one call.
+     *
+     * @param inputs date strings; null entries are invalid
+     * @return bit i set if inputs.get(i) is a valid date
+     */
+    public static BitSet validateDates(List<? extends CharSequence> inputs) {
 
-        int day = (int) daysSinceEpoch + 1;
-        return new int[] {year, month, day};
+        return validateDates(inputs.toArray(new CharSequence[0]));
     }
 
     /**
-     * Utility: compare two dates y1-m1-d1 and y2-m2-d2.
+     * Check fixed-width ASCII records packed in one byte array, each starting with a date (YYYY-MM-DD, ≥ today).
+     * Record i starts at offset + i * stride. Today's date is looked up once for the whole batch.
      *
-     * @return negative if first < second, 0 if equal, positive if first > second
+     * @param records packed records
+     * @param offset  index of the first record
+     * @param stride  bytes from one record to the next (at least 10)
+     * @param count   number of records
+     * @return bit i set if record i starts with a valid date
+     * @throws IllegalArgumentException  if stride is less than 10 or count is negative
+     * @throws IndexOutOfBoundsException if the records do not fit in the array
      */
-    private static int compareDateParts(int y1, int m1, int d1, int y2, int m2, int d2) {
+    public static BitSet validateDates(byte[] records, int offset, int stride, int count) {
 
-        if (y1 != y2){
-            return y1 - y2;
+        if (stride < 10 || count < 0){
+            throw new IllegalArgumentException("stride must be at least 10 and count non-negative");
         }
-        if (m1 != m2){
-            return m1 - m2;
+        long span = count == 0 ? 0 : (long) (count - 1) * stride + 10;
+        if (offset < 0 || offset + span > records.length){
+            throw new IndexOutOfBoundsException("records do not fit in array of length " + records.length);
         }
-        return d1 - d2;
+
+        int today = todayClock.today();
+        long[] words = new long[(count + 63) >>> 6];
+        for (int i = 0, at = offset; i < count; i++, at += stride) {
+            boolean valid = records[at + 4] == '-' & records[at + 7] == '-'
+                    & isValidDateFieldsBatch(twoDigits(records, at), twoDigits(records, at + 2),
+                            twoDigits(records, at + 5), twoDigits(records, at + 8), today);
+            words[i >>> 6] |= (valid ? 1L : 0L) << i;
+        }
+        return BitSet.valueOf(words);
     }
 
     /**
-     * Utility: parse a datetime string "YYYY-MM-DDTHH:MM:SS" to seconds since epoch (1970-01-01).
+     * Utility: one-pass check of a date or datetime, with the reason and parsed values.
      *
-     * Input: string input in correct format
-     * Assumptions: input already validated by isValidDateTime
-     * Output: epoch seconds
+     * @param input    date or datetime characters
+     * @param dateTime true to also accept YYYY-MM-DDTHH:MM
+     * @param parsed   receives the parsed values if OK; may be null
+     * @return OK or the first rule broken
+     */
+    private static DateTimeResult validate(CharSequence input, boolean dateTime, Parsed parsed) {
+
+        int length = input == null ? 0 : input.length();
+        if (length != 10 && !(dateTime && length == 16)){
+            return DateTimeResult.BAD_LENGTH;
+        }
+        boolean hasTime = length == 16;
+        if (input.charAt(4) != '-' || input.charAt(7) != '-'
+                || (hasTime && (input.charAt(10) != 'T' || input.charAt(13) != ':'))){
+            return DateTimeResult.BAD_SEPARATOR;
+        }
+        return validateFields(twoDigits(input, 0), twoDigits(input, 2), twoDigits(input, 5), twoDigits(input, 8),
+                hasTime ? twoDigits(input, 11) : 0, hasTime ? twoDigits(input, 14) : 0, parsed);
+    }
+
+    /**
+     * Utility: byte[] version of {@link #validate(CharSequence, boolean, Parsed)}.
+     */
+    private static DateTimeResult validate(byte[] bytes, int offset, int length, boolean dateTime, Parsed parsed) {
+
+        if (bytes == null){
+            return DateTimeResult.BAD_LENGTH;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length != 10 && !(dateTime && length == 16)){
+            return DateTimeResult.BAD_LENGTH;
+        }
+        boolean hasTime = length == 16;
+        if (bytes[offset + 4] != '-' || bytes[offset + 7] != '-'
+                || (hasTime && (bytes[offset + 10] != 'T' || bytes[offset + 13] != ':'))){
+            return DateTimeResult.BAD_SEPARATOR;
+        }
+        return validateFields(twoDigits(bytes, offset), twoDigits(bytes, offset + 2),
+                twoDigits(bytes, offset + 5), twoDigits(bytes, offset + 8),
+                hasTime ? twoDigits(bytes, offset + 11) : 0, hasTime ? twoDigits(bytes, offset + 14) : 0, parsed);
+    }
+
+    /**
+     * Utility: check parsed fields in {@link DateTimeResult} order.
      *
-     * @param input datetime string
-     * @return epoch seconds (long)
+     * @param hour   hour, 0 for a date alone, or -1 if not digits (same for minute and the date fields)
+     * @param parsed receives the parsed values if OK; may be null
+     * @return OK or the first rule broken
      */
-    private static long toEpochSeconds(String input) {
+    private static DateTimeResult validateFields(int yearHigh, int yearLow, int month, int day,
+            int hour, int minute, Parsed parsed) {
 
-        String[] dateTimeParts = input.split("T");
-        String[] ymd = dateTimeParts[0].split("-");
-        String[] hms = dateTimeParts[1].split(":");
+        if ((yearHigh | yearLow | month | day | hour | minute) < 0){
+            return DateTimeResult.NON_DIGIT;
+        }
+        if (month < 1 || month > 12){
+            return DateTimeResult.MONTH_RANGE;
+        }
+        int year = yearHigh * 100 + yearLow;
+        if (day < 1 || day > daysInMonth(year, month)){
+            return DateTimeResult.DAY_RANGE;
+        }
+        if (dateKey(year, month, day) < todayClock.today()){
+            return DateTimeResult.BEFORE_TODAY;
+        }
+        if (hour > 23){
+            return DateTimeResult.HOUR_RANGE;
+        }
+        if (minute > 59){
+            return DateTimeResult.MINUTE_RANGE;
+        }
+        if (parsed != null){
+            parsed.epochDay = (int) epochDay(year, month, day);
+            parsed.minuteOfDay = hour * 60 + minute;
+        }
+        return DateTimeResult.OK;
+    }
 
-        int year = Integer.parseInt(ymd[0]);
-        int month = Integer.parseInt(ymd[1]);
-        int day = Integer.parseInt(ymd[2]);
-        int hour = Integer.parseInt(hms[0]);
-        int min = Integer.parseInt(hms[1]);
-        int sec = Integer.parseInt(hms[2]);
+    /**
+     * Utility: {@link #validateFields} returning the epoch minute instead of a reason.
+     *
+     * @return epoch minute, or INVALID_EPOCH_MINUTE if a rule is broken
+     */
+    private static long encodeFields(int yearHigh, int yearLow, int month, int day, int hour, int minute) {
 
-        long totalDays = 0;
-        for (int y = 1970; y < year; y++) {
-            totalDays += isLeapYear(y) ? 366 : 365;
+        if ((yearHigh | yearLow | month | day | hour | minute) < 0 || month < 1 || month > 12
+                || hour > 23 || minute > 59){
+            return INVALID_EPOCH_MINUTE;
         }
+        int year = yearHigh * 100 + yearLow;
+        if (day < 1 || day > daysInMonth(year, month) || dateKey(year, month, day) < todayClock.today()){
+            return INVALID_EPOCH_MINUTE;
+        }
+        return epochDay(year, month, day) * 1440 + hour * 60 + minute;
+    }
 
-        int[] dim = DAYS_IN_MONTH.clone();
-        if (isLeapYear(year)){
-            dim[1] = 29;
+    /**
+     * Utility: branch-light version of {@link #isValidDateFields} for batches, with today passed in.
+     * Uses non-short-circuit operators and a masked month table so the loop body has no early exits.
+     */
+    private static boolean isValidDateFieldsBatch(int yearHigh, int yearLow, int month, int day, int today) {
+
+        int year = yearHigh * 100 + yearLow;
+        int maxDay;
+        int tableYear = year - CALENDAR_FIRST_YEAR;
+        if (tableYear >= 0 & tableYear <= CALENDAR_LAST_YEAR - CALENDAR_FIRST_YEAR){
+            // a month outside 1–12 reads January and is rejected below
+            int monthIndex = month >= 1 & month <= 12 ? month - 1 : 0;
+            maxDay = CALENDAR[tableYear * 12 + monthIndex] & 31;
+        } else {
+            boolean leap = (year & 3) == 0 & (yearLow != 0 | (yearHigh & 3) == 0);
+            maxDay = DAYS_IN_MONTH_MASKED[month & 15] + (month == 2 & leap ? 1 : 0);
         }
+        return (yearHigh | yearLow | month | day) >= 0
+                & month >= 1 & month <= 12
+                & day >= 1 & day <= maxDay
+                & dateKey(year, month, day) >= today;
+    }
 
-        for (int m = 1; m < month; m++) {
-            totalDays += dim[m - 1];
+    /**
+     * Utility: check the first 10 characters of a sequence form a valid date ≥ today.
+     * Walks the characters once and allocates nothing.
+     *
+     * Assumptions: input has at least 10 characters
+     *
+     * @param input characters starting with YYYY-MM-DD
+     * @return true if the date part is valid and ≥ today
+     */
+    private static boolean isValidDatePrefix(CharSequence input) {
+
+        return isValidDatePrefix(input, 0);
+    }
+
+    /**
+     * Utility: check the 10 characters from offset form a valid date ≥ today.
+     *
+     * Assumptions: at least 10 characters from offset
+     */
+    private static boolean isValidDatePrefix(CharSequence input, int offset) {
+
+        if (input.charAt(offset + 4) != '-' || input.charAt(offset + 7) != '-'){
+            return false;
         }
+        return isValidDateFields(twoDigits(input, offset), twoDigits(input, offset + 2),
+                twoDigits(input, offset + 5), twoDigits(input, offset + 8));
+    }
+
+    /**
+     * Utility: byte[] version of {@link #isValidDatePrefix(CharSequence)}.
+     *
+     * Assumptions: at least 10 bytes from offset
+     */
+    private static boolean isValidDatePrefix(byte[] bytes, int offset) {
+
+        if (bytes[offset + 4] != '-' || bytes[offset + 7] != '-'){
+            return false;
+        }
+        return isValidDateFields(twoDigits(bytes, offset), twoDigits(bytes, offset + 2),
+                twoDigits(bytes, offset + 5), twoDigits(bytes, offset + 8));
+    }
+
+    /**
+     * Utility: ByteBuffer version of {@link #isValidDatePrefix(CharSequence)}.
+     *
+     * Assumptions: at least 10 bytes from offset
+     */
+    private static boolean isValidDatePrefix(ByteBuffer buffer, int offset) {
+
+        if (buffer.get(offset + 4) != '-' || buffer.get(offset + 7) != '-'){
+            return false;
+        }
+        return isValidDateFields(twoDigits(buffer, offset), twoDigits(buffer, offset + 2),
+                twoDigits(buffer, offset + 5), twoDigits(buffer, offset + 8));
+    }
+
+    /**
+     * Utility: check parsed date fields form a valid date ≥ today.
+     *
+     * @param yearHigh first two digits of the year, or -1 if not digits
+     * @param yearLow  last two digits of the year, or -1 if not digits
+     * @param month    month, or -1 if not digits
+     * @param day      day, or -1 if not digits
+     * @return true if the date is valid and ≥ today
+     */
+    private static boolean isValidDateFields(int yearHigh, int yearLow, int month, int day) {
+
+        int key = calendarDateKey(yearHigh, yearLow, month, day);
+        if (key < 0){
+            return false;
+        }
+
+        // Compare with today's date
+        return key >= todayClock.today();
+    }
+
+    /**
+     * Utility: check parsed date fields form a valid Gregorian date (no "today" check).
+     *
+     * @param yearHigh first two digits of the year, or -1 if not digits
+     * @param yearLow  last two digits of the year, or -1 if not digits
+     * @param month    month, or -1 if not digits
+     * @param day      day, or -1 if not digits
+     * @return YYYYMMDD key of the date, or -1 if it is not a valid date
+     */
+    private static int calendarDateKey(int yearHigh, int yearLow, int month, int day) {
+
+        // Any non-digit makes its field negative
+        if ((yearHigh | yearLow | month | day) < 0){
+            return -1;
+        }
+        int year = yearHigh * 100 + yearLow;
+
+        if (month < 1 || month > 12){
+            return -1;
+        }
+        if (day < 1 || day > daysInMonth(year, month)){
+            return -1;
+        }
+        return dateKey(year, month, day);
+    }
+
+    /**
+     * Utility: check parsed hour and minute form a valid 24 hour clock time.
+     *
+     * @param hour   hour, or -1 if not digits
+     * @param minute minute, or -1 if not digits
+     * @return true if 00:00 ≤ time ≤ 23:59
+     */
+    private static boolean isValidTime(int hour, int minute) {
+
+        return (hour >= 0 && hour <= 23) && (minute >= 0 && minute <= 59);
+    }
+
+    /**
+     * Utility: read two decimal digits starting at the given index.
+     *
+     * @param s input characters
+     * @param index position of the first digit
+     * @return the two-digit value, or -1 if either character is not a digit
+     */
+    private static int twoDigits(CharSequence s, int index) {
+
+        int high = digitValue(s.charAt(index));
+        int low = digitValue(s.charAt(index + 1));
+        if ((high | low) < 0){
+            return -1;
+        }
+        return high * 10 + low;
+    }
+
+    /**
+     * Utility: read two ASCII decimal digits starting at the given index.
+     *
+     * @return the two-digit value, or -1 if either byte is not an ASCII digit
+     */
+    private static int twoDigits(byte[] bytes, int index) {
+
+        int high = asciiDigitValue(bytes[index]);
+        int low = asciiDigitValue(bytes[index + 1]);
+        if ((high | low) < 0){
+            return -1;
+        }
+        return high * 10 + low;
+    }
 
-        totalDays += day - 1;
+    /**
+     * Utility: read two ASCII decimal digits starting at the given absolute index.
+     *
+     * @return the two-digit value, or -1 if either byte is not an ASCII digit
+     */
+    private static int twoDigits(ByteBuffer buffer, int index) {
+
+        int high = asciiDigitValue(buffer.get(index));
+        int low = asciiDigitValue(buffer.get(index + 1));
+        if ((high | low) < 0){
+            return -1;
+        }
+        return high * 10 + low;
+    }
+
+    /**
+     * Utility: value of a decimal digit character.
+     * Non-ASCII digits are accepted as Character.isDigit / Integer.parseInt accept them.
+     *
+     * @param c input character
+     * @return digit value 0–9, or -1 if c is not a digit
+     */
+    private static int digitValue(char c) {
+
+        if (c >= '0' && c <= '9'){
+            return c - '0';
+        }
+        return c < 0x80 ? -1 : Character.digit(c, 10);
+    }
+
+    /**
+     * Utility: value of an ASCII decimal digit byte.
+     *
+     * @param b input byte
+     * @return digit value 0–9, or -1 if b is not an ASCII digit
+     */
+    private static int asciiDigitValue(byte b) {
+
+        int value = b - '0';
+        return (value >= 0 && value <= 9) ? value : -1;
+    }
+
+    /**
+     * Utility: check if a given year is a leap year.
+     *
+     * @param year input year
+     * @return true if leap year, false otherwise
+     */
+    private static boolean isLeapYear(int year) {
+
+        return (year % 4 == 0 && year % 100 != 0) || (year % 400 == 0);
+    }
+
+    /**
+     * Utility: number of days in a month; one table lookup for years in the calendar table.
+     *
+     * Assumptions: month 1–12
+     */
+    private static int daysInMonth(int year, int month) {
+
+        int tableYear = year - CALENDAR_FIRST_YEAR;
+        if (tableYear >= 0 && tableYear <= CALENDAR_LAST_YEAR - CALENDAR_FIRST_YEAR){
+            return CALENDAR[tableYear * 12 + month - 1] & 31;
+        }
+        return month == 2 && isLeapYear(year) ? 29 : DAYS_IN_MONTH[month - 1];
+    }
+
+    /**
+     * Utility: build the calendar table with the arithmetic conversions.
+     */
+    private static int[] buildCalendar() {
+
+        int[] calendar = new int[(CALENDAR_LAST_YEAR - CALENDAR_FIRST_YEAR + 1) * 12];
+        for (int year = CALENDAR_FIRST_YEAR; year <= CALENDAR_LAST_YEAR; year++) {
+            for (int month = 1; month <= 12; month++) {
+                int length = month == 2 && isLeapYear(year) ? 29 : DAYS_IN_MONTH[month - 1];
+                calendar[(year - CALENDAR_FIRST_YEAR) * 12 + month - 1] =
+                        (int) epochDayArithmetic(year, month, 1) << 5 | length;
+            }
+        }
+        return calendar;
+    }
+
+    /**
+     * Utility: pack a date into a YYYYMMDD key, so that dates order the same as their keys.
+     *
+     * @return year * 10000 + month * 100 + day
+     */
+    static int dateKey(int year, int month, int day) {
+
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Utility: convert days since epoch (1970-01-01) to a YYYYMMDD date key.
+     * Constant time: splits the day count into 400-year eras of 146097 days,
+     * working in years that start on 1 March so the leap day falls at the end.
+     *
+     * @param daysSinceEpoch number of days since 1970-01-01 (may be negative)
+     * @return date key of that day
+     */
+    static int dateKeyOfEpochDay(long daysSinceEpoch) {
+
+        long shifted = daysSinceEpoch + DAYS_0000_03_01_TO_EPOCH;
+        long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        int dayOfEra = (int) (shifted - era * DAYS_PER_ERA);                              // [0, 146096]
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365; // [0, 399]
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);   // [0, 365]
+        int marchMonth = (5 * dayOfYear + 2) / 153;                                       // [0, 11], 0 = March
+        int day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+        int month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        int year = (int) (era * 400) + yearOfEra + (month <= 2 ? 1 : 0);
+        return dateKey(year, month, day);
+    }
+
+    /**
+     * Utility: convert a date to days since epoch (1970-01-01).
+     * One table lookup and an add for years in the calendar table, otherwise
+     * the closed form below.
+     *
+     * Assumptions: month 1–12 and day valid for the month
+     *
+     * @return number of days since 1970-01-01 (negative before 1970)
+     */
+    static long epochDay(int year, int month, int day) {
+
+        int tableYear = year - CALENDAR_FIRST_YEAR;
+        if (tableYear >= 0 && tableYear <= CALENDAR_LAST_YEAR - CALENDAR_FIRST_YEAR){
+            return (CALENDAR[tableYear * 12 + month - 1] >> 5) + day - 1;
+        }
+        return epochDayArithmetic(year, month, day);
+    }
+
+    /**
+     * Utility: convert a date to days since epoch (1970-01-01) for any year.
+     * Constant time: inverse of {@link #dateKeyOfEpochDay(long)}.
+     *
+     * Assumptions: month 1–12 and day valid for the month
+     */
+    private static long epochDayArithmetic(int year, int month, int day) {
+
+        int marchYear = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(marchYear, 400);
+        int yearOfEra = marchYear - era * 400;                                            // [0, 399]
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;    // [0, 365]
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;    // [0, 146096]
+        return (long) era * DAYS_PER_ERA + dayOfEra - DAYS_0000_03_01_TO_EPOCH;
+    }
+
+    /**
+     * Convert a datetime "YYYY-MM-DDTHH:MM" (UTC, as in the Tachi grammar) to seconds since epoch (1970-01-01).
+     * A date alone ("YYYY-MM-DD") is taken as midnight.
+     *
+     * The input must be syntactically valid and a real calendar date, but it is not
+     * compared with today, so past datetimes convert too.
+     *
+     * @param input datetime characters
+     * @return epoch seconds (long)
+     * @throws IllegalArgumentException if input is not a valid date or datetime
+     */
+    public static long toEpochSeconds(CharSequence input) {
+
+        if (input == null){
+            throw new IllegalArgumentException("datetime must not be null");
+        }
+
+        int length = input.length();
+        if ((length != 10 && length != 16)
+                || input.charAt(4) != '-'
+                || input.charAt(7) != '-') {
+            throw new IllegalArgumentException("not a YYYY-MM-DDTHH:MM datetime: " + input);
+        }
+
+        int key = calendarDateKey(twoDigits(input, 0), twoDigits(input, 2),
+                twoDigits(input, 5), twoDigits(input, 8));
+        if (key < 0){
+            throw new IllegalArgumentException("not a valid calendar date: " + input);
+        }
+
+        int hour = 0;
+        int minute = 0;
+        if (length == 16){
+            hour = twoDigits(input, 11);
+            minute = twoDigits(input, 14);
+            if (input.charAt(10) != 'T' || input.charAt(13) != ':' || !isValidTime(hour, minute)){
+                throw new IllegalArgumentException("not a valid HH:MM time: " + input);
+            }
+        }
 
-        return totalDays * 86400 + hour * 3600 + min * 60 + sec;
+        long days = epochDay(key / 10000, key / 100 % 100, key % 100);
+        return days * SECONDS_PER_DAY + hour * 3600 + minute * 60;
     }
 }
@@ -1,5 +1,12 @@
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
 
 public class DateTimeCheckerTest {
 
@@ -98,4 +105,192 @@ public class DateTimeCheckerTest {
         assertFalse(DateTimeChecker.isValidDateTime("2099-12-31T14:30:33"));
     }
 
+    @Test
+    public void testNonDigitInDate_ShouldFail() {
+        // non-digit characters in year, month or day should fail
+        assertFalse(DateTimeChecker.isValidDate("20a9-12-31"));
+        assertFalse(DateTimeChecker.isValidDate("2099-1x-31"));
+        assertFalse(DateTimeChecker.isValidDate("2099-12-3 "));
+    }
+
+    @Test
+    public void testMonthAndDayOutOfRange_ShouldFail() {
+        // month 00/13 and day 00/31-in-30-day-month are out of range
+        assertFalse(DateTimeChecker.isValidDate("2099-00-10"));
+        assertFalse(DateTimeChecker.isValidDate("2099-13-10"));
+        assertFalse(DateTimeChecker.isValidDate("2099-04-00"));
+        assertFalse(DateTimeChecker.isValidDate("2099-04-31"));
+    }
+
+    @Test
+    public void testNonAsciiDigits_SameAsCharacterIsDigit() {
+        // digits are checked with Character.isDigit semantics, so full-width digits are accepted
+        assertTrue(DateTimeChecker.isValidDate("\uFF12\uFF10\uFF19\uFF19-12-31"));
+        assertTrue(DateTimeChecker.isValidDateTime("2099-12-31T\uFF11\uFF14:30"));
+    }
+
+    // Tests for CharSequence / byte overloads
+
+    @Test
+    public void testCharSequenceOverload() {
+        // a StringBuilder is checked the same way as a String
+        assertTrue(DateTimeChecker.isValidDate(new StringBuilder("2099-12-31")));
+        assertTrue(DateTimeChecker.isValidDateTime(new StringBuilder("2099-12-31T14:30")));
+        assertFalse(DateTimeChecker.isValidDateTime(new StringBuilder("2099-12-31T24:00")));
+    }
+
+    @Test
+    public void testByteArrayOverload_FieldInsideLine() {
+        // validate the date field in place, without decoding the line
+        byte[] line = "seg PER SYD QF123 2099-12-31 Y 1".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(DateTimeChecker.isValidDate(line, 18, 10));
+        assertFalse(DateTimeChecker.isValidDate(line, 17, 10));
+        assertFalse(DateTimeChecker.isValidDate(line, 18, 11));
+    }
+
+    @Test
+    public void testByteBufferOverload_DirectBuffer() {
+        // direct buffer read with absolute indexes; position is left unchanged
+        byte[] bytes = "xx2099-12-31T23:59".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertTrue(DateTimeChecker.isValidDateTime(buffer, 2, 16));
+        assertTrue(DateTimeChecker.isValidDate(buffer, 2, 10));
+        assertFalse(DateTimeChecker.isValidDateTime(buffer, 0, 16));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testByteOverloads_NonAsciiAndBounds() {
+        // bytes must be ASCII digits; a range outside the array is a programming error
+        byte[] bytes = "2099-12-31".getBytes(StandardCharsets.US_ASCII);
+        bytes[3] = (byte) 0xD9;
+        assertFalse(DateTimeChecker.isValidDate(bytes, 0, 10));
+        assertFalse(DateTimeChecker.isValidDate((byte[]) null, 0, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> DateTimeChecker.isValidDate(bytes, 1, 10));
+    }
+
+    // Tests for toEpochSeconds
+
+    @Test
+    public void testToEpochSeconds_EpochAndDateOnly() {
+        // 1970-01-01T00:00 is 0; a date alone is midnight
+        assertEquals(0L, DateTimeChecker.toEpochSeconds("1970-01-01T00:00"));
+        assertEquals(86400L, DateTimeChecker.toEpochSeconds("1970-01-02"));
+        assertEquals(-60L, DateTimeChecker.toEpochSeconds("1969-12-31T23:59"));
+    }
+
+    @Test
+    public void testToEpochSeconds_MatchesJavaTime() {
+        // leap days and far-future dates agree with java.time
+        String[] inputs = {"2000-02-29T12:00", "2096-02-29T00:01", "2099-12-31T23:59", "2400-03-01T08:30"};
+        for (String input : inputs) {
+            long expected = LocalDateTime.parse(input).toEpochSecond(ZoneOffset.UTC);
+            assertEquals(expected, DateTimeChecker.toEpochSeconds(input), input);
+        }
+    }
+
+    @Test
+    public void testToEpochSeconds_InvalidInput_Throws() {
+        // seconds field, bad calendar date and bad time are rejected
+        assertThrows(IllegalArgumentException.class, () -> DateTimeChecker.toEpochSeconds("2099-12-31T14:30:33"));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeChecker.toEpochSeconds("2025-02-29T10:00"));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeChecker.toEpochSeconds("2099-12-31T24:00"));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeChecker.toEpochSeconds(null));
+    }
+
+    // Tests for batch validation
+
+    @Test
+    public void testValidateDates_SameAsSingleCalls() {
+        // every bit matches isValidDate for the same input
+        String[] inputs = {"2099-12-31", "2000-01-01", "2025/12/31", null, "2096-02-29", "2100-02-29",
+                "2000-02-29", "2099-17-01", "2099-00-10", "2099-04-31", "20a9-12-31", "2099-12-3"};
+        BitSet result = DateTimeChecker.validateDates(inputs);
+        for (int i = 0; i < inputs.length; i++) {
+            assertEquals(DateTimeChecker.isValidDate(inputs[i]), result.get(i), String.valueOf(inputs[i]));
+        }
+        assertEquals(result, DateTimeChecker.validateDates(Arrays.asList(inputs)));
+    }
+
+    @Test
+    public void testValidateDates_PackedRecords() {
+        // fixed-width 12-byte records: date + ",\n"
+        byte[] records = "2099-12-31,\n2000-01-01,\n2096-02-29,\n2097-02-29,\n"
+                .getBytes(StandardCharsets.US_ASCII);
+        BitSet result = DateTimeChecker.validateDates(records, 0, 12, 4);
+        assertTrue(result.get(0));
+        assertFalse(result.get(1));
+        assertTrue(result.get(2));
+        assertFalse(result.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> DateTimeChecker.validateDates(records, 0, 12, 5));
+    }
+
+    @Test
+    public void testCalendarTable_MatchesJavaTime() {
+        // every day of the table years and a margin either side (arithmetic fallback)
+        for (LocalDate date = LocalDate.of(1999, 12, 1); date.isBefore(LocalDate.of(2100, 3, 1)); date = date.plusDays(1)) {
+            assertEquals(date.toEpochDay(),
+                    DateTimeChecker.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()), date.toString());
+        }
+        assertEquals(LocalDate.of(2400, 2, 29).toEpochDay(), DateTimeChecker.epochDay(2400, 2, 29));
+        assertTrue(DateTimeChecker.isValidDate("2096-02-29"));
+        assertFalse(DateTimeChecker.isValidDate("2097-02-29"));
+        assertFalse(DateTimeChecker.isValidDate("2100-02-29"));
+        assertTrue(DateTimeChecker.isValidDate("2400-02-29"));
+        BitSet batch = DateTimeChecker.validateDates(new String[] {"2096-02-29", "2097-02-29", "2100-02-29", "2400-02-29"});
+        assertEquals(BitSet.valueOf(new long[] {0b1001}), batch);
+    }
+
+    // Tests for validateDate / validateDateTime
+
+    @Test
+    public void testValidateDateTime_ReasonPerRule() {
+        // one input per DateTimeResult, in rule order
+        assertEquals(DateTimeResult.BAD_LENGTH, DateTimeChecker.validateDateTime("2099-12-31T1", null));
+        assertEquals(DateTimeResult.BAD_LENGTH, DateTimeChecker.validateDateTime(null, null));
+        assertEquals(DateTimeResult.BAD_SEPARATOR, DateTimeChecker.validateDateTime("2099-12-31 10:00", null));
+        assertEquals(DateTimeResult.NON_DIGIT, DateTimeChecker.validateDateTime("2099-13-31T1a:00", null));
+        assertEquals(DateTimeResult.MONTH_RANGE, DateTimeChecker.validateDateTime("2099-13-31T10:00", null));
+        assertEquals(DateTimeResult.DAY_RANGE, DateTimeChecker.validateDateTime("2099-02-29T10:00", null));
+        assertEquals(DateTimeResult.BEFORE_TODAY, DateTimeChecker.validateDateTime("2000-01-01T24:00", null));
+        assertEquals(DateTimeResult.HOUR_RANGE, DateTimeChecker.validateDateTime("2099-12-31T24:00", null));
+        assertEquals(DateTimeResult.MINUTE_RANGE, DateTimeChecker.validateDateTime("2099-12-31T23:60", null));
+        assertEquals(DateTimeResult.BAD_LENGTH, DateTimeChecker.validateDate("2099-12-31T10:00", null));
+        assertEquals(CommandError.Kind.SYNTACTIC, DateTimeResult.NON_DIGIT.getKind());
+        assertEquals(CommandError.Kind.SEMANTIC, DateTimeResult.BEFORE_TODAY.getKind());
+    }
+
+    @Test
+    public void testValidateDateTime_ParsedValues() {
+        // OK fills in the epoch day and minute; rejections leave them alone
+        DateTimeChecker.Parsed parsed = new DateTimeChecker.Parsed();
+        assertEquals(DateTimeResult.OK, DateTimeChecker.validateDateTime("2099-12-31T23:59", parsed));
+        long expected = LocalDateTime.of(2099, 12, 31, 23, 59).toEpochSecond(ZoneOffset.UTC) / 60;
+        assertEquals(expected, parsed.getEpochMinute());
+        assertEquals(23 * 60 + 59, parsed.getMinuteOfDay());
+
+        assertEquals(DateTimeResult.HOUR_RANGE, DateTimeChecker.validateDateTime("2099-01-01T24:00", parsed));
+        assertEquals(expected, parsed.getEpochMinute());
+
+        byte[] bytes = "seg 2096-02-29 Y".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(DateTimeResult.OK, DateTimeChecker.validateDate(bytes, 4, 10, parsed));
+        assertEquals(LocalDate.of(2096, 2, 29).toEpochDay(), parsed.getEpochDay());
+        assertEquals(0, parsed.getMinuteOfDay());
+        assertEquals(DateTimeResult.DAY_RANGE, DateTimeChecker.validateDateTime("seg 2097-02-29".getBytes(StandardCharsets.US_ASCII), 4, 10, parsed));
+    }
+
+    @Test
+    public void testEncodeDateTime_EpochMinuteOrSentinel() {
+        // same rules as isValidDateTime; a date alone is its midnight
+        long expected = LocalDateTime.of(2099, 12, 31, 23, 59).toEpochSecond(ZoneOffset.UTC) / 60;
+        assertEquals(expected, DateTimeChecker.encodeDateTime("2099-12-31T23:59"));
+        assertEquals(LocalDate.of(2099, 12, 31).toEpochDay() * 1440, DateTimeChecker.encodeDateTime("2099-12-31"));
+        byte[] bytes = "dep 2099-12-31T23:59".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(expected, DateTimeChecker.encodeDateTime(bytes, 4, 16));
+
+        for (String invalid : new String[] {null, "", "2099-12-31T24:00", "2099-12-31T23:60", "2097-02-29T00:00",
+                "2099-13-01T00:00", "2099-12-31 23:59", "1999-12-31T23:59", "2099-12-31T2359"}) {
+            assertEquals(DateTimeChecker.INVALID_EPOCH_MINUTE, DateTimeChecker.encodeDateTime(invalid), String.valueOf(invalid));
+        }
+    }
 }
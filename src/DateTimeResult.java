@@ -0,0 +1,63 @@
+/**
+ * Outcome of checking a date (YYYY-MM-DD) or datetime (YYYY-MM-DDTHH:MM) with
+ * DateTimeChecker: OK, or the first rule the input breaks.
+ *
+ * Rules are checked in declaration order, so e.g. "2099-13-xx" is NON_DIGIT,
+ * not MONTH_RANGE.
+ */
+public enum DateTimeResult {
+
+    OK,
+
+    /** Not 10 characters (date) or 10/16 characters (datetime) */
+    BAD_LENGTH,
+
+    /** '-', 'T' or ':' missing from its place */
+    BAD_SEPARATOR,
+
+    /** A year, month, day, hour or minute character is not a digit */
+    NON_DIGIT,
+
+    /** Month not 01–12 */
+    MONTH_RANGE,
+
+    /** Day not in the month (leap years included) */
+    DAY_RANGE,
+
+    /** A real date, but earlier than today */
+    BEFORE_TODAY,
+
+    /** Hour not 00–23 */
+    HOUR_RANGE,
+
+    /** Minute not 00–59 */
+    MINUTE_RANGE;
+
+    /**
+     * @return true for OK, false for every rejection
+     */
+    public boolean isValid() {
+        return this == OK;
+    }
+
+    /**
+     * Error class of a rejection, as in the phase 2 error model: a malformed field
+     * (length, separator, non-digit) is SYNTACTIC, a well-formed but impossible or past
+     * date or time is SEMANTIC.
+     *
+     * @return the error kind, or null for OK
+     */
+    public CommandError.Kind getKind() {
+
+        switch (this) {
+            case OK:
+                return null;
+            case BAD_LENGTH:
+            case BAD_SEPARATOR:
+            case NON_DIGIT:
+                return CommandError.Kind.SYNTACTIC;
+            default:
+                return CommandError.Kind.SEMANTIC;
+        }
+    }
+}
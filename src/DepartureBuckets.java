@@ -0,0 +1,260 @@
+import java.util.Arrays;
+
+/**
+ * Flights bucketed by departure time for departure-wave planning, with questions such as
+ * "every flight in the next 6 hours".
+ *
+ * A ring of fixed-width buckets (e.g. one per hour) covers a horizon of whole days
+ * starting at 00:00 UTC of DateTimeChecker's "today". A departure's bucket is
+ * {@code epoch minute / bucket width}, and its ring slot is that number modulo the ring
+ * length, so an insert is one division and an append. A range scan reads only the
+ * buckets the range touches.
+ *
+ * When "today" moves on, the buckets of earlier days are dropped and their slots are
+ * reused for the days that come into the horizon. Every call checks for this (one int
+ * comparison while the day is unchanged); {@link #expire()} does it on demand.
+ *
+ * Thread-safe: each bucket is its own lock, so inserts into different buckets do not meet.
+ */
+public final class DepartureBuckets {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final int bucketMinutes;
+    private final Bucket[] ring;
+
+    // Today's date key and its first bucket number, replaced together when the day moves on
+    private volatile Window window;
+
+    /**
+     * Receives the flights found by a scan.
+     */
+    public interface Visitor {
+
+        /**
+         * Called with the bucket lock held: must not call back into the buckets.
+         *
+         * @param epochMinute departure as minutes since 1970-01-01T00:00 UTC
+         * @param flight      flight ID given to add (e.g. an IataCodes flight number)
+         */
+        void visit(long epochMinute, int flight);
+    }
+
+    /**
+     * First live bucket for one "today".
+     */
+    private static final class Window {
+
+        final int todayKey;
+        final long firstBucket;
+
+        Window(int todayKey, long firstBucket) {
+            this.todayKey = todayKey;
+            this.firstBucket = firstBucket;
+        }
+    }
+
+    /**
+     * @param bucketMinutes bucket width in minutes; must divide a day (e.g. 60 or 1440)
+     * @param horizonDays   days from today that departures may be added for, 1–3660
+     * @throws IllegalArgumentException if bucketMinutes does not divide 1440 or horizonDays is out of range
+     */
+    public DepartureBuckets(int bucketMinutes, int horizonDays) {
+
+        if (bucketMinutes < 1 || MINUTES_PER_DAY % bucketMinutes != 0 || horizonDays < 1 || horizonDays > 3660){
+            throw new IllegalArgumentException("bucketMinutes must divide 1440 and horizonDays must be 1-3660");
+        }
+        this.bucketMinutes = bucketMinutes;
+        this.ring = new Bucket[horizonDays * (MINUTES_PER_DAY / bucketMinutes)];
+        for (int i = 0; i < ring.length; i++) {
+            ring[i] = new Bucket();
+        }
+        this.window = new Window(Integer.MIN_VALUE, Long.MIN_VALUE);
+    }
+
+    /**
+     * Validate a datetime and add the flight at that departure time.
+     *
+     * @param dateTime departure as YYYY-MM-DDTHH:MM (UTC)
+     * @param flight   flight ID
+     * @return false if the datetime is not valid (see DateTimeChecker) or is beyond the horizon
+     */
+    public boolean add(CharSequence dateTime, int flight) {
+
+        long epochMinute = DateTimeChecker.encodeDateTime(dateTime);
+        return epochMinute != DateTimeChecker.INVALID_EPOCH_MINUTE && add(epochMinute, flight);
+    }
+
+    /**
+     * Add a flight at an encoded departure time.
+     *
+     * @param epochMinute departure as minutes since 1970-01-01T00:00 UTC
+     * @param flight      flight ID
+     * @return false if the departure is before today or beyond the horizon (including an
+     *         add that raced with midnight and found its slot already reused)
+     */
+    public boolean add(long epochMinute, int flight) {
+
+        long first = currentWindow().firstBucket;
+        long number = Math.floorDiv(epochMinute, bucketMinutes);
+        if (number < first || number >= first + ring.length){
+            return false;
+        }
+        return slot(number).add(number, (epochMinute - number * bucketMinutes) << 32 | (flight & 0xFFFFFFFFL));
+    }
+
+    /**
+     * Visit the flights departing in [fromEpochMinute, toEpochMinute), bucket by bucket
+     * (in insertion order within a bucket).
+     *
+     * @return number of flights visited
+     */
+    public int scan(long fromEpochMinute, long toEpochMinute, Visitor visitor) {
+
+        long first = currentWindow().firstBucket;
+        long firstNumber = Math.max(Math.floorDiv(fromEpochMinute, bucketMinutes), first);
+        long lastNumber = Math.min(Math.floorDiv(toEpochMinute - 1, bucketMinutes), first + ring.length - 1);
+        int matches = 0;
+        for (long number = firstNumber; number <= lastNumber; number++) {
+            matches += slot(number).scan(number, number * bucketMinutes, fromEpochMinute, toEpochMinute, visitor);
+        }
+        return matches;
+    }
+
+    /**
+     * Visit the flights departing in the next hours: [nowEpochMinute, nowEpochMinute + hours * 60).
+     *
+     * @return number of flights visited
+     */
+    public int nextHours(long nowEpochMinute, int hours, Visitor visitor) {
+
+        return scan(nowEpochMinute, nowEpochMinute + hours * 60L, visitor);
+    }
+
+    /**
+     * Same as {@link #scan} without visiting.
+     *
+     * @return number of flights departing in [fromEpochMinute, toEpochMinute)
+     */
+    public int count(long fromEpochMinute, long toEpochMinute) {
+
+        return scan(fromEpochMinute, toEpochMinute, null);
+    }
+
+    /**
+     * Drop the buckets before today (DateTimeChecker's clock). Runs on every call anyway;
+     * cheap when the day has not changed.
+     *
+     * @return number of flights dropped
+     */
+    public int expire() {
+
+        int today = DateTimeChecker.getTodayClock().today();
+        Window current = window;
+        if (today <= current.todayKey){
+            return 0;
+        }
+        return advance(today);
+    }
+
+    /**
+     * Utility: the window for today, moving it on first if the day has changed.
+     */
+    private Window currentWindow() {
+
+        int today = DateTimeChecker.getTodayClock().today();
+        Window current = window;
+        // only forward: a "today" read just before midnight must not move the window back
+        if (today > current.todayKey){
+            advance(today);
+            current = window;
+        }
+        return current;
+    }
+
+    /**
+     * Utility: move the window to the given day and clear the slots of the days that left it.
+     * Synchronised so that two threads at rollover do not both clear.
+     */
+    private synchronized int advance(int today) {
+
+        Window current = window;
+        if (today <= current.todayKey){
+            return 0;
+        }
+        long epochDay = DateTimeChecker.epochDay(today / 10000, today / 100 % 100, today % 100);
+        long first = epochDay * MINUTES_PER_DAY / bucketMinutes;
+        int dropped = 0;
+        for (Bucket bucket : ring) {
+            dropped += bucket.clearBefore(first);
+        }
+        window = new Window(today, first);
+        return dropped;
+    }
+
+    private Bucket slot(long number) {
+
+        return ring[(int) Math.floorMod(number, (long) ring.length)];
+    }
+
+    /**
+     * One ring slot: the flights of the bucket it currently holds,
+     * each as (minute within the bucket << 32 | flight).
+     */
+    private static final class Bucket {
+
+        private long number = Long.MIN_VALUE;
+        private long[] entries = new long[4];
+        private int size;
+
+        /**
+         * @return false if the slot already holds a later bucket, i.e. this add read the
+         *         window before midnight and bucketNumber has left it since
+         */
+        synchronized boolean add(long bucketNumber, long entry) {
+
+            if (bucketNumber < number){
+                return false;
+            }
+            if (bucketNumber > number){
+                // the slot still holds a bucket that has left the window
+                number = bucketNumber;
+                size = 0;
+            }
+            if (size == entries.length){
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+            return true;
+        }
+
+        synchronized int scan(long bucketNumber, long startMinute, long from, long to, Visitor visitor) {
+
+            if (number != bucketNumber){
+                return 0;
+            }
+            int matches = 0;
+            for (int i = 0; i < size; i++) {
+                long epochMinute = startMinute + (entries[i] >>> 32);
+                if (epochMinute >= from && epochMinute < to){
+                    matches++;
+                    if (visitor != null){
+                        visitor.visit(epochMinute, (int) entries[i]);
+                    }
+                }
+            }
+            return matches;
+        }
+
+        synchronized int clearBefore(long firstBucket) {
+
+            if (number >= firstBucket || size == 0){
+                return 0;
+            }
+            int dropped = size;
+            size = 0;
+            entries = new long[4];
+            return dropped;
+        }
+    }
+}
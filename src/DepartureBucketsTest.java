@@ -0,0 +1,136 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DepartureBucketsTest {
+
+    private static final int QF123 = IataCodes.flightNumber("QF123");
+    private static final int QF124 = IataCodes.flightNumber("QF124");
+
+    /**
+     * Clock whose instant can be moved by the test, to simulate days passing.
+     */
+    private static final class MutableClock extends Clock {
+
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    @BeforeEach
+    public void pinToday() {
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    private static long minute(String dateTime) {
+        return LocalDateTime.parse(dateTime).toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    @Test
+    public void testNextHours_BucketEdgesAndOrder() {
+        // Arrange: hourly buckets, two days ahead
+        DepartureBuckets buckets = new DepartureBuckets(60, 2);
+        assertTrue(buckets.add("2030-01-01T09:59", QF123));
+        assertTrue(buckets.add("2030-01-01T15:59", QF124));
+        assertTrue(buckets.add("2030-01-01T10:00", QF123));
+        assertTrue(buckets.add("2030-01-01T16:00", QF124));
+        assertTrue(buckets.add("2030-01-02T23:59", QF123));
+
+        // Act: [10:00, 16:00)
+        List<String> found = new ArrayList<>();
+        int count = buckets.nextHours(minute("2030-01-01T10:00"), 6,
+                (epochMinute, flight) -> found.add(IataCodes.flightNumberCode(flight) + "@" + epochMinute % 1440));
+
+        // Assert: bucket by bucket, so in time order across buckets
+        assertEquals(2, count);
+        assertEquals(List.of("QF123@600", "QF124@959"), found);
+        assertEquals(5, buckets.count(minute("2030-01-01T00:00"), minute("2030-01-03T00:00")));
+    }
+
+    @Test
+    public void testAdd_RejectsInvalidPastAndBeyondHorizon() {
+        // Arrange
+        DepartureBuckets buckets = new DepartureBuckets(1440, 3);
+
+        // Act / Assert: the horizon is today and the next 2 days
+        assertFalse(buckets.add("2029-12-31T23:59", QF123));
+        assertFalse(buckets.add("2030-01-01T24:00", QF123));
+        assertFalse(buckets.add(minute("2029-12-31T23:59"), QF123));
+        assertTrue(buckets.add("2030-01-03T23:59", QF123));
+        assertFalse(buckets.add("2030-01-04T00:00", QF123));
+        assertThrows(IllegalArgumentException.class, () -> new DepartureBuckets(7, 1));
+    }
+
+    @Test
+    public void testExpiry_SlotsReusedAsTodayMoves() {
+        // Arrange: 6-hour buckets over 2 days, so the ring has 8 slots
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T08:00:00Z").toEpochMilli());
+        DateTimeChecker.setTodayClock(TodayClock.of(clock));
+        DepartureBuckets buckets = new DepartureBuckets(360, 2);
+        buckets.add("2030-01-01T07:00", QF123);
+        buckets.add("2030-01-01T20:00", QF123);
+        buckets.add("2030-01-02T07:00", QF124);
+
+        // Act: the next day, 2030-01-03 comes into the horizon in the slots of 2030-01-01
+        clock.millis += 24 * 60 * 60 * 1000L;
+        int dropped = buckets.expire();
+        boolean added = buckets.add("2030-01-03T07:00", QF123);
+
+        // Assert
+        assertEquals(2, dropped);
+        assertEquals(0, buckets.expire());
+        assertTrue(added);
+        assertEquals(0, buckets.count(minute("2030-01-01T00:00"), minute("2030-01-02T00:00")));
+        assertEquals(1, buckets.count(minute("2030-01-02T00:00"), minute("2030-01-03T00:00")));
+        assertEquals(1, buckets.count(minute("2030-01-03T00:00"), minute("2030-01-04T00:00")));
+    }
+
+    @Test
+    public void testStaleToday_DoesNotEraseNewerBucket() {
+        // Arrange: daily buckets over 2 days, so 2030-01-03 reuses the slot of 2030-01-01
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-02T08:00:00Z").toEpochMilli());
+        DateTimeChecker.setTodayClock(TodayClock.of(clock));
+        DepartureBuckets buckets = new DepartureBuckets(1440, 2);
+        assertTrue(buckets.add("2030-01-03T07:00", QF124));
+
+        // Act: an add from a thread that read "today" just before midnight
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+        boolean stale = buckets.add(minute("2030-01-01T23:00"), QF123);
+        DateTimeChecker.setTodayClock(TodayClock.of(clock));
+
+        // Assert: rejected, and the 2030-01-03 flight is still there
+        assertFalse(stale);
+        assertEquals(0, buckets.expire());
+        assertEquals(1, buckets.count(minute("2030-01-03T00:00"), minute("2030-01-04T00:00")));
+    }
+}
@@ -0,0 +1,310 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory index of {@code shop flight fare} searches keyed by (origin, destination,
+ * cabin, departure epoch day), for questions across many searches such as "Return
+ * searches PER→SYD in cabin J departing next week".
+ *
+ * Keys and entries are primitives throughout:
+ * <ul>
+ *   <li>a route is the {@link PackedSegment#routeAndCabin} long of origin, destination and cabin</li>
+ *   <li>each route holds one sorted long[] of entries, epoch day in the high bits, then
+ *       length of stay, then the search ID, so a date range is one binary search and
+ *       a sequential read</li>
+ * </ul>
+ *
+ * Routes are spread over lock stripes, each an open-addressing route → entries table, so
+ * inserts for different routes rarely meet. Inserts append; a route is sorted again on
+ * the first scan after an insert.
+ *
+ * Thread-safe. Search IDs are assigned in insertion order from 0.
+ */
+public final class FareSearchIndex {
+
+    /**
+     * Length of stay of a OneWay search.
+     */
+    public static final int ONE_WAY = -1;
+
+    /**
+     * Longest length of stay the grammar allows.
+     */
+    public static final int MAX_LENGTH_OF_STAY = 20;
+
+    private static final int DEFAULT_STRIPES = 16;
+
+    // Entry layout: epoch day (bits 40-62) | length of stay + 1 (bits 32-36) | search ID (bits 0-31)
+    private static final int DAY_SHIFT = 40;
+    private static final int STAY_SHIFT = 32;
+    private static final int MAX_EPOCH_DAY = (1 << 23) - 1;
+
+    private static final ThreadLocal<CommandValidator> VALIDATOR = ThreadLocal.withInitial(CommandValidator::new);
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Receives the searches found by a scan.
+     */
+    public interface Visitor {
+
+        /**
+         * Called with the stripe lock held: must not call back into the index.
+         *
+         * @param id           search ID returned by add
+         * @param epochDay     departure date as days since 1970-01-01
+         * @param lengthOfStay 0–20, or ONE_WAY
+         */
+        void visit(int id, int epochDay, int lengthOfStay);
+    }
+
+    public FareSearchIndex() {
+
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripes number of lock stripes, a power of two from 1 to 1024
+     * @throws IllegalArgumentException if stripes is not a power of two in range
+     */
+    public FareSearchIndex(int stripes) {
+
+        if (stripes < 1 || stripes > 1024 || Integer.bitCount(stripes) != 1){
+            throw new IllegalArgumentException("stripes must be a power of two from 1 to 1024");
+        }
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeShift = 32 - Integer.numberOfTrailingZeros(stripes);
+    }
+
+    /**
+     * Validate a {@code shop flight fare} command and add it.
+     *
+     * @param command the command text, without a trailing newline
+     * @return the search ID, or -1 if the command is not valid
+     */
+    public int add(CharSequence command) {
+
+        CommandValidator validator = VALIDATOR.get();
+        if (validator.checkShopFlightFare(command, 1) != null){
+            return -1;
+        }
+        int fields = validator.getFieldCount();
+        int lengthOfStay = ONE_WAY;
+        if (fields == 5){
+            // Return: length_of_stay is 1 or 2 digits before the cabin
+            int stay = validator.getFieldStart(2);
+            lengthOfStay = command.charAt(stay) - '0';
+            if (command.charAt(stay + 1) != ' '){
+                lengthOfStay = lengthOfStay * 10 + command.charAt(stay + 1) - '0';
+            }
+        }
+        int cabin = IataCodes.cabin(command.charAt(validator.getFieldStart(fields - 2)));
+        int date = validator.getFieldStart(fields - 1);
+        int epochDay = (int) DateTimeChecker.epochDay(
+                digits(command, date, 4), digits(command, date + 5, 2), digits(command, date + 8, 2));
+
+        return add(IataCodes.airport(command, validator.getFieldStart(CommandValidator.SHOP_ORIGIN)),
+                IataCodes.airport(command, validator.getFieldStart(CommandValidator.SHOP_DESTINATION)),
+                cabin, epochDay, lengthOfStay);
+    }
+
+    /**
+     * Add a search given as IDs.
+     *
+     * @param origin       airport ID (IataCodes)
+     * @param destination  airport ID
+     * @param cabin        cabin ID
+     * @param epochDay     departure date as days since 1970-01-01
+     * @param lengthOfStay 0–20, or ONE_WAY
+     * @return the search ID
+     * @throws IllegalArgumentException if a field is out of range
+     */
+    public int add(int origin, int destination, int cabin, int epochDay, int lengthOfStay) {
+
+        long route = PackedSegment.routeAndCabin(origin, destination, cabin);
+        if (epochDay < 0 || epochDay > MAX_EPOCH_DAY || lengthOfStay < ONE_WAY || lengthOfStay > MAX_LENGTH_OF_STAY){
+            throw new IllegalArgumentException("epoch day or length of stay out of range");
+        }
+        int id = nextId.getAndIncrement();
+        long entry = (long) epochDay << DAY_SHIFT | (long) (lengthOfStay + 1) << STAY_SHIFT | (id & 0xFFFFFFFFL);
+        stripe(route).add(route, entry);
+        return id;
+    }
+
+    /**
+     * Visit the searches for one route and cabin departing in [fromEpochDay, toEpochDay]
+     * with a length of stay in [minStay, maxStay], in date order.
+     * Pass ONE_WAY..ONE_WAY for OneWay searches only, 0..20 for Return only.
+     *
+     * @return number of searches visited
+     * @throws IllegalArgumentException if origin, destination or cabin is out of range
+     */
+    public int scan(int origin, int destination, int cabin, int fromEpochDay, int toEpochDay,
+            int minStay, int maxStay, Visitor visitor) {
+
+        long route = PackedSegment.routeAndCabin(origin, destination, cabin);
+        int from = Math.max(fromEpochDay, 0);
+        int to = Math.min(toEpochDay, MAX_EPOCH_DAY);
+        if (from > to || minStay > maxStay){
+            return 0;
+        }
+        // every entry of day "to" is ≤ (to << DAY_SHIFT) with all lower bits set
+        return stripe(route).scan(route, (long) from << DAY_SHIFT, (long) to << DAY_SHIFT | ((1L << DAY_SHIFT) - 1),
+                minStay + 1, maxStay + 1, visitor);
+    }
+
+    /**
+     * Same as {@link #scan} without visiting.
+     *
+     * @return number of matching searches
+     */
+    public int count(int origin, int destination, int cabin, int fromEpochDay, int toEpochDay,
+            int minStay, int maxStay) {
+
+        return scan(origin, destination, cabin, fromEpochDay, toEpochDay, minStay, maxStay, null);
+    }
+
+    /**
+     * @return number of searches added
+     */
+    public int size() {
+        return nextId.get();
+    }
+
+    private Stripe stripe(long route) {
+
+        return stripes[stripes.length == 1 ? 0 : hash(route) >>> stripeShift];
+    }
+
+    private static int hash(long route) {
+
+        return Long.hashCode(route * 0x9E3779B97F4A7C15L);
+    }
+
+    private static int digits(CharSequence text, int start, int count) {
+
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            value = value * 10 + text.charAt(i) - '0';
+        }
+        return value;
+    }
+
+    /**
+     * One lock stripe: an open-addressing table from route to its entries.
+     */
+    private static final class Stripe {
+
+        private long[] routes = new long[16];
+        private Entries[] entries = new Entries[16];   // null marks a free slot
+        private int count;
+
+        synchronized void add(long route, long entry) {
+
+            int slot = find(route);
+            if (entries[slot] == null){
+                if ((count + 1) * 4 > routes.length * 3){
+                    grow();
+                    slot = find(route);
+                }
+                routes[slot] = route;
+                entries[slot] = new Entries();
+                count++;
+            }
+            entries[slot].add(entry);
+        }
+
+        synchronized int scan(long route, long firstEntry, long lastEntry, int minStayCode, int maxStayCode,
+                Visitor visitor) {
+
+            Entries list = entries[find(route)];
+            return list == null ? 0 : list.scan(firstEntry, lastEntry, minStayCode, maxStayCode, visitor);
+        }
+
+        private int find(long route) {
+
+            int mask = routes.length - 1;
+            int slot = hash(route) & mask;
+            while (entries[slot] != null && routes[slot] != route) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+
+            long[] oldRoutes = routes;
+            Entries[] oldEntries = entries;
+            routes = new long[oldRoutes.length * 2];
+            entries = new Entries[oldRoutes.length * 2];
+            for (int i = 0; i < oldRoutes.length; i++) {
+                if (oldEntries[i] != null){
+                    int slot = find(oldRoutes[i]);
+                    routes[slot] = oldRoutes[i];
+                    entries[slot] = oldEntries[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Entries of one route, sorted on demand. Guarded by the stripe lock.
+     */
+    private static final class Entries {
+
+        private long[] values = new long[8];
+        private int size;
+        private boolean sorted = true;
+
+        void add(long entry) {
+
+            if (size == values.length){
+                values = Arrays.copyOf(values, size * 2);
+            }
+            if (size > 0 && entry < values[size - 1]){
+                sorted = false;
+            }
+            values[size++] = entry;
+        }
+
+        int scan(long firstEntry, long lastEntry, int minStayCode, int maxStayCode, Visitor visitor) {
+
+            if (!sorted){
+                Arrays.sort(values, 0, size);
+                sorted = true;
+            }
+            int matches = 0;
+            for (int i = lowerBound(firstEntry); i < size && values[i] <= lastEntry; i++) {
+                long entry = values[i];
+                int stayCode = (int) (entry >>> STAY_SHIFT) & 31;
+                if (stayCode >= minStayCode && stayCode <= maxStayCode){
+                    matches++;
+                    if (visitor != null){
+                        visitor.visit((int) entry, (int) (entry >>> DAY_SHIFT), stayCode - 1);
+                    }
+                }
+            }
+            return matches;
+        }
+
+        private int lowerBound(long key) {
+
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle] < key){
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FareSearchIndexTest {
+
+    private static final int PER = IataCodes.airport("PER");
+    private static final int SYD = IataCodes.airport("SYD");
+    private static final int J = IataCodes.cabin('J');
+
+    @BeforeEach
+    public void pinToday() {
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    private static int day(int year, int month, int dayOfMonth) {
+        return (int) LocalDate.of(year, month, dayOfMonth).toEpochDay();
+    }
+
+    @Test
+    public void testAdd_ParsesCommands() {
+        // Arrange
+        FareSearchIndex index = new FareSearchIndex();
+
+        // Act
+        int oneWay = index.add("shop flight fare PER SYD OneWay J 2030-01-05");
+        int returnTrip = index.add("shop flight fare PER SYD Return 14 J 2030-01-03");
+        int invalid = index.add("shop flight fare PER PER OneWay J 2030-01-05");
+
+        // Assert
+        assertEquals(0, oneWay);
+        assertEquals(1, returnTrip);
+        assertEquals(-1, invalid);
+        List<String> found = new ArrayList<>();
+        index.scan(PER, SYD, J, 0, Integer.MAX_VALUE, FareSearchIndex.ONE_WAY, FareSearchIndex.MAX_LENGTH_OF_STAY,
+                (id, epochDay, stay) -> found.add(id + ":" + LocalDate.ofEpochDay(epochDay) + ":" + stay));
+        assertEquals(List.of("1:2030-01-03:14", "0:2030-01-05:-1"), found);
+    }
+
+    @Test
+    public void testScan_DateAndStayRanges() {
+        // Arrange: one search per day in January, alternating OneWay and 7-day Return
+        FareSearchIndex index = new FareSearchIndex(4);
+        for (int d = 1; d <= 31; d++) {
+            index.add(PER, SYD, J, day(2030, 1, d), d % 2 == 0 ? 7 : FareSearchIndex.ONE_WAY);
+        }
+        index.add(SYD, PER, J, day(2030, 1, 10), 7);
+
+        // Act / Assert: "next week" from 2030-01-08, inclusive on both ends
+        int from = day(2030, 1, 8);
+        int to = day(2030, 1, 14);
+        assertEquals(7, index.count(PER, SYD, J, from, to, FareSearchIndex.ONE_WAY, 20));
+        assertEquals(4, index.count(PER, SYD, J, from, to, 0, 20));
+        assertEquals(3, index.count(PER, SYD, J, from, to, FareSearchIndex.ONE_WAY, FareSearchIndex.ONE_WAY));
+        assertEquals(0, index.count(PER, SYD, J, from, to, 8, 20));
+        assertEquals(0, index.count(PER, SYD, IataCodes.cabin('Y'), from, to, -1, 20));
+        assertEquals(1, index.count(SYD, PER, J, from, to, -1, 20));
+        assertEquals(0, index.count(PER, SYD, J, to, from, -1, 20));
+    }
+
+    @Test
+    public void testConcurrentInserts() throws InterruptedException {
+        // Arrange
+        FareSearchIndex index = new FareSearchIndex();
+        int threads = 4;
+        int perThread = 5000;
+        Thread[] workers = new Thread[threads];
+
+        // Act: every thread inserts into the same route and into routes of its own
+        for (int t = 0; t < threads; t++) {
+            int origin = t + 1;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    index.add(PER, SYD, J, day(2030, 1, 1) + i % 100, i % 21);
+                    index.add(origin, SYD, J, day(2030, 1, 1) + i % 100, FareSearchIndex.ONE_WAY);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Assert
+        assertEquals(2 * threads * perThread, index.size());
+        assertEquals(threads * perThread, index.count(PER, SYD, J, 0, Integer.MAX_VALUE, 0, 20));
+        assertEquals(perThread, index.count(1, SYD, J, 0, Integer.MAX_VALUE, -1, -1));
+    }
+}
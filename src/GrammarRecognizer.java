@@ -0,0 +1,499 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table-driven DFA recogniser compiled from one (non-recursive) rule of the Tachi grammar.
+ *
+ * The rule is expanded into an NFA and turned into a DFA by subset construction, once.
+ * Recognising a line is then a single left-to-right pass over its bytes with one table
+ * lookup per byte: no backtracking, no regex and no allocation.
+ *
+ * Rules named as fields (e.g. airport, date, people) are tracked while recognising:
+ * the start index of each field is recorded in a {@link Match}, in the order the fields
+ * appear in the input, so callers can read field values without splitting the line.
+ */
+public final class GrammarRecognizer {
+
+    // ASCII only: any byte outside 0–127 is rejected
+    private static final int ALPHABET = 128;
+    private static final int DEAD = -1;
+
+    private final String ruleName;
+    private final int startState;
+    private final int[] transitions;    // state * ALPHABET + byte -> next state or DEAD
+    private final boolean[] accepting;
+    private final int[] fieldOf;        // field occurrence of the byte that entered each state, 0 = none
+    private final String[] fieldNames;  // field occurrence -> rule name (index 0 unused)
+
+    /**
+     * Result of one recognition; reuse one instance per thread to avoid allocation.
+     */
+    public static final class Match {
+
+        private final int[] fieldStarts;
+        private final int[] fieldIds;
+        private int fieldCount;
+        private int failPosition;
+        private int failField;
+
+        /**
+         * @param maxFields most fields one input can contain
+         */
+        public Match(int maxFields) {
+
+            this.fieldStarts = new int[maxFields];
+            this.fieldIds = new int[maxFields];
+        }
+
+        /**
+         * @return number of fields seen in the input
+         */
+        public int getFieldCount() {
+            return fieldCount;
+        }
+
+        /**
+         * @param i field number in input order (0-based)
+         * @return index of the first byte of that field
+         */
+        public int getFieldStart(int i) {
+            return fieldStarts[i];
+        }
+
+        /**
+         * @return index of the first byte that does not fit the grammar,
+         *         or the input length if the input ended too early; -1 if accepted
+         */
+        public int getFailPosition() {
+            return failPosition;
+        }
+
+        /**
+         * @return index of the first byte of the field that failed, or the fail position
+         */
+        public int getFailFieldStart() {
+
+            if (failField != 0 && fieldCount > 0 && fieldIds[fieldCount - 1] == failField){
+                return fieldStarts[fieldCount - 1];
+            }
+            return failPosition;
+        }
+    }
+
+    private GrammarRecognizer(String ruleName, int startState, int[] transitions, boolean[] accepting,
+            int[] fieldOf, String[] fieldNames) {
+
+        this.ruleName = ruleName;
+        this.startState = startState;
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.fieldOf = fieldOf;
+        this.fieldNames = fieldNames;
+    }
+
+    /**
+     * Compile a rule of the grammar into a DFA.
+     *
+     * @param grammar    the grammar
+     * @param rule       name of the rule to recognise (must not be recursive)
+     * @param fieldRules names of rules whose positions are tracked as fields
+     * @return the compiled recogniser
+     * @throws IllegalArgumentException if the rule is recursive or uses non-ASCII terminals
+     */
+    public static GrammarRecognizer compile(TachiGrammar grammar, String rule, Set<String> fieldRules) {
+
+        Nfa nfa = new Nfa(grammar, fieldRules);
+        int start = nfa.newState(0);
+        int end = nfa.newState(0);
+        nfa.expand(rule, start, end, 0, new ArrayDeque<>());
+        return nfa.toDfa(rule, start, end);
+    }
+
+    /**
+     * Encode the compiled DFA as a string of 16-bit values, so it can be kept as a
+     * constant (see GrammarTables) and loaded without compiling. Each state's transitions
+     * are stored as runs of consecutive bytes that lead to the same state.
+     *
+     * @return the encoded tables, read back by {@link #fromTable(String)}
+     */
+    String toTable() {
+
+        StringBuilder table = new StringBuilder();
+        appendString(table, ruleName);
+        table.append((char) fieldNames.length);
+        for (String name : fieldNames) {
+            appendString(table, name);
+        }
+        table.append((char) startState).append((char) accepting.length);
+        for (int state = 0; state < accepting.length; state++) {
+            table.append((char) (fieldOf[state] << 1 | (accepting[state] ? 1 : 0)));
+            int runsAt = table.length();
+            table.append((char) 0);
+            int runs = 0;
+            int base = state * ALPHABET;
+            for (int b = 0; b < ALPHABET; b++) {
+                int next = transitions[base + b];
+                if (next == DEAD){
+                    continue;
+                }
+                int last = b;
+                while (last + 1 < ALPHABET && transitions[base + last + 1] == next) {
+                    last++;
+                }
+                table.append((char) b).append((char) last).append((char) next);
+                runs++;
+                b = last;
+            }
+            table.setCharAt(runsAt, (char) runs);
+        }
+        return table.toString();
+    }
+
+    /**
+     * Rebuild a recogniser from {@link #toTable()}.
+     *
+     * @param table encoded tables
+     * @return the recogniser
+     */
+    static GrammarRecognizer fromTable(String table) {
+
+        int[] at = {0};
+        String ruleName = readString(table, at);
+        String[] fieldNames = new String[table.charAt(at[0]++)];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = readString(table, at);
+        }
+        int startState = table.charAt(at[0]++);
+        int count = table.charAt(at[0]++);
+        int[] transitions = new int[count * ALPHABET];
+        Arrays.fill(transitions, DEAD);
+        boolean[] accepting = new boolean[count];
+        int[] fieldOf = new int[count];
+        int i = at[0];
+        for (int state = 0; state < count; state++) {
+            int flags = table.charAt(i++);
+            accepting[state] = (flags & 1) != 0;
+            fieldOf[state] = flags >>> 1;
+            for (int runs = table.charAt(i++); runs > 0; runs--) {
+                int first = table.charAt(i++);
+                int last = table.charAt(i++);
+                Arrays.fill(transitions, state * ALPHABET + first, state * ALPHABET + last + 1, table.charAt(i++));
+            }
+        }
+        return new GrammarRecognizer(ruleName, startState, transitions, accepting, fieldOf, fieldNames);
+    }
+
+    private static void appendString(StringBuilder table, String text) {
+
+        table.append((char) text.length()).append(text);
+    }
+
+    private static String readString(String table, int[] at) {
+
+        int length = table.charAt(at[0]);
+        String text = table.substring(at[0] + 1, at[0] + 1 + length);
+        at[0] += 1 + length;
+        return text;
+    }
+
+    /**
+     * @return name of the rule this recogniser was compiled from
+     */
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    /**
+     * @return number of DFA states
+     */
+    public int getStateCount() {
+        return accepting.length;
+    }
+
+    /**
+     * Recognise ASCII bytes[offset, offset + length) as a whole match of the rule.
+     *
+     * @param input  buffer holding the line
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @param match  receives field positions (relative to offset) and the failure point
+     * @return true if the bytes match the rule
+     */
+    public boolean recognize(byte[] input, int offset, int length, Match match) {
+
+        int[] table = transitions;
+        int[] fields = fieldOf;
+        int state = startState;
+        int currentField = 0;
+        int count = 0;
+
+        for (int i = 0; i < length; i++) {
+            int b = input[offset + i];
+            int next = b < 0 ? DEAD : table[state * ALPHABET + b];
+            if (next == DEAD){
+                return fail(match, i, false, state, currentField, count);
+            }
+            state = next;
+            int field = fields[state];
+            if (field != currentField){
+                currentField = field;
+                if (field != 0 && count < match.fieldStarts.length){
+                    match.fieldStarts[count] = i;
+                    match.fieldIds[count++] = field;
+                }
+            }
+        }
+
+        if (!accepting[state]){
+            return fail(match, length, true, state, currentField, count);
+        }
+        match.fieldCount = count;
+        match.failPosition = -1;
+        match.failField = 0;
+        return true;
+    }
+
+    /**
+     * Recognise a character sequence as a whole match of the rule.
+     * Non-ASCII characters never match.
+     *
+     * @param input the line
+     * @param match receives field positions and the failure point
+     * @return true if the characters match the rule
+     */
+    public boolean recognize(CharSequence input, Match match) {
+
+        int[] table = transitions;
+        int[] fields = fieldOf;
+        int state = startState;
+        int currentField = 0;
+        int count = 0;
+        int length = input.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            int next = c >= ALPHABET ? DEAD : table[state * ALPHABET + c];
+            if (next == DEAD){
+                return fail(match, i, false, state, currentField, count);
+            }
+            state = next;
+            int field = fields[state];
+            if (field != currentField){
+                currentField = field;
+                if (field != 0 && count < match.fieldStarts.length){
+                    match.fieldStarts[count] = i;
+                    match.fieldIds[count++] = field;
+                }
+            }
+        }
+
+        if (!accepting[state]){
+            return fail(match, length, true, state, currentField, count);
+        }
+        match.fieldCount = count;
+        match.failPosition = -1;
+        match.failField = 0;
+        return true;
+    }
+
+    /**
+     * Name of the rule of the field that failed, for error messages.
+     *
+     * @param match a failed match
+     * @return rule name of the failing field, or null if the failure was between fields
+     */
+    public String failFieldName(Match match) {
+
+        return match.failField == 0 ? null : fieldNames[match.failField];
+    }
+
+    private boolean fail(Match match, int position, boolean atEnd, int state, int currentField, int count) {
+
+        match.fieldCount = count;
+        match.failPosition = position;
+        // A byte that does not fit inside a field means that field is malformed
+        match.failField = currentField != 0 && !atEnd ? currentField : blameField(state, currentField);
+        return false;
+    }
+
+    /**
+     * Utility (error path only): the field to blame when the input ends in a state.
+     * That is the current field if it could have continued, otherwise a field the state
+     * leads straight into (the one that was expected next), otherwise none.
+     */
+    private int blameField(int state, int currentField) {
+
+        int expected = 0;
+        for (int b = 0; b < ALPHABET; b++) {
+            int next = transitions[state * ALPHABET + b];
+            if (next == DEAD){
+                continue;
+            }
+            if (currentField != 0 && fieldOf[next] == currentField){
+                return currentField;
+            }
+            if (expected == 0 && fieldOf[next] != currentField){
+                expected = fieldOf[next];
+            }
+        }
+        return expected;
+    }
+
+    /**
+     * Thompson-style NFA built by inlining rule references.
+     */
+    private static final class Nfa {
+
+        private final TachiGrammar grammar;
+        private final Set<String> fieldRules;
+
+        private final List<Integer> field = new ArrayList<>();
+        private final List<List<Integer>> epsilon = new ArrayList<>();
+        private final List<List<int[]>> edges = new ArrayList<>();   // {byte, target}
+        private final List<String> fieldNames = new ArrayList<>(List.of(""));
+
+        Nfa(TachiGrammar grammar, Set<String> fieldRules) {
+
+            this.grammar = grammar;
+            this.fieldRules = fieldRules;
+        }
+
+        int newState(int fieldOccurrence) {
+
+            field.add(fieldOccurrence);
+            epsilon.add(new ArrayList<>());
+            edges.add(new ArrayList<>());
+            return field.size() - 1;
+        }
+
+        void expand(String rule, int start, int end, int fieldOccurrence, ArrayDeque<String> stack) {
+
+            if (stack.contains(rule)){
+                throw new IllegalArgumentException("rule <" + rule + "> is recursive; only regular rules can be compiled");
+            }
+            stack.push(rule);
+            for (List<TachiGrammar.Symbol> alternative : grammar.getRule(rule)) {
+                int current = newState(fieldOccurrence);
+                epsilon.get(start).add(current);
+                for (TachiGrammar.Symbol symbol : alternative) {
+                    if (symbol.isTerminal()){
+                        for (char c : symbol.getText().toCharArray()) {
+                            if (c >= ALPHABET){
+                                throw new IllegalArgumentException("non-ASCII terminal in <" + rule + ">");
+                            }
+                            int next = newState(fieldOccurrence);
+                            edges.get(current).add(new int[] {c, next});
+                            current = next;
+                        }
+                    } else {
+                        int inner = fieldOccurrence;
+                        if (fieldRules.contains(symbol.getText())){
+                            fieldNames.add(symbol.getText());
+                            inner = fieldNames.size() - 1;
+                        }
+                        int innerStart = newState(inner);
+                        int innerEnd = newState(inner);
+                        epsilon.get(current).add(innerStart);
+                        expand(symbol.getText(), innerStart, innerEnd, inner, stack);
+                        int next = newState(fieldOccurrence);
+                        epsilon.get(innerEnd).add(next);
+                        current = next;
+                    }
+                }
+                epsilon.get(current).add(end);
+            }
+            stack.pop();
+        }
+
+        /**
+         * Subset construction. DFA states are keyed by the set of NFA states reached
+         * directly by a byte (before epsilon closure), so every DFA state has one field.
+         */
+        GrammarRecognizer toDfa(String rule, int nfaStart, int nfaEnd) {
+
+            Map<BitSet, Integer> ids = new HashMap<>();
+            List<BitSet> closures = new ArrayList<>();
+            List<Integer> dfaField = new ArrayList<>();
+            List<int[]> rows = new ArrayList<>();
+
+            BitSet startKernel = new BitSet();
+            startKernel.set(nfaStart);
+            ids.put(startKernel, 0);
+            closures.add(closure(startKernel));
+            dfaField.add(0);
+
+            for (int state = 0; state < closures.size(); state++) {
+                int[] row = new int[ALPHABET];
+                Arrays.fill(row, DEAD);
+                BitSet closure = closures.get(state);
+                for (int b = 0; b < ALPHABET; b++) {
+                    BitSet kernel = new BitSet();
+                    for (int s = closure.nextSetBit(0); s >= 0; s = closure.nextSetBit(s + 1)) {
+                        for (int[] edge : edges.get(s)) {
+                            if (edge[0] == b){
+                                kernel.set(edge[1]);
+                            }
+                        }
+                    }
+                    if (kernel.isEmpty()){
+                        continue;
+                    }
+                    Integer id = ids.get(kernel);
+                    if (id == null){
+                        id = closures.size();
+                        ids.put(kernel, id);
+                        closures.add(closure(kernel));
+                        dfaField.add(kernelField(kernel));
+                    }
+                    row[b] = id;
+                }
+                rows.add(row);
+            }
+
+            int count = closures.size();
+            int[] transitions = new int[count * ALPHABET];
+            boolean[] accepting = new boolean[count];
+            int[] fieldOf = new int[count];
+            for (int state = 0; state < count; state++) {
+                System.arraycopy(rows.get(state), 0, transitions, state * ALPHABET, ALPHABET);
+                accepting[state] = closures.get(state).get(nfaEnd);
+                fieldOf[state] = dfaField.get(state);
+            }
+            return new GrammarRecognizer(rule, 0, transitions, accepting, fieldOf,
+                    fieldNames.toArray(new String[0]));
+        }
+
+        private BitSet closure(BitSet kernel) {
+
+            BitSet result = (BitSet) kernel.clone();
+            ArrayDeque<Integer> work = new ArrayDeque<>();
+            kernel.stream().forEach(work::push);
+            while (!work.isEmpty()) {
+                int s = work.pop();
+                for (int next : epsilon.get(s)) {
+                    if (!result.get(next)){
+                        result.set(next);
+                        work.push(next);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private int kernelField(BitSet kernel) {
+
+            for (int s = kernel.nextSetBit(0); s >= 0; s = kernel.nextSetBit(s + 1)) {
+                if (field.get(s) != 0){
+                    return field.get(s);
+                }
+            }
+            return 0;
+        }
+    }
+}
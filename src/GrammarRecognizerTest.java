@@ -0,0 +1,71 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+public class GrammarRecognizerTest {
+
+    private static final Set<String> FIELDS = Set.of("airport", "flight_number", "date", "cabin", "people");
+
+    @Test
+    public void testGrammarFile_Loads() {
+        // every rule referenced in tachi_grammer.txt is defined
+        TachiGrammar grammar = TachiGrammar.load();
+        assertTrue(grammar.hasRule("shop_flight_fare"));
+        assertTrue(grammar.hasRule("seg_line"));
+        assertEquals(2, grammar.getRule("trip_type").size());
+    }
+
+    @Test
+    public void testSegLine_FieldPositions() {
+        // Arrange
+        GrammarRecognizer recognizer = GrammarRecognizer.compile(TachiGrammar.load(), "seg_line", FIELDS);
+        GrammarRecognizer.Match match = new GrammarRecognizer.Match(8);
+        byte[] line = "seg PER SYD QF123 2099-01-01 Y 10".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        boolean accepted = recognizer.recognize(line, 0, line.length, match);
+
+        // Assert: fields in input order
+        assertTrue(accepted);
+        assertEquals(6, match.getFieldCount());
+        int[] expected = {4, 8, 12, 18, 29, 31};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], match.getFieldStart(i), "field " + i);
+        }
+        assertEquals(-1, match.getFailPosition());
+    }
+
+    @Test
+    public void testSegLine_FailPositionAndField() {
+        GrammarRecognizer recognizer = GrammarRecognizer.compile(TachiGrammar.load(), "seg_line", FIELDS);
+        GrammarRecognizer.Match match = new GrammarRecognizer.Match(8);
+
+        // flight number with 5 digits fails on the 5th digit, blamed on flight_number
+        assertFalse(recognizer.recognize("seg PER SYD QF12345 2099-01-01 Y 1", match));
+        assertEquals(18, match.getFailPosition());
+        assertEquals(12, match.getFailFieldStart());
+        assertEquals("flight_number", recognizer.failFieldName(match));
+
+        // line ending before people is blamed on nothing in particular
+        assertFalse(recognizer.recognize("seg PER SYD QF123 2099-01-01 Y", match));
+        assertEquals(30, match.getFailPosition());
+
+        // non-ASCII input never matches
+        assertFalse(recognizer.recognize("seg PÉR SYD QF123 2099-01-01 Y 1", match));
+        assertEquals(5, match.getFailPosition());
+    }
+
+    @Test
+    public void testRecursiveRule_Rejected() {
+        // seg_list refers to itself, so it is not a regular language
+        assertThrows(IllegalArgumentException.class,
+                () -> GrammarRecognizer.compile(TachiGrammar.load(), "seg_list", FIELDS));
+    }
+
+    @Test
+    public void testMalformedGrammar_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> TachiGrammar.parse("<a> ::= <missing>"));
+        assertThrows(IllegalArgumentException.class, () -> TachiGrammar.parse("<a> ::= \"x"));
+    }
+}
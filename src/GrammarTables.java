@@ -0,0 +1,1114 @@
+/**
+ * DFA tables compiled from tachi_grammer.txt, loaded by PrecompiledGrammar.
+ * Generated by {@code java PrecompiledGrammar src/GrammarTables.java}: do not edit.
+ */
+final class GrammarTables {
+
+    // CRC-32 of the tachi_grammer.txt the tables were compiled from
+    static final long GRAMMAR_CRC = 0xB1F95AC6L;
+
+    static final String SHOP_FLIGHT_FARE =
+            "\u0010shop_flight_fare\u0008\u0000\u0007airp"
+            + "ort\u0007airport\u0005cabin\u0004date\u000el"
+            + "ength_of_stay\u0005cabin\u0004date"
+            + "\u0000\u0198\u0000\u0001ss\u0001\u0000\u0001hh\u0002\u0000\u0001oo\u0003\u0000\u0001pp\u0004\u0000\u0001"
+            + "  \u0005\u0000\u0001ff\u0006\u0000\u0001ll\u0007\u0000\u0001ii\u0008\u0000\u0001gg\u0009\u0000"
+            + "\u0001hh\n\u0000\u0001tt\u000b\u0000\u0001  \u000c\u0000\u0001ff\r\u0000\u0001aa\u000e"
+            + "\u0000\u0001rr\u000f\u0000\u0001ee\u0010\u0000\u0001  \u0011\u0000\u001aAA\u0012BB\u0013C"
+            + "C\u0014DD\u0015EE\u0016FF\u0017GG\u0018HH\u0019II\u001aJJ\u001bK"
+            + "K\u001cLL\u001dMM\u001eNN\u001fOO PP!QQ\"RR#S"
+            + "S$TT%UU&VV'WW(XX)YY*ZZ+\u0002"
+            + "\u001aAA,BB-CC.DD/EE0FF1GG2HH"
+            + "3II4JJ5KK6LL7MM8NN9OO:PP"
+            + ";QQ<RR=SS>TT?UU@VVAWWBXX"
+            + "CYYDZZE\u0002\u001aAA,BB-CC.DD/EE0"
+            + "FF1GG2HH3II4JJ5KK6LL7MM8"
+            + "NN9OO:PP;QQ<RR=SS>TT?UU@"
+            + "VVAWWBXXCYYDZZE\u0002\u001aAA,BB-C"
+            + "C.DD/EE0FF1GG2HH3II4JJ5K"
+            + "K6LL7MM8NN9OO:PP;QQ<RR=S"
+            + "S>TT?UU@VVAWWBXXCYYDZZE\u0002"
+            + "\u001aAA,BB-CC.DD/EE0FF1GG2HH"
+            + "3II4JJ5KK6LL7MM8NN9OO:PP"
+            + ";QQ<RR=SS>TT?UU@VVAWWBXX"
+            + "CYYDZZE\u0002\u001aAA,BB-CC.DD/EE0"
+            + "FF1GG2HH3II4JJ5KK6LL7MM8"
+            + "NN9OO:PP;QQ<RR=SS>TT?UU@"
+            + "VVAWWBXXCYYDZZE\u0002\u001aAA,BB-C"
+            + "C.DD/EE0FF1GG2HH3II4JJ5K"
+            + "K6LL7MM8NN9OO:PP;QQ<RR=S"
+            + "S>TT?UU@VVAWWBXXCYYDZZE\u0002"
+            + "\u001aAA,BB-CC.DD/EE0FF1GG2HH"
+            + "3II4JJ5KK6LL7MM8NN9OO:PP"
+            + ";QQ<RR=SS>TT?UU@VVAWWBXX"
+            + "CYYDZZE\u0002\u001aAA,BB-CC.DD/EE0"
+            + "FF1GG2HH3II4JJ5KK6LL7MM8"
+            + "NN9OO:PP;QQ<RR=SS>TT?UU@"
+            + "VVAWWBXXCYYDZZE\u0002\u001aAA,BB-C"
+            + "C.DD/EE0FF1GG2HH3II4JJ5K"
+            + "K6LL7MM8NN9OO:PP;QQ<RR=S"
+            + "S>TT?UU@VVAWWBXXCYYDZZE\u0002"
+            + "\u001aAA,BB-CC.DD/EE0FF1GG2HH"
+            + "3II4JJ5KK6LL7MM8NN9OO:PP"
+            + ";QQ<RR=SS>TT?UU@VVAWWBXX"
+            + "CYYDZZE\u0002\u001aAA,BB-CC.DD/EE0"
+            + "FF1GG2HH3II4JJ5KK6LL7MM8"
+            + "NN9OO:PP;QQ<RR=SS>TT?UU@"
+            + "VVAWWBXXCYYDZZE\u0002\u001aAA,BB-C"
+            + "C.DD/EE0FF1GG2HH3II4JJ5K"
+            + "K6LL7MM8NN9OO:PP;QQ<RR=S"
+            + "S>TT?UU@VVAWWBXXCYYDZZE\u0002"
+            + "\u001aAA,BB-CC.DD/EE0FF1GG2HH"
+            + "3II4JJ5KK6LL7MM8NN9OO:PP"
+            + ";QQ<RR=SS>TT?UU@VVAWWBXX"
+            + "CYYDZZE\u0002\u001aAA,BB-CC.DD/EE0"
+            + "FF1GG2HH3II4JJ5KK6LL7MM8"
+            + "NN9OO:PP;QQ<RR=SS>TT?UU@"
+            + "VVAWWBXXCYYDZZE\u0002\u001aAA,BB-C"
+            + "C.DD/EE0FF1GG2HH3II4JJ5K"
+            + "K6LL7MM8NN9OO:PP;QQ<RR=S"
+            + "S>TT?UU@VVAWWBXXCYYDZZE\u0002"
+            + "\u001aAA,BB-CC.DD/EE0FF1GG2HH"
+            + "3II4JJ5KK6LL7MM8NN9OO:PP"
+            + ";QQ<RR=SS>TT?UU@VVAWWBXX"
+            + "CYYDZZE\u0002\u001aAA,BB-CC.DD/EE0"
+            + "FF1GG2HH3II4JJ5KK6LL7MM8"
+            + "NN9OO:PP;QQ<RR=SS>TT?UU@"
+            + "VVAWWBXXCYYDZZE\u0002\u001aAA,BB-C"
+            + "C.DD/EE0FF1GG2HH3II4JJ5K"
+            + "K6LL7MM8NN9OO:PP;QQ<RR=S"
+            + "S>TT?UU@VVAWWBXXCYYDZZE\u0002"
+            + "\u001aAA,BB-CC.DD/EE0FF1GG2HH"
+            + "3II4JJ5KK6LL7MM8NN9OO:PP"
+            + ";QQ<RR=SS>TT?UU@VVAWWBXX"
+            + "CYYDZZE\u0002\u001aAA,BB-CC.DD/EE0"
+            + "FF1GG2HH3II4JJ5KK6LL7MM8"
+            + "NN9OO:PP;QQ<RR=SS>TT?UU@"
+            + "VVAWWBXXCYYDZZE\u0002\u001aAA,BB-C"
+            + "C.DD/EE0FF1GG2HH3II4JJ5K"
+            + "K6LL7MM8NN9OO:PP;QQ<RR=S"
+            + "S>TT?UU@VVAWWBXXCYYDZZE\u0002"
+            + "\u001aAA,BB-CC.DD/EE0FF1GG2HH"
+            + "3II4JJ5KK6LL7MM8NN9OO:PP"
+            + ";QQ<RR=SS>TT?UU@VVAWWBXX"
+            + "CYYDZZE\u0002\u001aAA,BB-CC.DD/EE0"
+            + "FF1GG2HH3II4JJ5KK6LL7MM8"
+            + "NN9OO:PP;QQ<RR=SS>TT?UU@"
+            + "VVAWWBXXCYYDZZE\u0002\u001aAA,BB-C"
+            + "C.DD/EE0FF1GG2HH3II4JJ5K"
+            + "K6LL7MM8NN9OO:PP;QQ<RR=S"
+            + "S>TT?UU@VVAWWBXXCYYDZZE\u0002"
+            + "\u001aAA,BB-CC.DD/EE0FF1GG2HH"
+            + "3II4JJ5KK6LL7MM8NN9OO:PP"
+            + ";QQ<RR=SS>TT?UU@VVAWWBXX"
+            + "CYYDZZE\u0002\u001aAA,BB-CC.DD/EE0"
+            + "FF1GG2HH3II4JJ5KK6LL7MM8"
+            + "NN9OO:PP;QQ<RR=SS>TT?UU@"
+            + "VVAWWBXXCYYDZZE\u0002\u001aAAFBBGC"
+            + "CHDDIEEJFFKGGLHHMIINJJOK"
+            + "KPLLQMMRNNSOOTPPUQQVRRWS"
+            + "SXTTYUUZVV[WW\\XX]YY^ZZ_\u0002"
+            + "\u001aAAFBBGCCHDDIEEJFFKGGLHH"
+            + "MIINJJOKKPLLQMMRNNSOOTPP"
+            + "UQQVRRWSSXTTYUUZVV[WW\\XX"
+            + "]YY^ZZ_\u0002\u001aAAFBBGCCHDDIEEJ"
+            + "FFKGGLHHMIINJJOKKPLLQMMR"
+            + "NNSOOTPPUQQVRRWSSXTTYUUZ"
+            + "VV[WW\\XX]YY^ZZ_\u0002\u001aAAFBBGC"
+            + "CHDDIEEJFFKGGLHHMIINJJOK"
+            + "KPLLQMMRNNSOOTPPUQQVRRWS"
+            + "SXTTYUUZVV[WW\\XX]YY^ZZ_\u0002"
+            + "\u001aAAFBBGCCHDDIEEJFFKGGLHH"
+            + "MIINJJOKKPLLQMMRNNSOOTPP"
+            + "UQQVRRWSSXTTYUUZVV[WW\\XX"
+            + "]YY^ZZ_\u0002\u001aAAFBBGCCHDDIEEJ"
+            + "FFKGGLHHMIINJJOKKPLLQMMR"
+            + "NNSOOTPPUQQVRRWSSXTTYUUZ"
+            + "VV[WW\\XX]YY^ZZ_\u0002\u001aAAFBBGC"
+            + "CHDDIEEJFFKGGLHHMIINJJOK"
+            + "KPLLQMMRNNSOOTPPUQQVRRWS"
+            + "SXTTYUUZVV[WW\\XX]YY^ZZ_\u0002"
+            + "\u001aAAFBBGCCHDDIEEJFFKGGLHH"
+            + "MIINJJOKKPLLQMMRNNSOOTPP"
+            + "UQQVRRWSSXTTYUUZVV[WW\\XX"
+            + "]YY^ZZ_\u0002\u001aAAFBBGCCHDDIEEJ"
+            + "FFKGGLHHMIINJJOKKPLLQMMR"
+            + "NNSOOTPPUQQVRRWSSXTTYUUZ"
+            + "VV[WW\\XX]YY^ZZ_\u0002\u001aAAFBBGC"
+            + "CHDDIEEJFFKGGLHHMIINJJOK"
+            + "KPLLQMMRNNSOOTPPUQQVRRWS"
+            + "SXTTYUUZVV[WW\\XX]YY^ZZ_\u0002"
+            + "\u001aAAFBBGCCHDDIEEJFFKGGLHH"
+            + "MIINJJOKKPLLQMMRNNSOOTPP"
+            + "UQQVRRWSSXTTYUUZVV[WW\\XX"
+            + "]YY^ZZ_\u0002\u001aAAFBBGCCHDDIEEJ"
+            + "FFKGGLHHMIINJJOKKPLLQMMR"
+            + "NNSOOTPPUQQVRRWSSXTTYUUZ"
+            + "VV[WW\\XX]YY^ZZ_\u0002\u001aAAFBBGC"
+            + "CHDDIEEJFFKGGLHHMIINJJOK"
+            + "KPLLQMMRNNSOOTPPUQQVRRWS"
+            + "SXTTYUUZVV[WW\\XX]YY^ZZ_\u0002"
+            + "\u001aAAFBBGCCHDDIEEJFFKGGLHH"
+            + "MIINJJOKKPLLQMMRNNSOOTPP"
+            + "UQQVRRWSSXTTYUUZVV[WW\\XX"
+            + "]YY^ZZ_\u0002\u001aAAFBBGCCHDDIEEJ"
+            + "FFKGGLHHMIINJJOKKPLLQMMR"
+            + "NNSOOTPPUQQVRRWSSXTTYUUZ"
+            + "VV[WW\\XX]YY^ZZ_\u0002\u001aAAFBBGC"
+            + "CHDDIEEJFFKGGLHHMIINJJOK"
+            + "KPLLQMMRNNSOOTPPUQQVRRWS"
+            + "SXTTYUUZVV[WW\\XX]YY^ZZ_\u0002"
+            + "\u001aAAFBBGCCHDDIEEJFFKGGLHH"
+            + "MIINJJOKKPLLQMMRNNSOOTPP"
+            + "UQQVRRWSSXTTYUUZVV[WW\\XX"
+            + "]YY^ZZ_\u0002\u001aAAFBBGCCHDDIEEJ"
+            + "FFKGGLHHMIINJJOKKPLLQMMR"
+            + "NNSOOTPPUQQVRRWSSXTTYUUZ"
+            + "VV[WW\\XX]YY^ZZ_\u0002\u001aAAFBBGC"
+            + "CHDDIEEJFFKGGLHHMIINJJOK"
+            + "KPLLQMMRNNSOOTPPUQQVRRWS"
+            + "SXTTYUUZVV[WW\\XX]YY^ZZ_\u0002"
+            + "\u001aAAFBBGCCHDDIEEJFFKGGLHH"
+            + "MIINJJOKKPLLQMMRNNSOOTPP"
+            + "UQQVRRWSSXTTYUUZVV[WW\\XX"
+            + "]YY^ZZ_\u0002\u001aAAFBBGCCHDDIEEJ"
+            + "FFKGGLHHMIINJJOKKPLLQMMR"
+            + "NNSOOTPPUQQVRRWSSXTTYUUZ"
+            + "VV[WW\\XX]YY^ZZ_\u0002\u001aAAFBBGC"
+            + "CHDDIEEJFFKGGLHHMIINJJOK"
+            + "KPLLQMMRNNSOOTPPUQQVRRWS"
+            + "SXTTYUUZVV[WW\\XX]YY^ZZ_\u0002"
+            + "\u001aAAFBBGCCHDDIEEJFFKGGLHH"
+            + "MIINJJOKKPLLQMMRNNSOOTPP"
+            + "UQQVRRWSSXTTYUUZVV[WW\\XX"
+            + "]YY^ZZ_\u0002\u001aAAFBBGCCHDDIEEJ"
+            + "FFKGGLHHMIINJJOKKPLLQMMR"
+            + "NNSOOTPPUQQVRRWSSXTTYUUZ"
+            + "VV[WW\\XX]YY^ZZ_\u0002\u001aAAFBBGC"
+            + "CHDDIEEJFFKGGLHHMIINJJOK"
+            + "KPLLQMMRNNSOOTPPUQQVRRWS"
+            + "SXTTYUUZVV[WW\\XX]YY^ZZ_\u0002"
+            + "\u001aAAFBBGCCHDDIEEJFFKGGLHH"
+            + "MIINJJOKKPLLQMMRNNSOOTPP"
+            + "UQQVRRWSSXTTYUUZVV[WW\\XX"
+            + "]YY^ZZ_\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `\u0002\u0001"
+            + "  `\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `\u0002"
+            + "\u0001  `\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `"
+            + "\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `\u0002\u0001  "
+            + "`\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `\u0002\u0001 "
+            + " `\u0002\u0001  `\u0002\u0001  `\u0002\u0001  `\u0000\u001aAAaBB"
+            + "bCCcDDdEEeFFfGGgHHhIIiJJ"
+            + "jKKkLLlMMmNNnOOoPPpQQqRR"
+            + "rSSsTTtUUuVVvWWwXXxYYyZZ"
+            + "z\u0004\u001aAA{BB|CC}DD~EE\u007fFF\u0080GG\u0081"
+            + "HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089"
+            + "PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091"
+            + "XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB|CC}DD~E"
+            + "E\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086M"
+            + "M\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eU"
+            + "U\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB"
+            + "|CC}DD~EE\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ"
+            + "\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR"
+            + "\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ"
+            + "\u0094\u0004\u001aAA{BB|CC}DD~EE\u007fFF\u0080GG\u0081"
+            + "HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089"
+            + "PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091"
+            + "XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB|CC}DD~E"
+            + "E\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086M"
+            + "M\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eU"
+            + "U\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB"
+            + "|CC}DD~EE\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ"
+            + "\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR"
+            + "\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ"
+            + "\u0094\u0004\u001aAA{BB|CC}DD~EE\u007fFF\u0080GG\u0081"
+            + "HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089"
+            + "PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091"
+            + "XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB|CC}DD~E"
+            + "E\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086M"
+            + "M\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eU"
+            + "U\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB"
+            + "|CC}DD~EE\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ"
+            + "\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR"
+            + "\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ"
+            + "\u0094\u0004\u001aAA{BB|CC}DD~EE\u007fFF\u0080GG\u0081"
+            + "HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089"
+            + "PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091"
+            + "XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB|CC}DD~E"
+            + "E\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086M"
+            + "M\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eU"
+            + "U\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB"
+            + "|CC}DD~EE\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ"
+            + "\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR"
+            + "\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ"
+            + "\u0094\u0004\u001aAA{BB|CC}DD~EE\u007fFF\u0080GG\u0081"
+            + "HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089"
+            + "PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091"
+            + "XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB|CC}DD~E"
+            + "E\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086M"
+            + "M\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eU"
+            + "U\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB"
+            + "|CC}DD~EE\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ"
+            + "\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR"
+            + "\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ"
+            + "\u0094\u0004\u001aAA{BB|CC}DD~EE\u007fFF\u0080GG\u0081"
+            + "HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089"
+            + "PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091"
+            + "XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB|CC}DD~E"
+            + "E\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086M"
+            + "M\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eU"
+            + "U\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB"
+            + "|CC}DD~EE\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ"
+            + "\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR"
+            + "\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ"
+            + "\u0094\u0004\u001aAA{BB|CC}DD~EE\u007fFF\u0080GG\u0081"
+            + "HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089"
+            + "PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091"
+            + "XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB|CC}DD~E"
+            + "E\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086M"
+            + "M\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eU"
+            + "U\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB"
+            + "|CC}DD~EE\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ"
+            + "\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR"
+            + "\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ"
+            + "\u0094\u0004\u001aAA{BB|CC}DD~EE\u007fFF\u0080GG\u0081"
+            + "HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089"
+            + "PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091"
+            + "XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB|CC}DD~E"
+            + "E\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086M"
+            + "M\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eU"
+            + "U\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB"
+            + "|CC}DD~EE\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ"
+            + "\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR"
+            + "\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ"
+            + "\u0094\u0004\u001aAA{BB|CC}DD~EE\u007fFF\u0080GG\u0081"
+            + "HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086MM\u0087NN\u0088OO\u0089"
+            + "PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eUU\u008fVV\u0090WW\u0091"
+            + "XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA{BB|CC}DD~E"
+            + "E\u007fFF\u0080GG\u0081HH\u0082II\u0083JJ\u0084KK\u0085LL\u0086M"
+            + "M\u0087NN\u0088OO\u0089PP\u008aQQ\u008bRR\u008cSS\u008dTT\u008eU"
+            + "U\u008fVV\u0090WW\u0091XX\u0092YY\u0093ZZ\u0094\u0004\u001aAA\u0095BB"
+            + "\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ"
+            + "\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR"
+            + "\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ"
+            + "\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009b"
+            + "HH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3"
+            + "PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00ab"
+            + "XX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098E"
+            + "E\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0M"
+            + "M\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8U"
+            + "U\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB"
+            + "\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ"
+            + "\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR"
+            + "\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ"
+            + "\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009b"
+            + "HH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3"
+            + "PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00ab"
+            + "XX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098E"
+            + "E\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0M"
+            + "M\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8U"
+            + "U\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB"
+            + "\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ"
+            + "\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR"
+            + "\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ"
+            + "\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009b"
+            + "HH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3"
+            + "PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00ab"
+            + "XX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098E"
+            + "E\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0M"
+            + "M\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8U"
+            + "U\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB"
+            + "\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ"
+            + "\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR"
+            + "\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ"
+            + "\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009b"
+            + "HH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3"
+            + "PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00ab"
+            + "XX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098E"
+            + "E\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0M"
+            + "M\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8U"
+            + "U\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB"
+            + "\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ"
+            + "\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR"
+            + "\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ"
+            + "\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009b"
+            + "HH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3"
+            + "PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00ab"
+            + "XX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098E"
+            + "E\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0M"
+            + "M\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8U"
+            + "U\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB"
+            + "\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ"
+            + "\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR"
+            + "\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ"
+            + "\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009b"
+            + "HH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3"
+            + "PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00ab"
+            + "XX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098E"
+            + "E\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0M"
+            + "M\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8U"
+            + "U\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB"
+            + "\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ"
+            + "\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR"
+            + "\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ"
+            + "\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009b"
+            + "HH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3"
+            + "PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00ab"
+            + "XX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098E"
+            + "E\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0M"
+            + "M\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8U"
+            + "U\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB"
+            + "\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ"
+            + "\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR"
+            + "\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ"
+            + "\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009b"
+            + "HH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3"
+            + "PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00ab"
+            + "XX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098E"
+            + "E\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0M"
+            + "M\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8U"
+            + "U\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ\u00ae\u0004\u001aAA\u0095BB"
+            + "\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009bHH\u009cII\u009dJJ"
+            + "\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3PP\u00a4QQ\u00a5RR"
+            + "\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00abXX\u00acYY\u00adZZ"
+            + "\u00ae\u0004\u001aAA\u0095BB\u0096CC\u0097DD\u0098EE\u0099FF\u009aGG\u009b"
+            + "HH\u009cII\u009dJJ\u009eKK\u009fLL\u00a0MM\u00a1NN\u00a2OO\u00a3"
+            + "PP\u00a4QQ\u00a5RR\u00a6SS\u00a7TT\u00a8UU\u00a9VV\u00aaWW\u00ab"
+            + "XX\u00acYY\u00adZZ\u00ae\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af"
+            + "\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  "
+            + "\u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001 "
+            + " \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001"
+            + "  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004"
+            + "\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0004\u0001  \u00af\u0000\u0002OO\u00b0"
+            + "RR\u00b1\u0000\u0001nn\u00b2\u0000\u0001ee\u00b3\u0000\u0001ee\u00b4\u0000\u0001tt\u00b5\u0000"
+            + "\u0001WW\u00b6\u0000\u0001uu\u00b7\u0000\u0001aa\u00b8\u0000\u0001rr\u00b9\u0000\u0001yy\u00ba"
+            + "\u0000\u0001nn\u00bb\u0000\u0001  \u00bc\u0000\u0001  \u00bd\u0000\u0006CC\u00beFF\u00bfJ"
+            + "J\u00c0PP\u00c1SS\u00c2YY\u00c3\u0000\n00\u00c411\u00c522\u00c633"
+            + "\u00c744\u00c855\u00c966\u00ca77\u00cb88\u00cc99\u00cd\u0006\u0001  \u00ce"
+            + "\u0006\u0001  \u00ce\u0006\u0001  \u00ce\u0006\u0001  \u00ce\u0006\u0001  \u00ce\u0006\u0001  "
+            + "\u00ce\n\u0001  \u00cf\n\u000b  \u00cf00\u00d011\u00d122\u00d233\u00d34"
+            + "4\u00d455\u00d566\u00d677\u00d788\u00d899\u00d9\n\u0002  \u00cf00"
+            + "\u00da\n\u0001  \u00cf\n\u0001  \u00cf\n\u0001  \u00cf\n\u0001  \u00cf\n\u0001 "
+            + " \u00cf\n\u0001  \u00cf\n\u0001  \u00cf\u0000\n00\u00db11\u00dc22\u00dd3"
+            + "3\u00de44\u00df55\u00e066\u00e177\u00e288\u00e399\u00e4\u0000\u0006CC"
+            + "\u00e5FF\u00e6JJ\u00e7PP\u00e8SS\u00e9YY\u00ea\n\u0001  \u00cf\n\u0001 "
+            + " \u00cf\n\u0001  \u00cf\n\u0001  \u00cf\n\u0001  \u00cf\n\u0001  \u00cf\n\u0001"
+            + "  \u00cf\n\u0001  \u00cf\n\u0001  \u00cf\n\u0001  \u00cf\n\u0001  \u00cf\u0008"
+            + "\n00\u00eb11\u00ec22\u00ed33\u00ee44\u00ef55\u00f066\u00f177"
+            + "\u00f288\u00f399\u00f4\u0008\n00\u00eb11\u00ec22\u00ed33\u00ee44\u00ef"
+            + "55\u00f066\u00f177\u00f288\u00f399\u00f4\u0008\n00\u00eb11\u00ec2"
+            + "2\u00ed33\u00ee44\u00ef55\u00f066\u00f177\u00f288\u00f399\u00f4\u0008"
+            + "\n00\u00eb11\u00ec22\u00ed33\u00ee44\u00ef55\u00f066\u00f177"
+            + "\u00f288\u00f399\u00f4\u0008\n00\u00eb11\u00ec22\u00ed33\u00ee44\u00ef"
+            + "55\u00f066\u00f177\u00f288\u00f399\u00f4\u0008\n00\u00eb11\u00ec2"
+            + "2\u00ed33\u00ee44\u00ef55\u00f066\u00f177\u00f288\u00f399\u00f4\u0008"
+            + "\n00\u00eb11\u00ec22\u00ed33\u00ee44\u00ef55\u00f066\u00f177"
+            + "\u00f288\u00f399\u00f4\u0008\n00\u00eb11\u00ec22\u00ed33\u00ee44\u00ef"
+            + "55\u00f066\u00f177\u00f288\u00f399\u00f4\u0008\n00\u00eb11\u00ec2"
+            + "2\u00ed33\u00ee44\u00ef55\u00f066\u00f177\u00f288\u00f399\u00f4\u0008"
+            + "\n00\u00eb11\u00ec22\u00ed33\u00ee44\u00ef55\u00f066\u00f177"
+            + "\u00f288\u00f399\u00f4\u000c\u0001  \u00f5\u000c\u0001  \u00f5\u000c\u0001  \u00f5\u000c\u0001"
+            + "  \u00f5\u000c\u0001  \u00f5\u000c\u0001  \u00f5\u0008\n00\u00f611\u00f722\u00f8"
+            + "33\u00f944\u00fa55\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0008\n0"
+            + "0\u00f611\u00f722\u00f833\u00f944\u00fa55\u00fb66\u00fc77\u00fd8"
+            + "8\u00fe99\u00ff\u0008\n00\u00f611\u00f722\u00f833\u00f944\u00fa55"
+            + "\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0008\n00\u00f611\u00f722\u00f8"
+            + "33\u00f944\u00fa55\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0008\n0"
+            + "0\u00f611\u00f722\u00f833\u00f944\u00fa55\u00fb66\u00fc77\u00fd8"
+            + "8\u00fe99\u00ff\u0008\n00\u00f611\u00f722\u00f833\u00f944\u00fa55"
+            + "\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0008\n00\u00f611\u00f722\u00f8"
+            + "33\u00f944\u00fa55\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0008\n0"
+            + "0\u00f611\u00f722\u00f833\u00f944\u00fa55\u00fb66\u00fc77\u00fd8"
+            + "8\u00fe99\u00ff\u0008\n00\u00f611\u00f722\u00f833\u00f944\u00fa55"
+            + "\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0008\n00\u00f611\u00f722\u00f8"
+            + "33\u00f944\u00fa55\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0000\n0"
+            + "0\u010011\u010122\u010233\u010344\u010455\u010566\u010677\u01078"
+            + "8\u010899\u0109\u0008\n00\u010a11\u010b22\u010c33\u010d44\u010e55"
+            + "\u010f66\u011077\u011188\u011299\u0113\u0008\n00\u010a11\u010b22\u010c"
+            + "33\u010d44\u010e55\u010f66\u011077\u011188\u011299\u0113\u0008\n0"
+            + "0\u010a11\u010b22\u010c33\u010d44\u010e55\u010f66\u011077\u01118"
+            + "8\u011299\u0113\u0008\n00\u010a11\u010b22\u010c33\u010d44\u010e55"
+            + "\u010f66\u011077\u011188\u011299\u0113\u0008\n00\u010a11\u010b22\u010c"
+            + "33\u010d44\u010e55\u010f66\u011077\u011188\u011299\u0113\u0008\n0"
+            + "0\u010a11\u010b22\u010c33\u010d44\u010e55\u010f66\u011077\u01118"
+            + "8\u011299\u0113\u0008\n00\u010a11\u010b22\u010c33\u010d44\u010e55"
+            + "\u010f66\u011077\u011188\u011299\u0113\u0008\n00\u010a11\u010b22\u010c"
+            + "33\u010d44\u010e55\u010f66\u011077\u011188\u011299\u0113\u0008\n0"
+            + "0\u010a11\u010b22\u010c33\u010d44\u010e55\u010f66\u011077\u01118"
+            + "8\u011299\u0113\u0008\n00\u010a11\u010b22\u010c33\u010d44\u010e55"
+            + "\u010f66\u011077\u011188\u011299\u0113\u000e\n00\u011411\u011522\u0116"
+            + "33\u011744\u011855\u011966\u011a77\u011b88\u011c99\u011d\u000e\n0"
+            + "0\u011411\u011522\u011633\u011744\u011855\u011966\u011a77\u011b8"
+            + "8\u011c99\u011d\u000e\n00\u011411\u011522\u011633\u011744\u011855"
+            + "\u011966\u011a77\u011b88\u011c99\u011d\u000e\n00\u011411\u011522\u0116"
+            + "33\u011744\u011855\u011966\u011a77\u011b88\u011c99\u011d\u000e\n0"
+            + "0\u011411\u011522\u011633\u011744\u011855\u011966\u011a77\u011b8"
+            + "8\u011c99\u011d\u000e\n00\u011411\u011522\u011633\u011744\u011855"
+            + "\u011966\u011a77\u011b88\u011c99\u011d\u000e\n00\u011411\u011522\u0116"
+            + "33\u011744\u011855\u011966\u011a77\u011b88\u011c99\u011d\u000e\n0"
+            + "0\u011411\u011522\u011633\u011744\u011855\u011966\u011a77\u011b8"
+            + "8\u011c99\u011d\u000e\n00\u011411\u011522\u011633\u011744\u011855"
+            + "\u011966\u011a77\u011b88\u011c99\u011d\u000e\n00\u011411\u011522\u0116"
+            + "33\u011744\u011855\u011966\u011a77\u011b88\u011c99\u011d\u0008\u0001-"
+            + "-\u011e\u0008\u0001--\u011e\u0008\u0001--\u011e\u0008\u0001--\u011e\u0008\u0001--\u011e\u0008\u0001"
+            + "--\u011e\u0008\u0001--\u011e\u0008\u0001--\u011e\u0008\u0001--\u011e\u0008\u0001--\u011e\u000e"
+            + "\n00\u011f11\u012022\u012133\u012244\u012355\u012466\u012577"
+            + "\u012688\u012799\u0128\u000e\n00\u011f11\u012022\u012133\u012244\u0123"
+            + "55\u012466\u012577\u012688\u012799\u0128\u000e\n00\u011f11\u01202"
+            + "2\u012133\u012244\u012355\u012466\u012577\u012688\u012799\u0128\u000e"
+            + "\n00\u011f11\u012022\u012133\u012244\u012355\u012466\u012577"
+            + "\u012688\u012799\u0128\u000e\n00\u011f11\u012022\u012133\u012244\u0123"
+            + "55\u012466\u012577\u012688\u012799\u0128\u000e\n00\u011f11\u01202"
+            + "2\u012133\u012244\u012355\u012466\u012577\u012688\u012799\u0128\u000e"
+            + "\n00\u011f11\u012022\u012133\u012244\u012355\u012466\u012577"
+            + "\u012688\u012799\u0128\u000e\n00\u011f11\u012022\u012133\u012244\u0123"
+            + "55\u012466\u012577\u012688\u012799\u0128\u000e\n00\u011f11\u01202"
+            + "2\u012133\u012244\u012355\u012466\u012577\u012688\u012799\u0128\u000e"
+            + "\n00\u011f11\u012022\u012133\u012244\u012355\u012466\u012577"
+            + "\u012688\u012799\u0128\u0008\u000200\u012911\u012a\u000e\n00\u012b11\u012c2"
+            + "2\u012d33\u012e44\u012f55\u013066\u013177\u013288\u013399\u0134\u000e"
+            + "\n00\u012b11\u012c22\u012d33\u012e44\u012f55\u013066\u013177"
+            + "\u013288\u013399\u0134\u000e\n00\u012b11\u012c22\u012d33\u012e44\u012f"
+            + "55\u013066\u013177\u013288\u013399\u0134\u000e\n00\u012b11\u012c2"
+            + "2\u012d33\u012e44\u012f55\u013066\u013177\u013288\u013399\u0134\u000e"
+            + "\n00\u012b11\u012c22\u012d33\u012e44\u012f55\u013066\u013177"
+            + "\u013288\u013399\u0134\u000e\n00\u012b11\u012c22\u012d33\u012e44\u012f"
+            + "55\u013066\u013177\u013288\u013399\u0134\u000e\n00\u012b11\u012c2"
+            + "2\u012d33\u012e44\u012f55\u013066\u013177\u013288\u013399\u0134\u000e"
+            + "\n00\u012b11\u012c22\u012d33\u012e44\u012f55\u013066\u013177"
+            + "\u013288\u013399\u0134\u000e\n00\u012b11\u012c22\u012d33\u012e44\u012f"
+            + "55\u013066\u013177\u013288\u013399\u0134\u000e\n00\u012b11\u012c2"
+            + "2\u012d33\u012e44\u012f55\u013066\u013177\u013288\u013399\u0134\u0008"
+            + "\u000911\u013522\u013633\u013744\u013855\u013966\u013a77\u013b88"
+            + "\u013c99\u013d\u0008\u000300\u013e11\u013f22\u0140\u000e\u0001--\u0141\u000e\u0001--"
+            + "\u0141\u000e\u0001--\u0141\u000e\u0001--\u0141\u000e\u0001--\u0141\u000e\u0001--\u0141\u000e\u0001-"
+            + "-\u0141\u000e\u0001--\u0141\u000e\u0001--\u0141\u000e\u0001--\u0141\u0008\u0001--\u0142\u0008\u0001"
+            + "--\u0142\u0008\u0001--\u0142\u0008\u0001--\u0142\u0008\u0001--\u0142\u0008\u0001--\u0142\u0008"
+            + "\u0001--\u0142\u0008\u0001--\u0142\u0008\u0001--\u0142\u0008\u0001--\u0142\u0008\u0001--\u0142"
+            + "\u0008\u0001--\u0142\u000e\u000200\u014311\u0144\u0008\u000400\u014511\u014622\u0147"
+            + "33\u0148\u000e\u000911\u014922\u014a33\u014b44\u014c55\u014d66\u014e7"
+            + "7\u014f88\u015099\u0151\u000e\u000300\u015211\u015322\u0154\u0008\u000911\u0155"
+            + "22\u015633\u015744\u015855\u015966\u015a77\u015b88\u015c99\u015d"
+            + "\u0008\n00\u015e11\u015f22\u016033\u016144\u016255\u016366\u01647"
+            + "7\u016588\u016699\u0167\u0008\n00\u016811\u016922\u016a33\u016b44"
+            + "\u016c55\u016d66\u016e77\u016f88\u017099\u0171\u0008\u000200\u017211\u0173"
+            + "\u000e\u0001--\u0174\u000e\u0001--\u0174\u000e\u0001--\u0174\u000e\u0001--\u0174\u000e\u0001--"
+            + "\u0174\u000e\u0001--\u0174\u000e\u0001--\u0174\u000e\u0001--\u0174\u000e\u0001--\u0174\u000e\u0001-"
+            + "-\u0174\u000e\u0001--\u0174\u000e\u0001--\u0174\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000"
+            + "\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000"
+            + "\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000\u0009\u0000"
+            + "\u0009\u0000\u000e\u000400\u017511\u017622\u017733\u0178\u000e\u000911\u017922\u017a"
+            + "33\u017b44\u017c55\u017d66\u017e77\u017f88\u018099\u0181\u000e\n0"
+            + "0\u018211\u018322\u018433\u018544\u018655\u018766\u018877\u01898"
+            + "8\u018a99\u018b\u000e\n00\u018c11\u018d22\u018e33\u018f44\u019055"
+            + "\u019166\u019277\u019388\u019499\u0195\u000e\u000200\u019611\u0197\u000f\u0000\u000f"
+            + "\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f"
+            + "\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f"
+            + "\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000\u000f\u0000";
+
+    static final String SEG_LINE =
+            "\u0008seg_line\u0007\u0000\u0007airport\u0007airp"
+            + "ort\rflight_number\u0004date\u0005c"
+            + "abin\u0006people\u0000\u016d\u0000\u0001ss\u0001\u0000\u0001ee\u0002\u0000"
+            + "\u0001gg\u0003\u0000\u0001  \u0004\u0000\u001aAA\u0005BB\u0006CC\u0007DD\u0008E"
+            + "E\u0009FF\nGG\u000bHH\u000cII\rJJ\u000eKK\u000fLL\u0010M"
+            + "M\u0011NN\u0012OO\u0013PP\u0014QQ\u0015RR\u0016SS\u0017TT\u0018U"
+            + "U\u0019VV\u001aWW\u001bXX\u001cYY\u001dZZ\u001e\u0002\u001aAA\u001fBB"
+            + " CC!DD\"EE#FF$GG%HH&II'JJ"
+            + "(KK)LL*MM+NN,OO-PP.QQ/RR"
+            + "0SS1TT2UU3VV4WW5XX6YY7ZZ"
+            + "8\u0002\u001aAA\u001fBB CC!DD\"EE#FF$GG%"
+            + "HH&II'JJ(KK)LL*MM+NN,OO-"
+            + "PP.QQ/RR0SS1TT2UU3VV4WW5"
+            + "XX6YY7ZZ8\u0002\u001aAA\u001fBB CC!DD\"E"
+            + "E#FF$GG%HH&II'JJ(KK)LL*M"
+            + "M+NN,OO-PP.QQ/RR0SS1TT2U"
+            + "U3VV4WW5XX6YY7ZZ8\u0002\u001aAA\u001fBB"
+            + " CC!DD\"EE#FF$GG%HH&II'JJ"
+            + "(KK)LL*MM+NN,OO-PP.QQ/RR"
+            + "0SS1TT2UU3VV4WW5XX6YY7ZZ"
+            + "8\u0002\u001aAA\u001fBB CC!DD\"EE#FF$GG%"
+            + "HH&II'JJ(KK)LL*MM+NN,OO-"
+            + "PP.QQ/RR0SS1TT2UU3VV4WW5"
+            + "XX6YY7ZZ8\u0002\u001aAA\u001fBB CC!DD\"E"
+            + "E#FF$GG%HH&II'JJ(KK)LL*M"
+            + "M+NN,OO-PP.QQ/RR0SS1TT2U"
+            + "U3VV4WW5XX6YY7ZZ8\u0002\u001aAA\u001fBB"
+            + " CC!DD\"EE#FF$GG%HH&II'JJ"
+            + "(KK)LL*MM+NN,OO-PP.QQ/RR"
+            + "0SS1TT2UU3VV4WW5XX6YY7ZZ"
+            + "8\u0002\u001aAA\u001fBB CC!DD\"EE#FF$GG%"
+            + "HH&II'JJ(KK)LL*MM+NN,OO-"
+            + "PP.QQ/RR0SS1TT2UU3VV4WW5"
+            + "XX6YY7ZZ8\u0002\u001aAA\u001fBB CC!DD\"E"
+            + "E#FF$GG%HH&II'JJ(KK)LL*M"
+            + "M+NN,OO-PP.QQ/RR0SS1TT2U"
+            + "U3VV4WW5XX6YY7ZZ8\u0002\u001aAA\u001fBB"
+            + " CC!DD\"EE#FF$GG%HH&II'JJ"
+            + "(KK)LL*MM+NN,OO-PP.QQ/RR"
+            + "0SS1TT2UU3VV4WW5XX6YY7ZZ"
+            + "8\u0002\u001aAA\u001fBB CC!DD\"EE#FF$GG%"
+            + "HH&II'JJ(KK)LL*MM+NN,OO-"
+            + "PP.QQ/RR0SS1TT2UU3VV4WW5"
+            + "XX6YY7ZZ8\u0002\u001aAA\u001fBB CC!DD\"E"
+            + "E#FF$GG%HH&II'JJ(KK)LL*M"
+            + "M+NN,OO-PP.QQ/RR0SS1TT2U"
+            + "U3VV4WW5XX6YY7ZZ8\u0002\u001aAA\u001fBB"
+            + " CC!DD\"EE#FF$GG%HH&II'JJ"
+            + "(KK)LL*MM+NN,OO-PP.QQ/RR"
+            + "0SS1TT2UU3VV4WW5XX6YY7ZZ"
+            + "8\u0002\u001aAA\u001fBB CC!DD\"EE#FF$GG%"
+            + "HH&II'JJ(KK)LL*MM+NN,OO-"
+            + "PP.QQ/RR0SS1TT2UU3VV4WW5"
+            + "XX6YY7ZZ8\u0002\u001aAA\u001fBB CC!DD\"E"
+            + "E#FF$GG%HH&II'JJ(KK)LL*M"
+            + "M+NN,OO-PP.QQ/RR0SS1TT2U"
+            + "U3VV4WW5XX6YY7ZZ8\u0002\u001aAA\u001fBB"
+            + " CC!DD\"EE#FF$GG%HH&II'JJ"
+            + "(KK)LL*MM+NN,OO-PP.QQ/RR"
+            + "0SS1TT2UU3VV4WW5XX6YY7ZZ"
+            + "8\u0002\u001aAA\u001fBB CC!DD\"EE#FF$GG%"
+            + "HH&II'JJ(KK)LL*MM+NN,OO-"
+            + "PP.QQ/RR0SS1TT2UU3VV4WW5"
+            + "XX6YY7ZZ8\u0002\u001aAA\u001fBB CC!DD\"E"
+            + "E#FF$GG%HH&II'JJ(KK)LL*M"
+            + "M+NN,OO-PP.QQ/RR0SS1TT2U"
+            + "U3VV4WW5XX6YY7ZZ8\u0002\u001aAA\u001fBB"
+            + " CC!DD\"EE#FF$GG%HH&II'JJ"
+            + "(KK)LL*MM+NN,OO-PP.QQ/RR"
+            + "0SS1TT2UU3VV4WW5XX6YY7ZZ"
+            + "8\u0002\u001aAA\u001fBB CC!DD\"EE#FF$GG%"
+            + "HH&II'JJ(KK)LL*MM+NN,OO-"
+            + "PP.QQ/RR0SS1TT2UU3VV4WW5"
+            + "XX6YY7ZZ8\u0002\u001aAA\u001fBB CC!DD\"E"
+            + "E#FF$GG%HH&II'JJ(KK)LL*M"
+            + "M+NN,OO-PP.QQ/RR0SS1TT2U"
+            + "U3VV4WW5XX6YY7ZZ8\u0002\u001aAA\u001fBB"
+            + " CC!DD\"EE#FF$GG%HH&II'JJ"
+            + "(KK)LL*MM+NN,OO-PP.QQ/RR"
+            + "0SS1TT2UU3VV4WW5XX6YY7ZZ"
+            + "8\u0002\u001aAA\u001fBB CC!DD\"EE#FF$GG%"
+            + "HH&II'JJ(KK)LL*MM+NN,OO-"
+            + "PP.QQ/RR0SS1TT2UU3VV4WW5"
+            + "XX6YY7ZZ8\u0002\u001aAA\u001fBB CC!DD\"E"
+            + "E#FF$GG%HH&II'JJ(KK)LL*M"
+            + "M+NN,OO-PP.QQ/RR0SS1TT2U"
+            + "U3VV4WW5XX6YY7ZZ8\u0002\u001aAA\u001fBB"
+            + " CC!DD\"EE#FF$GG%HH&II'JJ"
+            + "(KK)LL*MM+NN,OO-PP.QQ/RR"
+            + "0SS1TT2UU3VV4WW5XX6YY7ZZ"
+            + "8\u0002\u001aAA\u001fBB CC!DD\"EE#FF$GG%"
+            + "HH&II'JJ(KK)LL*MM+NN,OO-"
+            + "PP.QQ/RR0SS1TT2UU3VV4WW5"
+            + "XX6YY7ZZ8\u0002\u001aAA9BB:CC;DD<E"
+            + "E=FF>GG?HH@IIAJJBKKCLLDM"
+            + "MENNFOOGPPHQQIRRJSSKTTLU"
+            + "UMVVNWWOXXPYYQZZR\u0002\u001aAA9BB"
+            + ":CC;DD<EE=FF>GG?HH@IIAJJ"
+            + "BKKCLLDMMENNFOOGPPHQQIRR"
+            + "JSSKTTLUUMVVNWWOXXPYYQZZ"
+            + "R\u0002\u001aAA9BB:CC;DD<EE=FF>GG?"
+            + "HH@IIAJJBKKCLLDMMENNFOOG"
+            + "PPHQQIRRJSSKTTLUUMVVNWWO"
+            + "XXPYYQZZR\u0002\u001aAA9BB:CC;DD<E"
+            + "E=FF>GG?HH@IIAJJBKKCLLDM"
+            + "MENNFOOGPPHQQIRRJSSKTTLU"
+            + "UMVVNWWOXXPYYQZZR\u0002\u001aAA9BB"
+            + ":CC;DD<EE=FF>GG?HH@IIAJJ"
+            + "BKKCLLDMMENNFOOGPPHQQIRR"
+            + "JSSKTTLUUMVVNWWOXXPYYQZZ"
+            + "R\u0002\u001aAA9BB:CC;DD<EE=FF>GG?"
+            + "HH@IIAJJBKKCLLDMMENNFOOG"
+            + "PPHQQIRRJSSKTTLUUMVVNWWO"
+            + "XXPYYQZZR\u0002\u001aAA9BB:CC;DD<E"
+            + "E=FF>GG?HH@IIAJJBKKCLLDM"
+            + "MENNFOOGPPHQQIRRJSSKTTLU"
+            + "UMVVNWWOXXPYYQZZR\u0002\u001aAA9BB"
+            + ":CC;DD<EE=FF>GG?HH@IIAJJ"
+            + "BKKCLLDMMENNFOOGPPHQQIRR"
+            + "JSSKTTLUUMVVNWWOXXPYYQZZ"
+            + "R\u0002\u001aAA9BB:CC;DD<EE=FF>GG?"
+            + "HH@IIAJJBKKCLLDMMENNFOOG"
+            + "PPHQQIRRJSSKTTLUUMVVNWWO"
+            + "XXPYYQZZR\u0002\u001aAA9BB:CC;DD<E"
+            + "E=FF>GG?HH@IIAJJBKKCLLDM"
+            + "MENNFOOGPPHQQIRRJSSKTTLU"
+            + "UMVVNWWOXXPYYQZZR\u0002\u001aAA9BB"
+            + ":CC;DD<EE=FF>GG?HH@IIAJJ"
+            + "BKKCLLDMMENNFOOGPPHQQIRR"
+            + "JSSKTTLUUMVVNWWOXXPYYQZZ"
+            + "R\u0002\u001aAA9BB:CC;DD<EE=FF>GG?"
+            + "HH@IIAJJBKKCLLDMMENNFOOG"
+            + "PPHQQIRRJSSKTTLUUMVVNWWO"
+            + "XXPYYQZZR\u0002\u001aAA9BB:CC;DD<E"
+            + "E=FF>GG?HH@IIAJJBKKCLLDM"
+            + "MENNFOOGPPHQQIRRJSSKTTLU"
+            + "UMVVNWWOXXPYYQZZR\u0002\u001aAA9BB"
+            + ":CC;DD<EE=FF>GG?HH@IIAJJ"
+            + "BKKCLLDMMENNFOOGPPHQQIRR"
+            + "JSSKTTLUUMVVNWWOXXPYYQZZ"
+            + "R\u0002\u001aAA9BB:CC;DD<EE=FF>GG?"
+            + "HH@IIAJJBKKCLLDMMENNFOOG"
+            + "PPHQQIRRJSSKTTLUUMVVNWWO"
+            + "XXPYYQZZR\u0002\u001aAA9BB:CC;DD<E"
+            + "E=FF>GG?HH@IIAJJBKKCLLDM"
+            + "MENNFOOGPPHQQIRRJSSKTTLU"
+            + "UMVVNWWOXXPYYQZZR\u0002\u001aAA9BB"
+            + ":CC;DD<EE=FF>GG?HH@IIAJJ"
+            + "BKKCLLDMMENNFOOGPPHQQIRR"
+            + "JSSKTTLUUMVVNWWOXXPYYQZZ"
+            + "R\u0002\u001aAA9BB:CC;DD<EE=FF>GG?"
+            + "HH@IIAJJBKKCLLDMMENNFOOG"
+            + "PPHQQIRRJSSKTTLUUMVVNWWO"
+            + "XXPYYQZZR\u0002\u001aAA9BB:CC;DD<E"
+            + "E=FF>GG?HH@IIAJJBKKCLLDM"
+            + "MENNFOOGPPHQQIRRJSSKTTLU"
+            + "UMVVNWWOXXPYYQZZR\u0002\u001aAA9BB"
+            + ":CC;DD<EE=FF>GG?HH@IIAJJ"
+            + "BKKCLLDMMENNFOOGPPHQQIRR"
+            + "JSSKTTLUUMVVNWWOXXPYYQZZ"
+            + "R\u0002\u001aAA9BB:CC;DD<EE=FF>GG?"
+            + "HH@IIAJJBKKCLLDMMENNFOOG"
+            + "PPHQQIRRJSSKTTLUUMVVNWWO"
+            + "XXPYYQZZR\u0002\u001aAA9BB:CC;DD<E"
+            + "E=FF>GG?HH@IIAJJBKKCLLDM"
+            + "MENNFOOGPPHQQIRRJSSKTTLU"
+            + "UMVVNWWOXXPYYQZZR\u0002\u001aAA9BB"
+            + ":CC;DD<EE=FF>GG?HH@IIAJJ"
+            + "BKKCLLDMMENNFOOGPPHQQIRR"
+            + "JSSKTTLUUMVVNWWOXXPYYQZZ"
+            + "R\u0002\u001aAA9BB:CC;DD<EE=FF>GG?"
+            + "HH@IIAJJBKKCLLDMMENNFOOG"
+            + "PPHQQIRRJSSKTTLUUMVVNWWO"
+            + "XXPYYQZZR\u0002\u001aAA9BB:CC;DD<E"
+            + "E=FF>GG?HH@IIAJJBKKCLLDM"
+            + "MENNFOOGPPHQQIRRJSSKTTLU"
+            + "UMVVNWWOXXPYYQZZR\u0002\u001aAA9BB"
+            + ":CC;DD<EE=FF>GG?HH@IIAJJ"
+            + "BKKCLLDMMENNFOOGPPHQQIRR"
+            + "JSSKTTLUUMVVNWWOXXPYYQZZ"
+            + "R\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001 "
+            + " S\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001"
+            + "  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002"
+            + "\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S"
+            + "\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001  S\u0002\u0001  "
+            + "S\u0002\u0001  S\u0002\u0001  S\u0000\u001aAATBBUCCVDD"
+            + "WEEXFFYGGZHH[II\\JJ]KK^LL"
+            + "_MM`NNaOObPPcQQdRReSSfTT"
+            + "gUUhVViWWjXXkYYlZZm\u0004\u001aAAn"
+            + "BBoCCpDDqEErFFsGGtHHuIIv"
+            + "JJwKKxLLyMMzNN{OO|PP}QQ~"
+            + "RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086"
+            + "ZZ\u0087\u0004\u001aAAnBBoCCpDDqEErFFsG"
+            + "GtHHuIIvJJwKKxLLyMMzNN{O"
+            + "O|PP}QQ~RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083W"
+            + "W\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAnBBoCCpDD"
+            + "qEErFFsGGtHHuIIvJJwKKxLL"
+            + "yMMzNN{OO|PP}QQ~RR\u007fSS\u0080TT"
+            + "\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAn"
+            + "BBoCCpDDqEErFFsGGtHHuIIv"
+            + "JJwKKxLLyMMzNN{OO|PP}QQ~"
+            + "RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086"
+            + "ZZ\u0087\u0004\u001aAAnBBoCCpDDqEErFFsG"
+            + "GtHHuIIvJJwKKxLLyMMzNN{O"
+            + "O|PP}QQ~RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083W"
+            + "W\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAnBBoCCpDD"
+            + "qEErFFsGGtHHuIIvJJwKKxLL"
+            + "yMMzNN{OO|PP}QQ~RR\u007fSS\u0080TT"
+            + "\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAn"
+            + "BBoCCpDDqEErFFsGGtHHuIIv"
+            + "JJwKKxLLyMMzNN{OO|PP}QQ~"
+            + "RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086"
+            + "ZZ\u0087\u0004\u001aAAnBBoCCpDDqEErFFsG"
+            + "GtHHuIIvJJwKKxLLyMMzNN{O"
+            + "O|PP}QQ~RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083W"
+            + "W\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAnBBoCCpDD"
+            + "qEErFFsGGtHHuIIvJJwKKxLL"
+            + "yMMzNN{OO|PP}QQ~RR\u007fSS\u0080TT"
+            + "\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAn"
+            + "BBoCCpDDqEErFFsGGtHHuIIv"
+            + "JJwKKxLLyMMzNN{OO|PP}QQ~"
+            + "RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086"
+            + "ZZ\u0087\u0004\u001aAAnBBoCCpDDqEErFFsG"
+            + "GtHHuIIvJJwKKxLLyMMzNN{O"
+            + "O|PP}QQ~RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083W"
+            + "W\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAnBBoCCpDD"
+            + "qEErFFsGGtHHuIIvJJwKKxLL"
+            + "yMMzNN{OO|PP}QQ~RR\u007fSS\u0080TT"
+            + "\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAn"
+            + "BBoCCpDDqEErFFsGGtHHuIIv"
+            + "JJwKKxLLyMMzNN{OO|PP}QQ~"
+            + "RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086"
+            + "ZZ\u0087\u0004\u001aAAnBBoCCpDDqEErFFsG"
+            + "GtHHuIIvJJwKKxLLyMMzNN{O"
+            + "O|PP}QQ~RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083W"
+            + "W\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAnBBoCCpDD"
+            + "qEErFFsGGtHHuIIvJJwKKxLL"
+            + "yMMzNN{OO|PP}QQ~RR\u007fSS\u0080TT"
+            + "\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAn"
+            + "BBoCCpDDqEErFFsGGtHHuIIv"
+            + "JJwKKxLLyMMzNN{OO|PP}QQ~"
+            + "RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086"
+            + "ZZ\u0087\u0004\u001aAAnBBoCCpDDqEErFFsG"
+            + "GtHHuIIvJJwKKxLLyMMzNN{O"
+            + "O|PP}QQ~RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083W"
+            + "W\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAnBBoCCpDD"
+            + "qEErFFsGGtHHuIIvJJwKKxLL"
+            + "yMMzNN{OO|PP}QQ~RR\u007fSS\u0080TT"
+            + "\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAn"
+            + "BBoCCpDDqEErFFsGGtHHuIIv"
+            + "JJwKKxLLyMMzNN{OO|PP}QQ~"
+            + "RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086"
+            + "ZZ\u0087\u0004\u001aAAnBBoCCpDDqEErFFsG"
+            + "GtHHuIIvJJwKKxLLyMMzNN{O"
+            + "O|PP}QQ~RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083W"
+            + "W\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAnBBoCCpDD"
+            + "qEErFFsGGtHHuIIvJJwKKxLL"
+            + "yMMzNN{OO|PP}QQ~RR\u007fSS\u0080TT"
+            + "\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAn"
+            + "BBoCCpDDqEErFFsGGtHHuIIv"
+            + "JJwKKxLLyMMzNN{OO|PP}QQ~"
+            + "RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086"
+            + "ZZ\u0087\u0004\u001aAAnBBoCCpDDqEErFFsG"
+            + "GtHHuIIvJJwKKxLLyMMzNN{O"
+            + "O|PP}QQ~RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083W"
+            + "W\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAnBBoCCpDD"
+            + "qEErFFsGGtHHuIIvJJwKKxLL"
+            + "yMMzNN{OO|PP}QQ~RR\u007fSS\u0080TT"
+            + "\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAAn"
+            + "BBoCCpDDqEErFFsGGtHHuIIv"
+            + "JJwKKxLLyMMzNN{OO|PP}QQ~"
+            + "RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083WW\u0084XX\u0085YY\u0086"
+            + "ZZ\u0087\u0004\u001aAAnBBoCCpDDqEErFFsG"
+            + "GtHHuIIvJJwKKxLLyMMzNN{O"
+            + "O|PP}QQ~RR\u007fSS\u0080TT\u0081UU\u0082VV\u0083W"
+            + "W\u0084XX\u0085YY\u0086ZZ\u0087\u0004\u001aAA\u0088BB\u0089CC\u008aDD"
+            + "\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL"
+            + "\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT"
+            + "\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088"
+            + "BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090"
+            + "JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098"
+            + "RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0"
+            + "ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dG"
+            + "G\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095O"
+            + "O\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dW"
+            + "W\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD"
+            + "\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL"
+            + "\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT"
+            + "\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088"
+            + "BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090"
+            + "JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098"
+            + "RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0"
+            + "ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dG"
+            + "G\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095O"
+            + "O\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dW"
+            + "W\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD"
+            + "\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL"
+            + "\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT"
+            + "\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088"
+            + "BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090"
+            + "JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098"
+            + "RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0"
+            + "ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dG"
+            + "G\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095O"
+            + "O\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dW"
+            + "W\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD"
+            + "\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL"
+            + "\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT"
+            + "\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088"
+            + "BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090"
+            + "JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098"
+            + "RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0"
+            + "ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dG"
+            + "G\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095O"
+            + "O\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dW"
+            + "W\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD"
+            + "\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL"
+            + "\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT"
+            + "\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088"
+            + "BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090"
+            + "JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098"
+            + "RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0"
+            + "ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dG"
+            + "G\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095O"
+            + "O\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dW"
+            + "W\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD"
+            + "\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL"
+            + "\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT"
+            + "\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088"
+            + "BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090"
+            + "JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098"
+            + "RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0"
+            + "ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dG"
+            + "G\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095O"
+            + "O\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dW"
+            + "W\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD"
+            + "\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL"
+            + "\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT"
+            + "\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088"
+            + "BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090"
+            + "JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098"
+            + "RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0"
+            + "ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dG"
+            + "G\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095O"
+            + "O\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dW"
+            + "W\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD"
+            + "\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL"
+            + "\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT"
+            + "\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088"
+            + "BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090"
+            + "JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098"
+            + "RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0"
+            + "ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dG"
+            + "G\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095O"
+            + "O\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dW"
+            + "W\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088BB\u0089CC\u008aDD"
+            + "\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090JJ\u0091KK\u0092LL"
+            + "\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098RR\u0099SS\u009aTT"
+            + "\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0ZZ\u00a1\u0004\u001aAA\u0088"
+            + "BB\u0089CC\u008aDD\u008bEE\u008cFF\u008dGG\u008eHH\u008fII\u0090"
+            + "JJ\u0091KK\u0092LL\u0093MM\u0094NN\u0095OO\u0096PP\u0097QQ\u0098"
+            + "RR\u0099SS\u009aTT\u009bUU\u009cVV\u009dWW\u009eXX\u009fYY\u00a0"
+            + "ZZ\u00a1\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004"
+            + "\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2"
+            + "\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  "
+            + "\u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001 "
+            + " \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0004\u0001"
+            + "  \u00a2\u0004\u0001  \u00a2\u0004\u0001  \u00a2\u0000\u001aAA\u00a3BB\u00a4CC\u00a5"
+            + "DD\u00a6EE\u00a7FF\u00a8GG\u00a9HH\u00aaII\u00abJJ\u00acKK\u00ad"
+            + "LL\u00aeMM\u00afNN\u00b0OO\u00b1PP\u00b2QQ\u00b3RR\u00b4SS\u00b5"
+            + "TT\u00b6UU\u00b7VV\u00b8WW\u00b9XX\u00baYY\u00bbZZ\u00bc\u0006\u001aA"
+            + "A\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4I"
+            + "I\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQ"
+            + "Q\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4Y"
+            + "Y\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF"
+            + "\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN"
+            + "\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV"
+            + "\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bf"
+            + "DD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7"
+            + "LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cf"
+            + "TT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aA"
+            + "A\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4I"
+            + "I\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQ"
+            + "Q\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4Y"
+            + "Y\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF"
+            + "\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN"
+            + "\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV"
+            + "\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bf"
+            + "DD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7"
+            + "LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cf"
+            + "TT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aA"
+            + "A\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4I"
+            + "I\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQ"
+            + "Q\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4Y"
+            + "Y\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF"
+            + "\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN"
+            + "\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV"
+            + "\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bf"
+            + "DD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7"
+            + "LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cf"
+            + "TT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aA"
+            + "A\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4I"
+            + "I\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQ"
+            + "Q\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4Y"
+            + "Y\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF"
+            + "\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN"
+            + "\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV"
+            + "\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bf"
+            + "DD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7"
+            + "LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cf"
+            + "TT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aA"
+            + "A\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4I"
+            + "I\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQ"
+            + "Q\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4Y"
+            + "Y\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF"
+            + "\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN"
+            + "\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV"
+            + "\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bf"
+            + "DD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7"
+            + "LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cf"
+            + "TT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aA"
+            + "A\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4I"
+            + "I\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQ"
+            + "Q\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4Y"
+            + "Y\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF"
+            + "\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN"
+            + "\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV"
+            + "\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bf"
+            + "DD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7"
+            + "LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cf"
+            + "TT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aA"
+            + "A\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4I"
+            + "I\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQ"
+            + "Q\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4Y"
+            + "Y\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF"
+            + "\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN"
+            + "\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV"
+            + "\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bf"
+            + "DD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7"
+            + "LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cf"
+            + "TT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aA"
+            + "A\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4I"
+            + "I\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQ"
+            + "Q\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4Y"
+            + "Y\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF"
+            + "\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN"
+            + "\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV"
+            + "\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bf"
+            + "DD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7"
+            + "LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cf"
+            + "TT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\u001aA"
+            + "A\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF\u00c2GG\u00c3HH\u00c4I"
+            + "I\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN\u00caOO\u00cbPP\u00ccQ"
+            + "Q\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV\u00d2WW\u00d3XX\u00d4Y"
+            + "Y\u00d5ZZ\u00d6\u0006\u001aAA\u00bdBB\u00beCC\u00bfDD\u00c0EE\u00c1FF"
+            + "\u00c2GG\u00c3HH\u00c4II\u00c5JJ\u00c6KK\u00c7LL\u00c8MM\u00c9NN"
+            + "\u00caOO\u00cbPP\u00ccQQ\u00cdRR\u00ceSS\u00cfTT\u00d0UU\u00d1VV"
+            + "\u00d2WW\u00d3XX\u00d4YY\u00d5ZZ\u00d6\u0006\n00\u00d711\u00d822\u00d9"
+            + "33\u00da44\u00db55\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n0"
+            + "0\u00d711\u00d822\u00d933\u00da44\u00db55\u00dc66\u00dd77\u00de8"
+            + "8\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d933\u00da44\u00db55"
+            + "\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d9"
+            + "33\u00da44\u00db55\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n0"
+            + "0\u00d711\u00d822\u00d933\u00da44\u00db55\u00dc66\u00dd77\u00de8"
+            + "8\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d933\u00da44\u00db55"
+            + "\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d9"
+            + "33\u00da44\u00db55\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n0"
+            + "0\u00d711\u00d822\u00d933\u00da44\u00db55\u00dc66\u00dd77\u00de8"
+            + "8\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d933\u00da44\u00db55"
+            + "\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d9"
+            + "33\u00da44\u00db55\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n0"
+            + "0\u00d711\u00d822\u00d933\u00da44\u00db55\u00dc66\u00dd77\u00de8"
+            + "8\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d933\u00da44\u00db55"
+            + "\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d9"
+            + "33\u00da44\u00db55\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n0"
+            + "0\u00d711\u00d822\u00d933\u00da44\u00db55\u00dc66\u00dd77\u00de8"
+            + "8\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d933\u00da44\u00db55"
+            + "\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d9"
+            + "33\u00da44\u00db55\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n0"
+            + "0\u00d711\u00d822\u00d933\u00da44\u00db55\u00dc66\u00dd77\u00de8"
+            + "8\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d933\u00da44\u00db55"
+            + "\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d9"
+            + "33\u00da44\u00db55\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n0"
+            + "0\u00d711\u00d822\u00d933\u00da44\u00db55\u00dc66\u00dd77\u00de8"
+            + "8\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d933\u00da44\u00db55"
+            + "\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d9"
+            + "33\u00da44\u00db55\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n0"
+            + "0\u00d711\u00d822\u00d933\u00da44\u00db55\u00dc66\u00dd77\u00de8"
+            + "8\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d933\u00da44\u00db55"
+            + "\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n00\u00d711\u00d822\u00d9"
+            + "33\u00da44\u00db55\u00dc66\u00dd77\u00de88\u00df99\u00e0\u0006\n0"
+            + "0\u00d711\u00d822\u00d933\u00da44\u00db55\u00dc66\u00dd77\u00de8"
+            + "8\u00df99\u00e0\u0006\u000b  \u00e100\u00e211\u00e322\u00e433\u00e544"
+            + "\u00e655\u00e766\u00e877\u00e988\u00ea99\u00eb\u0006\u000b  \u00e100\u00e2"
+            + "11\u00e322\u00e433\u00e544\u00e655\u00e766\u00e877\u00e988\u00ea"
+            + "99\u00eb\u0006\u000b  \u00e100\u00e211\u00e322\u00e433\u00e544\u00e65"
+            + "5\u00e766\u00e877\u00e988\u00ea99\u00eb\u0006\u000b  \u00e100\u00e211"
+            + "\u00e322\u00e433\u00e544\u00e655\u00e766\u00e877\u00e988\u00ea99"
+            + "\u00eb\u0006\u000b  \u00e100\u00e211\u00e322\u00e433\u00e544\u00e655\u00e7"
+            + "66\u00e877\u00e988\u00ea99\u00eb\u0006\u000b  \u00e100\u00e211\u00e32"
+            + "2\u00e433\u00e544\u00e655\u00e766\u00e877\u00e988\u00ea99\u00eb\u0006"
+            + "\u000b  \u00e100\u00e211\u00e322\u00e433\u00e544\u00e655\u00e766"
+            + "\u00e877\u00e988\u00ea99\u00eb\u0006\u000b  \u00e100\u00e211\u00e322\u00e4"
+            + "33\u00e544\u00e655\u00e766\u00e877\u00e988\u00ea99\u00eb\u0006\u000b "
+            + " \u00e100\u00e211\u00e322\u00e433\u00e544\u00e655\u00e766\u00e87"
+            + "7\u00e988\u00ea99\u00eb\u0006\u000b  \u00e100\u00e211\u00e322\u00e433"
+            + "\u00e544\u00e655\u00e766\u00e877\u00e988\u00ea99\u00eb\u0000\n00\u00ec"
+            + "11\u00ed22\u00ee33\u00ef44\u00f055\u00f166\u00f277\u00f388\u00f4"
+            + "99\u00f5\u0006\u000b  \u00e100\u00f611\u00f722\u00f833\u00f944\u00fa5"
+            + "5\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0006\u000b  \u00e100\u00f611"
+            + "\u00f722\u00f833\u00f944\u00fa55\u00fb66\u00fc77\u00fd88\u00fe99"
+            + "\u00ff\u0006\u000b  \u00e100\u00f611\u00f722\u00f833\u00f944\u00fa55\u00fb"
+            + "66\u00fc77\u00fd88\u00fe99\u00ff\u0006\u000b  \u00e100\u00f611\u00f72"
+            + "2\u00f833\u00f944\u00fa55\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0006"
+            + "\u000b  \u00e100\u00f611\u00f722\u00f833\u00f944\u00fa55\u00fb66"
+            + "\u00fc77\u00fd88\u00fe99\u00ff\u0006\u000b  \u00e100\u00f611\u00f722\u00f8"
+            + "33\u00f944\u00fa55\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0006\u000b "
+            + " \u00e100\u00f611\u00f722\u00f833\u00f944\u00fa55\u00fb66\u00fc7"
+            + "7\u00fd88\u00fe99\u00ff\u0006\u000b  \u00e100\u00f611\u00f722\u00f833"
+            + "\u00f944\u00fa55\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0006\u000b  \u00e1"
+            + "00\u00f611\u00f722\u00f833\u00f944\u00fa55\u00fb66\u00fc77\u00fd"
+            + "88\u00fe99\u00ff\u0006\u000b  \u00e100\u00f611\u00f722\u00f833\u00f94"
+            + "4\u00fa55\u00fb66\u00fc77\u00fd88\u00fe99\u00ff\u0008\n00\u010011"
+            + "\u010122\u010233\u010344\u010455\u010566\u010677\u010788\u010899"
+            + "\u0109\u0008\n00\u010011\u010122\u010233\u010344\u010455\u010566\u0106"
+            + "77\u010788\u010899\u0109\u0008\n00\u010011\u010122\u010233\u01034"
+            + "4\u010455\u010566\u010677\u010788\u010899\u0109\u0008\n00\u010011"
+            + "\u010122\u010233\u010344\u010455\u010566\u010677\u010788\u010899"
+            + "\u0109\u0008\n00\u010011\u010122\u010233\u010344\u010455\u010566\u0106"
+            + "77\u010788\u010899\u0109\u0008\n00\u010011\u010122\u010233\u01034"
+            + "4\u010455\u010566\u010677\u010788\u010899\u0109\u0008\n00\u010011"
+            + "\u010122\u010233\u010344\u010455\u010566\u010677\u010788\u010899"
+            + "\u0109\u0008\n00\u010011\u010122\u010233\u010344\u010455\u010566\u0106"
+            + "77\u010788\u010899\u0109\u0008\n00\u010011\u010122\u010233\u01034"
+            + "4\u010455\u010566\u010677\u010788\u010899\u0109\u0008\n00\u010011"
+            + "\u010122\u010233\u010344\u010455\u010566\u010677\u010788\u010899"
+            + "\u0109\u0006\u000b  \u00e100\u010a11\u010b22\u010c33\u010d44\u010e55\u010f"
+            + "66\u011077\u011188\u011299\u0113\u0006\u000b  \u00e100\u010a11\u010b2"
+            + "2\u010c33\u010d44\u010e55\u010f66\u011077\u011188\u011299\u0113\u0006"
+            + "\u000b  \u00e100\u010a11\u010b22\u010c33\u010d44\u010e55\u010f66"
+            + "\u011077\u011188\u011299\u0113\u0006\u000b  \u00e100\u010a11\u010b22\u010c"
+            + "33\u010d44\u010e55\u010f66\u011077\u011188\u011299\u0113\u0006\u000b "
+            + " \u00e100\u010a11\u010b22\u010c33\u010d44\u010e55\u010f66\u01107"
+            + "7\u011188\u011299\u0113\u0006\u000b  \u00e100\u010a11\u010b22\u010c33"
+            + "\u010d44\u010e55\u010f66\u011077\u011188\u011299\u0113\u0006\u000b  \u00e1"
+            + "00\u010a11\u010b22\u010c33\u010d44\u010e55\u010f66\u011077\u0111"
+            + "88\u011299\u0113\u0006\u000b  \u00e100\u010a11\u010b22\u010c33\u010d4"
+            + "4\u010e55\u010f66\u011077\u011188\u011299\u0113\u0006\u000b  \u00e100"
+            + "\u010a11\u010b22\u010c33\u010d44\u010e55\u010f66\u011077\u011188"
+            + "\u011299\u0113\u0006\u000b  \u00e100\u010a11\u010b22\u010c33\u010d44\u010e"
+            + "55\u010f66\u011077\u011188\u011299\u0113\u0008\n00\u011411\u01152"
+            + "2\u011633\u011744\u011855\u011966\u011a77\u011b88\u011c99\u011d\u0008"
+            + "\n00\u011411\u011522\u011633\u011744\u011855\u011966\u011a77"
+            + "\u011b88\u011c99\u011d\u0008\n00\u011411\u011522\u011633\u011744\u0118"
+            + "55\u011966\u011a77\u011b88\u011c99\u011d\u0008\n00\u011411\u01152"
+            + "2\u011633\u011744\u011855\u011966\u011a77\u011b88\u011c99\u011d\u0008"
+            + "\n00\u011411\u011522\u011633\u011744\u011855\u011966\u011a77"
+            + "\u011b88\u011c99\u011d\u0008\n00\u011411\u011522\u011633\u011744\u0118"
+            + "55\u011966\u011a77\u011b88\u011c99\u011d\u0008\n00\u011411\u01152"
+            + "2\u011633\u011744\u011855\u011966\u011a77\u011b88\u011c99\u011d\u0008"
+            + "\n00\u011411\u011522\u011633\u011744\u011855\u011966\u011a77"
+            + "\u011b88\u011c99\u011d\u0008\n00\u011411\u011522\u011633\u011744\u0118"
+            + "55\u011966\u011a77\u011b88\u011c99\u011d\u0008\n00\u011411\u01152"
+            + "2\u011633\u011744\u011855\u011966\u011a77\u011b88\u011c99\u011d\u0006"
+            + "\u0001  \u00e1\u0006\u0001  \u00e1\u0006\u0001  \u00e1\u0006\u0001  \u00e1\u0006\u0001  \u00e1"
+            + "\u0006\u0001  \u00e1\u0006\u0001  \u00e1\u0006\u0001  \u00e1\u0006\u0001  \u00e1\u0006\u0001  "
+            + "\u00e1\u0008\n00\u011e11\u011f22\u012033\u012144\u012255\u012366\u0124"
+            + "77\u012588\u012699\u0127\u0008\n00\u011e11\u011f22\u012033\u01214"
+            + "4\u012255\u012366\u012477\u012588\u012699\u0127\u0008\n00\u011e11"
+            + "\u011f22\u012033\u012144\u012255\u012366\u012477\u012588\u012699"
+            + "\u0127\u0008\n00\u011e11\u011f22\u012033\u012144\u012255\u012366\u0124"
+            + "77\u012588\u012699\u0127\u0008\n00\u011e11\u011f22\u012033\u01214"
+            + "4\u012255\u012366\u012477\u012588\u012699\u0127\u0008\n00\u011e11"
+            + "\u011f22\u012033\u012144\u012255\u012366\u012477\u012588\u012699"
+            + "\u0127\u0008\n00\u011e11\u011f22\u012033\u012144\u012255\u012366\u0124"
+            + "77\u012588\u012699\u0127\u0008\n00\u011e11\u011f22\u012033\u01214"
+            + "4\u012255\u012366\u012477\u012588\u012699\u0127\u0008\n00\u011e11"
+            + "\u011f22\u012033\u012144\u012255\u012366\u012477\u012588\u012699"
+            + "\u0127\u0008\n00\u011e11\u011f22\u012033\u012144\u012255\u012366\u0124"
+            + "77\u012588\u012699\u0127\u0008\u0001--\u0128\u0008\u0001--\u0128\u0008\u0001--\u0128"
+            + "\u0008\u0001--\u0128\u0008\u0001--\u0128\u0008\u0001--\u0128\u0008\u0001--\u0128\u0008\u0001--"
+            + "\u0128\u0008\u0001--\u0128\u0008\u0001--\u0128\u0008\u000200\u012911\u012a\u0008\u000911\u012b"
+            + "22\u012c33\u012d44\u012e55\u012f66\u013077\u013188\u013299\u0133"
+            + "\u0008\u000300\u013411\u013522\u0136\u0008\u0001--\u0137\u0008\u0001--\u0137\u0008\u0001-"
+            + "-\u0137\u0008\u0001--\u0137\u0008\u0001--\u0137\u0008\u0001--\u0137\u0008\u0001--\u0137\u0008\u0001"
+            + "--\u0137\u0008\u0001--\u0137\u0008\u0001--\u0137\u0008\u0001--\u0137\u0008\u0001--\u0137\u0008"
+            + "\u000400\u013811\u013922\u013a33\u013b\u0008\u000911\u013c22\u013d33\u013e"
+            + "44\u013f55\u014066\u014177\u014288\u014399\u0144\u0008\n00\u01451"
+            + "1\u014622\u014733\u014844\u014955\u014a66\u014b77\u014c88\u014d9"
+            + "9\u014e\u0008\n00\u014f11\u015022\u015133\u015244\u015355\u015466"
+            + "\u015577\u015688\u015799\u0158\u0008\u000200\u015911\u015a\u0008\u0001  \u015b\u0008"
+            + "\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b"
+            + "\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  "
+            + "\u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001 "
+            + " \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001"
+            + "  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008"
+            + "\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b\u0008\u0001  \u015b"
+            + "\u0008\u0001  \u015b\u0000\u0006CC\u015cFF\u015dJJ\u015ePP\u015fSS\u0160YY"
+            + "\u0161\n\u0001  \u0162\n\u0001  \u0162\n\u0001  \u0162\n\u0001  \u0162\n\u0001 "
+            + " \u0162\n\u0001  \u0162\u0000\u000911\u016322\u016433\u016544\u016655\u0167"
+            + "66\u016877\u016988\u016a99\u016b\r\u000100\u016c\r\u0000\r\u0000\r\u0000\r"
+            + "\u0000\r\u0000\r\u0000\r\u0000\r\u0000\r\u0000";
+
+    private GrammarTables() {
+    }
+}
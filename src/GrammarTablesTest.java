@@ -0,0 +1,49 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+
+public class GrammarTablesTest {
+
+    private static final String REGENERATE =
+            "GrammarTables is out of date: run java -cp validator/target/classes PrecompiledGrammar src/GrammarTables.java";
+
+    @Test
+    public void testTables_MatchGrammarFile() {
+        // the committed tables must be what the current grammar compiles to
+        assertEquals(GrammarTables.GRAMMAR_CRC, PrecompiledGrammar.grammarCrc(), REGENERATE);
+        assertEquals(PrecompiledGrammar.compile("shop_flight_fare").toTable(), GrammarTables.SHOP_FLIGHT_FARE, REGENERATE);
+        assertEquals(PrecompiledGrammar.compile("seg_line").toTable(), GrammarTables.SEG_LINE, REGENERATE);
+    }
+
+    @Test
+    public void testGrammarCrc_IgnoresCrlf() {
+        // Arrange
+        byte[] lf = "<a> ::= \"x\"\n<b> ::= \"\\r\"\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] crlf = "<a> ::= \"x\"\r\n<b> ::= \"\\r\"\r\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] cr = "<a> ::= \"x\"\r<b> ::= \"\\r\"\r".getBytes(StandardCharsets.US_ASCII);
+
+        // Act / Assert: CRLF reads as LF; a lone CR is kept
+        assertEquals(PrecompiledGrammar.crc(lf), PrecompiledGrammar.crc(crlf));
+        assertNotEquals(PrecompiledGrammar.crc(lf), PrecompiledGrammar.crc(cr));
+    }
+
+    @Test
+    public void testFromTable_RecognisesLikeCompiled() {
+        // Arrange
+        GrammarRecognizer compiled = PrecompiledGrammar.compile("seg_line");
+        GrammarRecognizer loaded = GrammarRecognizer.fromTable(compiled.toTable());
+        GrammarRecognizer.Match expected = new GrammarRecognizer.Match(8);
+        GrammarRecognizer.Match actual = new GrammarRecognizer.Match(8);
+
+        // Act / Assert: same outcome, fields and failure point
+        for (String line : new String[] {"seg PER SYD QF123 2099-01-01 Y 1", "seg PER SYD QF12345 2099-01-01 Y 1",
+                "seg PER SYD QF123 2099-13-01 Y 1", "seg per SYD QF123 2099-01-01 Y 1", "seg PER SYD"}) {
+            assertEquals(compiled.recognize(line, expected), loaded.recognize(line, actual), line);
+            assertEquals(expected.getFieldCount(), actual.getFieldCount(), line);
+            assertEquals(expected.getFailPosition(), actual.getFailPosition(), line);
+            assertEquals(compiled.failFieldName(expected), loaded.failFieldName(actual), line);
+        }
+        assertEquals(compiled.getStateCount(), loaded.getStateCount());
+        assertEquals("seg_line", loaded.getRuleName());
+    }
+}
@@ -0,0 +1,271 @@
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Canonical packed IDs for the codes that repeat across Tachi traffic:
+ * airports, airline prefixes, flight numbers and cabins.
+ *
+ * Each letter A–Z takes 5 bits, so codes pack into small ints:
+ * <ul>
+ *   <li>airport: 3 × 5 bits (0 – 32767)</li>
+ *   <li>airline: 2 × 5 bits (0 – 1023)</li>
+ *   <li>flight number: airline (10 bits), digit count − 1 (2 bits), number (14 bits).
+ *       The digit count keeps QF123 and QF0123 apart, as the grammar allows both.</li>
+ *   <li>cabin: index into {@link #CABIN_CODES}</li>
+ * </ul>
+ * Equal codes always have equal IDs, so comparing codes is one int compare.
+ *
+ * Going back to text uses flyweights: each airport and airline code is turned into a
+ * String once and that instance is returned from then on. Flight numbers are rebuilt
+ * from the canonical airline code on each call. Invalid codes pack to {@link #INVALID}.
+ * All methods are thread-safe.
+ */
+public final class IataCodes {
+
+    /**
+     * Returned by the pack methods for input that is not a valid code.
+     */
+    public static final int INVALID = -1;
+
+    /**
+     * Cabin codes from the grammar, in ID order.
+     */
+    public static final String CABIN_CODES = "PFJCSY";
+
+    private static final int LETTER_BITS = 5;
+    private static final int AIRLINE_BITS = 2 * LETTER_BITS;
+    private static final int NUMBER_BITS = 14;
+    private static final int NUMBER_MASK = (1 << NUMBER_BITS) - 1;
+    private static final int DIGITS_SHIFT = NUMBER_BITS;
+    private static final int AIRLINE_SHIFT = NUMBER_BITS + 2;
+
+    private static final int AIRPORT_COUNT = 1 << (3 * LETTER_BITS);
+    private static final int AIRLINE_COUNT = 1 << AIRLINE_BITS;
+
+    // Flyweights, filled in on first use; racing threads may build the same String
+    // twice, but only the first one published is ever returned
+    private static final AtomicReferenceArray<String> AIRPORTS = new AtomicReferenceArray<>(AIRPORT_COUNT);
+    private static final AtomicReferenceArray<String> AIRLINES = new AtomicReferenceArray<>(AIRLINE_COUNT);
+
+    private IataCodes() {
+    }
+
+    /**
+     * Pack a 3-letter airport code.
+     *
+     * @param code e.g. PER
+     * @return the airport ID, or INVALID if code is not 3 uppercase letters
+     */
+    public static int airport(CharSequence code) {
+
+        if (code == null || code.length() != 3){
+            return INVALID;
+        }
+        return letters(code.charAt(0), code.charAt(1), code.charAt(2));
+    }
+
+    /**
+     * Pack the 3-letter airport code at text[offset, offset + 3), e.g. a field inside a command line.
+     *
+     * @param text   input characters
+     * @param offset index of the first letter
+     * @return the airport ID, or INVALID if those characters are not 3 uppercase letters
+     */
+    public static int airport(CharSequence text, int offset) {
+
+        return letters(text.charAt(offset), text.charAt(offset + 1), text.charAt(offset + 2));
+    }
+
+    /**
+     * Pack the 3-letter airport code at bytes[offset, offset + 3).
+     *
+     * @param bytes  ASCII input
+     * @param offset index of the first letter
+     * @return the airport ID, or INVALID if those bytes are not 3 uppercase letters
+     */
+    public static int airport(byte[] bytes, int offset) {
+
+        return letters((char) bytes[offset], (char) bytes[offset + 1], (char) bytes[offset + 2]);
+    }
+
+    /**
+     * @return true if id is an airport ID (not INVALID or out of range)
+     */
+    static boolean isAirportId(int id) {
+
+        return id >= 0 && id < AIRPORT_COUNT;
+    }
+
+    /**
+     * @param id airport ID from {@link #airport(CharSequence)}
+     * @return the canonical String for that airport
+     * @throws IllegalArgumentException if id is not an airport ID
+     */
+    public static String airportCode(int id) {
+
+        if (!isAirportId(id)){
+            throw new IllegalArgumentException("not an airport id: " + id);
+        }
+        return flyweight(AIRPORTS, id, 3);
+    }
+
+    /**
+     * Pack a flight number: 2 uppercase letters and 1–4 digits.
+     *
+     * @param code e.g. QF123
+     * @return the flight number ID, or INVALID if code is not a valid flight number
+     */
+    public static int flightNumber(CharSequence code) {
+
+        if (code == null || code.length() < 3 || code.length() > 6){
+            return INVALID;
+        }
+        int airline = letters(code.charAt(0), code.charAt(1));
+        int number = 0;
+        for (int i = 2; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9'){
+                return INVALID;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return airline < 0 ? INVALID : packFlight(airline, code.length() - 2, number);
+    }
+
+    /**
+     * Pack the flight number at bytes[offset, offset + length).
+     *
+     * @param bytes  ASCII input
+     * @param offset index of the first letter
+     * @param length 3 to 6
+     * @return the flight number ID, or INVALID if those bytes are not a valid flight number
+     */
+    public static int flightNumber(byte[] bytes, int offset, int length) {
+
+        if (length < 3 || length > 6){
+            return INVALID;
+        }
+        int airline = letters((char) bytes[offset], (char) bytes[offset + 1]);
+        int number = 0;
+        for (int i = offset + 2; i < offset + length; i++) {
+            int c = bytes[i];
+            if (c < '0' || c > '9'){
+                return INVALID;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return airline < 0 ? INVALID : packFlight(airline, length - 2, number);
+    }
+
+    /**
+     * @param flightId flight number ID
+     * @return the airline ID held in it
+     */
+    public static int airlineOf(int flightId) {
+        return flightId >>> AIRLINE_SHIFT;
+    }
+
+    /**
+     * @param flightId flight number ID
+     * @return the numeric part, e.g. 123 for QF123
+     */
+    public static int numberOf(int flightId) {
+        return flightId & NUMBER_MASK;
+    }
+
+    /**
+     * @param id airline ID
+     * @return the canonical String for that airline prefix
+     * @throws IllegalArgumentException if id is not an airline ID
+     */
+    public static String airlineCode(int id) {
+
+        if (id < 0 || id >= AIRLINE_COUNT){
+            throw new IllegalArgumentException("not an airline id: " + id);
+        }
+        return flyweight(AIRLINES, id, 2);
+    }
+
+    /**
+     * @param flightId flight number ID from {@link #flightNumber(CharSequence)}
+     * @return the flight number text, with its original leading zeros
+     * @throws IllegalArgumentException if flightId is not a flight number ID
+     */
+    public static String flightNumberCode(int flightId) {
+
+        if (flightId < 0){
+            throw new IllegalArgumentException("not a flight number id: " + flightId);
+        }
+        int digits = ((flightId >>> DIGITS_SHIFT) & 3) + 1;
+        StringBuilder text = new StringBuilder(2 + digits).append(airlineCode(airlineOf(flightId)));
+        int number = numberOf(flightId);
+        for (int divisor = pow10(digits - 1); divisor > 0; divisor /= 10) {
+            text.append((char) ('0' + number / divisor % 10));
+        }
+        return text.toString();
+    }
+
+    /**
+     * @param code cabin code P, F, J, C, S or Y
+     * @return the cabin ID, or INVALID
+     */
+    public static int cabin(char code) {
+        return CABIN_CODES.indexOf(code);
+    }
+
+    /**
+     * @param id cabin ID
+     * @return the cabin code
+     * @throws IllegalArgumentException if id is not a cabin ID
+     */
+    public static char cabinCode(int id) {
+
+        if (id < 0 || id >= CABIN_CODES.length()){
+            throw new IllegalArgumentException("not a cabin id: " + id);
+        }
+        return CABIN_CODES.charAt(id);
+    }
+
+    private static int packFlight(int airline, int digits, int number) {
+
+        return airline << AIRLINE_SHIFT | (digits - 1) << DIGITS_SHIFT | number;
+    }
+
+    private static int letters(char a, char b) {
+
+        return a < 'A' || a > 'Z' || b < 'A' || b > 'Z'
+                ? INVALID : (a - 'A') << LETTER_BITS | (b - 'A');
+    }
+
+    private static int letters(char a, char b, char c) {
+
+        int first = letters(a, b);
+        return first < 0 || c < 'A' || c > 'Z' ? INVALID : first << LETTER_BITS | (c - 'A');
+    }
+
+    /**
+     * Utility: the cached String for a packed letter code, built on first use.
+     */
+    private static String flyweight(AtomicReferenceArray<String> cache, int id, int letters) {
+
+        String code = cache.get(id);
+        if (code != null){
+            return code;
+        }
+        byte[] text = new byte[letters];
+        for (int i = letters - 1, rest = id; i >= 0; i--, rest >>>= LETTER_BITS) {
+            text[i] = (byte) ('A' + (rest & 31));
+        }
+        code = new String(text, StandardCharsets.US_ASCII);
+        return cache.compareAndSet(id, null, code) ? code : cache.get(id);
+    }
+
+    private static int pow10(int exponent) {
+
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+
+public class IataCodesTest {
+
+    @Test
+    public void testAirport_RoundTripAndRange() {
+        // AAA and ZZZ are the ends of the range; every ID fits in 15 bits
+        assertEquals(0, IataCodes.airport("AAA"));
+        assertEquals((25 << 10) | (25 << 5) | 25, IataCodes.airport("ZZZ"));
+        int per = IataCodes.airport("PER");
+        assertEquals("PER", IataCodes.airportCode(per));
+        byte[] bytes = "seg PER SYD".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(per, IataCodes.airport(bytes, 4));
+        assertNotEquals(per, IataCodes.airport(bytes, 8));
+    }
+
+    @Test
+    public void testAirport_Flyweight() {
+        // the same String instance is returned for the same code
+        int syd = IataCodes.airport(new StringBuilder("SYD"));
+        assertSame(IataCodes.airportCode(syd), IataCodes.airportCode(IataCodes.airport("SYD")));
+    }
+
+    @Test
+    public void testAirport_Invalid() {
+        assertEquals(IataCodes.INVALID, IataCodes.airport("PE"));
+        assertEquals(IataCodes.INVALID, IataCodes.airport("P3R"));
+        assertEquals(IataCodes.INVALID, IataCodes.airport("per"));
+        assertEquals(IataCodes.INVALID, IataCodes.airport((String) null));
+        assertThrows(IllegalArgumentException.class, () -> IataCodes.airportCode(IataCodes.INVALID));
+    }
+
+    @Test
+    public void testFlightNumber_RoundTrip() {
+        for (String code : new String[] {"QF1", "QF123", "VA6789", "ZZ9999", "QF0123", "AA0"}) {
+            int id = IataCodes.flightNumber(code);
+            assertTrue(id >= 0, code);
+            assertEquals(code, IataCodes.flightNumberCode(id));
+            byte[] bytes = code.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(id, IataCodes.flightNumber(bytes, 0, bytes.length), code);
+        }
+        // leading zeros give a different code
+        assertNotEquals(IataCodes.flightNumber("QF123"), IataCodes.flightNumber("QF0123"));
+        int qf123 = IataCodes.flightNumber("QF123");
+        assertEquals(123, IataCodes.numberOf(qf123));
+        assertEquals("QF", IataCodes.airlineCode(IataCodes.airlineOf(qf123)));
+    }
+
+    @Test
+    public void testFlightNumber_Invalid() {
+        assertEquals(IataCodes.INVALID, IataCodes.flightNumber("QF"));
+        assertEquals(IataCodes.INVALID, IataCodes.flightNumber("QF12345"));
+        assertEquals(IataCodes.INVALID, IataCodes.flightNumber("12345"));
+        assertEquals(IataCodes.INVALID, IataCodes.flightNumber("QF12A"));
+    }
+
+    @Test
+    public void testCabin() {
+        for (char code : "PFJCSY".toCharArray()) {
+            assertEquals(code, IataCodes.cabinCode(IataCodes.cabin(code)));
+        }
+        assertEquals(IataCodes.INVALID, IataCodes.cabin('X'));
+    }
+}
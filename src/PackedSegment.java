@@ -0,0 +1,176 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size binary encoding of one segment ({@link #BYTES} bytes, no object headers):
+ *
+ * <pre>
+ * long  bits  0–14  origin airport ID        (IataCodes)
+ *       bits 15–29  destination airport ID
+ *       bits 30–55  flight number ID
+ *       bits 56–58  cabin ID (P F J C S Y)
+ *       bits 59–62  people, 1–10
+ * int   epoch day of the departure date
+ * </pre>
+ *
+ * The long holds everything that identifies the booking, so two segments on the same
+ * day compare with one long compare. Static methods only.
+ */
+public final class PackedSegment {
+
+    /**
+     * Size of one encoded segment: the codes long plus the epoch-day int.
+     */
+    public static final int BYTES = Long.BYTES + Integer.BYTES;
+
+    private static final int AIRPORT_BITS = 15;
+    private static final int FLIGHT_BITS = 26;
+    private static final int CABIN_BITS = 3;
+    private static final int PEOPLE_BITS = 4;
+
+    private static final int DESTINATION_SHIFT = AIRPORT_BITS;
+    private static final int FLIGHT_SHIFT = 2 * AIRPORT_BITS;
+    private static final int CABIN_SHIFT = FLIGHT_SHIFT + FLIGHT_BITS;
+    private static final int PEOPLE_SHIFT = CABIN_SHIFT + CABIN_BITS;
+
+    /**
+     * Bits of the packed codes holding origin, destination and cabin.
+     */
+    public static final long ROUTE_AND_CABIN_MASK =
+            (1L << (2 * AIRPORT_BITS)) - 1 | ((1L << CABIN_BITS) - 1) << CABIN_SHIFT;
+
+    private PackedSegment() {
+    }
+
+    /**
+     * Pack the code fields of a segment.
+     *
+     * @param origin      airport ID
+     * @param destination airport ID
+     * @param flight      flight number ID
+     * @param cabin       cabin ID
+     * @param numPeople   1 to 10
+     * @return the packed codes
+     * @throws IllegalArgumentException if a field is out of range
+     */
+    public static long packCodes(int origin, int destination, int flight, int cabin, int numPeople) {
+
+        if (!fits(origin, AIRPORT_BITS) || !fits(destination, AIRPORT_BITS) || !fits(flight, FLIGHT_BITS)
+                || cabin < 0 || cabin >= IataCodes.CABIN_CODES.length() || numPeople < 1 || numPeople > 10){
+            throw new IllegalArgumentException("segment field out of range");
+        }
+        return origin
+                | (long) destination << DESTINATION_SHIFT
+                | (long) flight << FLIGHT_SHIFT
+                | (long) cabin << CABIN_SHIFT
+                | (long) numPeople << PEOPLE_SHIFT;
+    }
+
+    /**
+     * Packed codes with only origin, destination and cabin set, to compare against
+     * {@code codes & ROUTE_AND_CABIN_MASK}.
+     *
+     * @param origin      airport ID
+     * @param destination airport ID
+     * @param cabin       cabin ID
+     * @return the masked key
+     * @throws IllegalArgumentException if a field is out of range
+     */
+    public static long routeAndCabin(int origin, int destination, int cabin) {
+
+        return packCodes(origin, destination, 0, cabin, 1) & ROUTE_AND_CABIN_MASK;
+    }
+
+    /**
+     * @param segment a parsed seg line
+     * @return its packed codes
+     */
+    public static long packCodes(SegmentLine segment) {
+
+        return packCodes(segment.getOriginId(), segment.getDestinationId(), segment.getFlightNumberId(),
+                segment.getCabinId(), segment.getNumPeople());
+    }
+
+    /**
+     * @param segment a parsed seg line
+     * @return days since 1970-01-01 of its departure date
+     */
+    public static int epochDay(SegmentLine segment) {
+
+        int key = segment.getDepartureDateKey();
+        return (int) DateTimeChecker.epochDay(key / 10000, key / 100 % 100, key % 100);
+    }
+
+    public static int origin(long codes) {
+        return field(codes, 0, AIRPORT_BITS);
+    }
+
+    public static int destination(long codes) {
+        return field(codes, DESTINATION_SHIFT, AIRPORT_BITS);
+    }
+
+    public static int flightNumber(long codes) {
+        return field(codes, FLIGHT_SHIFT, FLIGHT_BITS);
+    }
+
+    public static int cabin(long codes) {
+        return field(codes, CABIN_SHIFT, CABIN_BITS);
+    }
+
+    public static int numPeople(long codes) {
+        return field(codes, PEOPLE_SHIFT, PEOPLE_BITS);
+    }
+
+    /**
+     * Write one encoded segment at buffer[offset, offset + BYTES).
+     *
+     * @param buffer   destination; its byte order is used
+     * @param offset   absolute index to write at
+     * @param codes    packed codes
+     * @param epochDay departure date as days since 1970-01-01
+     */
+    public static void write(ByteBuffer buffer, int offset, long codes, int epochDay) {
+
+        buffer.putLong(offset, codes);
+        buffer.putInt(offset + Long.BYTES, epochDay);
+    }
+
+    /**
+     * @param buffer holding an encoded segment
+     * @param offset absolute index of the segment
+     * @return its packed codes
+     */
+    public static long readCodes(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset);
+    }
+
+    /**
+     * @param buffer holding an encoded segment
+     * @param offset absolute index of the segment
+     * @return its departure date as days since 1970-01-01
+     */
+    public static int readEpochDay(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + Long.BYTES);
+    }
+
+    /**
+     * Rebuild a segment from its encoding.
+     *
+     * @param line     line number to give the segment
+     * @param codes    packed codes
+     * @param epochDay departure date as days since 1970-01-01
+     * @return the segment
+     */
+    public static SegmentLine toSegmentLine(long line, long codes, int epochDay) {
+
+        return new SegmentLine(line, origin(codes), destination(codes), flightNumber(codes),
+                DateTimeChecker.dateKeyOfEpochDay(epochDay), cabin(codes), numPeople(codes));
+    }
+
+    private static boolean fits(int value, int bits) {
+        return value >= 0 && value < 1 << bits;
+    }
+
+    private static int field(long codes, int shift, int bits) {
+        return (int) (codes >>> shift) & ((1 << bits) - 1);
+    }
+}
@@ -0,0 +1,148 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * The grammar recognisers CommandValidator uses, loaded from tables compiled ahead of time.
+ *
+ * Compiling the shop flight fare and seg line DFAs from tachi_grammer.txt takes a few
+ * hundred milliseconds in a cold JVM, which dominates a short-lived CLI or serverless
+ * run. The compiled tables are therefore kept as string constants in GrammarTables,
+ * which {@link #main} generates; loading them is a few array fills. GrammarTablesTest
+ * fails if GrammarTables no longer matches the grammar file.
+ *
+ * Start the JVM with {@code -Dtachi.grammar.compile=true} to compile from the grammar
+ * file instead (e.g. while editing the grammar).
+ *
+ * Regenerate after changing the grammar:
+ * <pre>
+ * java -cp validator/target/classes PrecompiledGrammar src/GrammarTables.java
+ * </pre>
+ */
+public final class PrecompiledGrammar {
+
+    /**
+     * System property: true to compile the recognisers from the grammar file at startup.
+     */
+    public static final String COMPILE_PROPERTY = "tachi.grammar.compile";
+
+    // Rules whose positions CommandValidator reads
+    static final Set<String> FIELD_RULES =
+            Set.of("airport", "flight_number", "date", "cabin", "length_of_stay", "people");
+
+    private PrecompiledGrammar() {
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 1){
+            System.err.println("usage: java PrecompiledGrammar <output GrammarTables.java>");
+            System.exit(2);
+        }
+        StringBuilder source = new StringBuilder();
+        source.append("/**\n")
+                .append(" * DFA tables compiled from tachi_grammer.txt, loaded by PrecompiledGrammar.\n")
+                .append(" * Generated by {@code java PrecompiledGrammar src/GrammarTables.java}: do not edit.\n")
+                .append(" */\n")
+                .append("final class GrammarTables {\n\n")
+                .append("    // CRC-32 of the tachi_grammer.txt the tables were compiled from\n")
+                .append(String.format("    static final long GRAMMAR_CRC = 0x%08XL;%n%n", grammarCrc()))
+                .append("    static final String SHOP_FLIGHT_FARE =\n")
+                .append(literal(compile("shop_flight_fare").toTable())).append(";\n\n")
+                .append("    static final String SEG_LINE =\n")
+                .append(literal(compile("seg_line").toTable())).append(";\n\n")
+                .append("    private GrammarTables() {\n")
+                .append("    }\n")
+                .append("}\n");
+        Files.writeString(Path.of(args[0]), source, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param rule "shop_flight_fare" or "seg_line"
+     * @return the recogniser for the rule, from GrammarTables unless compiling is requested
+     */
+    static GrammarRecognizer recognizer(String rule) {
+
+        if (Boolean.getBoolean(COMPILE_PROPERTY)){
+            return compile(rule);
+        }
+        switch (rule) {
+            case "shop_flight_fare":
+                return GrammarRecognizer.fromTable(GrammarTables.SHOP_FLIGHT_FARE);
+            case "seg_line":
+                return GrammarRecognizer.fromTable(GrammarTables.SEG_LINE);
+            default:
+                throw new IllegalArgumentException("no precompiled table for <" + rule + ">");
+        }
+    }
+
+    /**
+     * Compile a rule from the grammar file, tracking the fields CommandValidator reads.
+     */
+    static GrammarRecognizer compile(String rule) {
+
+        return GrammarRecognizer.compile(TachiGrammar.load(), rule, FIELD_RULES);
+    }
+
+    /**
+     * @return CRC-32 of the grammar file as TachiGrammar finds it, with CRLF line endings
+     *         read as LF so that a Windows checkout matches the tables
+     */
+    static long grammarCrc() {
+
+        try (InputStream in = TachiGrammar.class.getResourceAsStream("/" + TachiGrammar.FILE_NAME)) {
+            return crc(in != null ? in.readAllBytes() : Files.readAllBytes(Path.of(TachiGrammar.FILE_NAME)));
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot read " + TachiGrammar.FILE_NAME, e);
+        }
+    }
+
+    /**
+     * Utility: CRC-32 of the text with each CR that starts a CRLF left out.
+     */
+    static long crc(byte[] text) {
+
+        CRC32 crc = new CRC32();
+        int start = 0;
+        for (int i = 0; i + 1 < text.length; i++) {
+            if (text[i] == '\r' && text[i + 1] == '\n'){
+                crc.update(text, start, i - start);
+                start = i + 1;
+            }
+        }
+        crc.update(text, start, text.length - start);
+        return crc.getValue();
+    }
+
+    /**
+     * Utility: a Java string literal of the table, printable ASCII as is and other values escaped, 24 values per line.
+     */
+    private static String literal(String table) {
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < table.length(); i += 24) {
+            text.append(i == 0 ? "            \"" : "\n            + \"");
+            for (int j = i; j < Math.min(i + 24, table.length()); j++) {
+                char c = table.charAt(j);
+                // unicode escapes are translated before parsing, so these need their own escapes
+                if (c == '\n'){
+                    text.append("\\n");
+                } else if (c == '\r'){
+                    text.append("\\r");
+                } else if (c == '"' || c == '\\'){
+                    text.append('\\').append(c);
+                } else if (c >= ' ' && c <= '~'){
+                    text.append(c);
+                } else {
+                    text.append(String.format("\\u%04x", (int) c));
+                }
+            }
+            text.append('"');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,388 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Running totals of requested seats per (flight, departure date, cabin) over a stream
+ * of validated segments.
+ *
+ * Each cabin class has its own table, split into lock stripes; a stripe is an
+ * open-addressing map from {@code flight << 32 | epoch day} (long) to the seat total
+ * (int), with no boxing. Updaters on different stripes do not meet, and a
+ * {@link #snapshot()} copies one stripe at a time, so writers are never all stopped.
+ *
+ * Totals whose departure date is before DateTimeChecker's "today" are dropped by
+ * {@link #expire()}, which callers run periodically (e.g. once a minute from a
+ * scheduler); it only does work once the day has moved on.
+ *
+ * Thread-safe.
+ */
+public final class SeatDemandAggregator {
+
+    private static final int CABINS = IataCodes.CABIN_CODES.length();
+    private static final int DEFAULT_STRIPES = 16;
+
+    private final Stripe[][] stripes;
+    // Stripe index from the top bits of the hash; Stripe.find uses the low bits
+    private final int stripeShift;
+
+    // Epoch day before which totals were last dropped
+    private volatile int expiredBefore = Integer.MIN_VALUE;
+
+    /**
+     * Receives totals from a snapshot.
+     */
+    public interface Visitor {
+
+        /**
+         * @param flightNumber flight number ID (IataCodes)
+         * @param epochDay     departure date as days since 1970-01-01
+         * @param cabin        cabin ID
+         * @param seats        seats requested so far
+         */
+        void visit(int flightNumber, int epochDay, int cabin, int seats);
+    }
+
+    public SeatDemandAggregator() {
+
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripes lock stripes per cabin, a power of two from 1 to 1024
+     * @throws IllegalArgumentException if stripes is not a power of two in range
+     */
+    public SeatDemandAggregator(int stripes) {
+
+        if (stripes < 1 || stripes > 1024 || Integer.bitCount(stripes) != 1){
+            throw new IllegalArgumentException("stripes must be a power of two from 1 to 1024");
+        }
+        this.stripes = new Stripe[CABINS][stripes];
+        for (Stripe[] cabin : this.stripes) {
+            for (int i = 0; i < stripes; i++) {
+                cabin[i] = new Stripe();
+            }
+        }
+        this.stripeShift = 32 - Integer.numberOfTrailingZeros(stripes);
+    }
+
+    /**
+     * Add the people of one validated segment.
+     *
+     * @param segment a segment from the parser or AirBookRequestValidator
+     */
+    public void add(SegmentLine segment) {
+
+        add(segment.getFlightNumberId(), PackedSegment.epochDay(segment), segment.getCabinId(), segment.getNumPeople());
+    }
+
+    /**
+     * Add the segments of one valid request.
+     *
+     * @param segments the request's segments
+     */
+    public void addAll(List<SegmentLine> segments) {
+
+        for (SegmentLine segment : segments) {
+            add(segment);
+        }
+    }
+
+    /**
+     * Add seats for one flight, date and cabin.
+     *
+     * @param flightNumber flight number ID (IataCodes)
+     * @param epochDay     departure date as days since 1970-01-01
+     * @param cabin        cabin ID
+     * @param seats        seats to add, at least 1; a total stops at Integer.MAX_VALUE
+     * @throws IllegalArgumentException if cabin or seats is out of range
+     */
+    public void add(int flightNumber, int epochDay, int cabin, int seats) {
+
+        checkCabin(cabin);
+        if (seats < 1){
+            throw new IllegalArgumentException("seats must be at least 1");
+        }
+        long key = key(flightNumber, epochDay);
+        stripe(cabin, key).add(key, seats);
+    }
+
+    /**
+     * @return seats requested so far for the flight, date and cabin (0 if none)
+     * @throws IllegalArgumentException if cabin is not a cabin ID
+     */
+    public int getSeats(int flightNumber, int epochDay, int cabin) {
+
+        checkCabin(cabin);
+        long key = key(flightNumber, epochDay);
+        return stripe(cabin, key).get(key);
+    }
+
+    /**
+     * Listener to give an AirBookRequestParser: segments are held until their request
+     * ends and then added, so segments of a request that fails are never counted.
+     * Use one listener per parser.
+     *
+     * @return a new listener feeding this aggregator
+     */
+    public AirBookRequestListener requestListener() {
+
+        return new AirBookRequestListener() {
+
+            private final List<SegmentLine> pending = new ArrayList<>();
+
+            @Override
+            public void onRequestStart(long line) {
+                pending.clear();
+            }
+
+            @Override
+            public void onSegment(SegmentLine segment) {
+                pending.add(segment);
+            }
+
+            @Override
+            public void onRequestEnd(long line, int segmentCount) {
+                addAll(pending);
+                pending.clear();
+            }
+
+            @Override
+            public void onError(CommandError error) {
+                pending.clear();
+            }
+        };
+    }
+
+    /**
+     * Drop totals whose departure date is before today (DateTimeChecker's clock).
+     * Cheap when the day has not changed since the last call.
+     *
+     * @return number of (flight, date, cabin) totals dropped
+     */
+    public int expire() {
+
+        int today = DateTimeChecker.getTodayClock().today();
+        int firstLiveDay = (int) DateTimeChecker.epochDay(today / 10000, today / 100 % 100, today % 100);
+        if (firstLiveDay <= expiredBefore){
+            return 0;
+        }
+        int dropped = 0;
+        for (Stripe[] cabin : stripes) {
+            for (Stripe stripe : cabin) {
+                dropped += stripe.expire(firstLiveDay);
+            }
+        }
+        expiredBefore = firstLiveDay;
+        return dropped;
+    }
+
+    /**
+     * Copy all totals, one stripe at a time. Updates made while the copy runs may or may
+     * not be included, but each total is one that existed at some moment.
+     *
+     * @return an immutable copy
+     */
+    public Snapshot snapshot() {
+
+        long[][] keys = new long[CABINS][];
+        int[][] seats = new int[CABINS][];
+        for (int cabin = 0; cabin < CABINS; cabin++) {
+            Snapshot.Builder builder = new Snapshot.Builder();
+            for (Stripe stripe : stripes[cabin]) {
+                stripe.copyTo(builder);
+            }
+            builder.sort();
+            keys[cabin] = Arrays.copyOf(builder.keys, builder.size);
+            seats[cabin] = Arrays.copyOf(builder.seats, builder.size);
+        }
+        return new Snapshot(keys, seats);
+    }
+
+    private static void checkCabin(int cabin) {
+
+        if (cabin < 0 || cabin >= CABINS){
+            throw new IllegalArgumentException("cabin must be a cabin ID");
+        }
+    }
+
+    private Stripe stripe(int cabin, long key) {
+
+        Stripe[] cabinStripes = stripes[cabin];
+        return cabinStripes[cabinStripes.length == 1 ? 0 : hash(key) >>> stripeShift];
+    }
+
+    private static long key(int flightNumber, int epochDay) {
+
+        return (long) flightNumber << 32 | (epochDay & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+
+        return Long.hashCode(key * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Immutable copy of the totals, sorted by flight then date within each cabin.
+     */
+    public static final class Snapshot {
+
+        private final long[][] keys;
+        private final int[][] seats;
+
+        private Snapshot(long[][] keys, int[][] seats) {
+
+            this.keys = keys;
+            this.seats = seats;
+        }
+
+        /**
+         * @return seats requested for the flight, date and cabin when the snapshot was taken
+         * @throws IllegalArgumentException if cabin is not a cabin ID
+         */
+        public int getSeats(int flightNumber, int epochDay, int cabin) {
+
+            checkCabin(cabin);
+            int index = Arrays.binarySearch(keys[cabin], key(flightNumber, epochDay));
+            return index < 0 ? 0 : seats[cabin][index];
+        }
+
+        /**
+         * @return number of (flight, date, cabin) totals
+         */
+        public int size() {
+
+            int size = 0;
+            for (long[] cabin : keys) {
+                size += cabin.length;
+            }
+            return size;
+        }
+
+        /**
+         * Visit every total, cabin by cabin, in flight and date order.
+         */
+        public void forEach(Visitor visitor) {
+
+            for (int cabin = 0; cabin < CABINS; cabin++) {
+                for (int i = 0; i < keys[cabin].length; i++) {
+                    long key = keys[cabin][i];
+                    visitor.visit((int) (key >>> 32), (int) key, cabin, seats[cabin][i]);
+                }
+            }
+        }
+
+        /**
+         * Collects stripe contents for one cabin.
+         */
+        private static final class Builder {
+
+            long[] keys = new long[64];
+            int[] seats = new int[64];
+            int size;
+
+            void add(long key, int count) {
+
+                if (size == keys.length){
+                    keys = Arrays.copyOf(keys, size * 2);
+                    seats = Arrays.copyOf(seats, size * 2);
+                }
+                keys[size] = key;
+                seats[size++] = count;
+            }
+
+            /**
+             * Sort by key, moving each seat total with its key.
+             */
+            void sort() {
+
+                long[] sortedKeys = Arrays.copyOf(keys, size);
+                Arrays.sort(sortedKeys);
+                int[] sortedSeats = new int[size];
+                for (int i = 0; i < size; i++) {
+                    // keys are unique within a cabin, so binary search finds each one's place
+                    sortedSeats[Arrays.binarySearch(sortedKeys, keys[i])] = seats[i];
+                }
+                keys = sortedKeys;
+                seats = sortedSeats;
+            }
+        }
+    }
+
+    /**
+     * One lock stripe: open-addressing long → int map with linear probing.
+     * A seat total of 0 marks a free slot (totals are always at least 1).
+     */
+    private static final class Stripe {
+
+        private long[] keys = new long[16];
+        private int[] seats = new int[16];
+        private int size;
+
+        synchronized void add(long key, int count) {
+
+            int slot = find(key);
+            if (seats[slot] == 0){
+                if ((size + 1) * 4 > keys.length * 3){
+                    rehash(keys.length * 2, Integer.MIN_VALUE);
+                    slot = find(key);
+                }
+                keys[slot] = key;
+                size++;
+            }
+            // saturate: a total that wrapped to 0 or below would read as a free slot
+            seats[slot] = (int) Math.min((long) seats[slot] + count, Integer.MAX_VALUE);
+        }
+
+        synchronized int get(long key) {
+
+            return seats[find(key)];
+        }
+
+        synchronized int expire(int firstLiveDay) {
+
+            int before = size;
+            rehash(keys.length, firstLiveDay);
+            return before - size;
+        }
+
+        synchronized void copyTo(Snapshot.Builder builder) {
+
+            for (int i = 0; i < keys.length; i++) {
+                if (seats[i] != 0){
+                    builder.add(keys[i], seats[i]);
+                }
+            }
+        }
+
+        private int find(long key) {
+
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (seats[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Utility: rebuild the table at the given capacity, keeping totals departing on or after firstLiveDay.
+         */
+        private void rehash(int capacity, int firstLiveDay) {
+
+            long[] oldKeys = keys;
+            int[] oldSeats = seats;
+            keys = new long[capacity];
+            seats = new int[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldSeats[i] != 0 && (int) oldKeys[i] >= firstLiveDay){
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    seats[slot] = oldSeats[i];
+                    size++;
+                }
+            }
+        }
+    }
+}
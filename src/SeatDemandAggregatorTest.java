@@ -0,0 +1,187 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+public class SeatDemandAggregatorTest {
+
+    private static final int QF123 = IataCodes.flightNumber("QF123");
+    private static final int Y = IataCodes.cabin('Y');
+    private static final int J = IataCodes.cabin('J');
+
+    /**
+     * Clock whose instant can be moved by the test, to simulate days passing.
+     */
+    private static final class MutableClock extends Clock {
+
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    @BeforeEach
+    public void pinToday() {
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    private static int day(int year, int month, int dayOfMonth) {
+        return (int) LocalDate.of(year, month, dayOfMonth).toEpochDay();
+    }
+
+    @Test
+    public void testRequestListener_CountsOnlyValidRequests() {
+        // Arrange
+        SeatDemandAggregator aggregator = new SeatDemandAggregator();
+        AirBookRequestParser parser = new AirBookRequestParser(aggregator.requestListener());
+        byte[] input = ("air book request\n"
+                + "seg PER SYD QF123 2030-01-05 Y 3\n"
+                + "seg SYD PER QF124 2030-01-09 J 2\n"
+                + "EOC\n"
+                + "air book request\n"
+                + "seg PER SYD QF123 2030-01-05 Y 4\n"
+                + "seg PER PER QF123 2030-01-05 Y 4\n"
+                + "EOC\n"
+                + "air book request\n"
+                + "seg PER SYD QF123 2030-01-05 Y 10\n"
+                + "EOC\n").getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        parser.feed(input, 0, input.length);
+        parser.finish();
+
+        // Assert: the second request failed, so its first segment is not counted
+        assertEquals(13, aggregator.getSeats(QF123, day(2030, 1, 5), Y));
+        assertEquals(2, aggregator.getSeats(IataCodes.flightNumber("QF124"), day(2030, 1, 9), J));
+        assertEquals(0, aggregator.getSeats(QF123, day(2030, 1, 5), J));
+    }
+
+    @Test
+    public void testSnapshotAndExpiry() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2030-01-01T02:00:00Z").toEpochMilli());
+        DateTimeChecker.setTodayClock(TodayClock.of(clock));
+        SeatDemandAggregator aggregator = new SeatDemandAggregator(2);
+        for (int d = 1; d <= 10; d++) {
+            aggregator.add(QF123, day(2030, 1, d), Y, d);
+        }
+        aggregator.add(QF123, day(2030, 1, 3), J, 1);
+
+        // Act
+        SeatDemandAggregator.Snapshot before = aggregator.snapshot();
+        aggregator.add(QF123, day(2030, 1, 3), Y, 100);
+        clock.millis += 5 * 24 * 60 * 60 * 1000L;     // today is now 2030-01-06
+        int dropped = aggregator.expire();
+
+        // Assert
+        assertEquals(11, before.size());
+        assertEquals(3, before.getSeats(QF123, day(2030, 1, 3), Y));
+        StringBuilder order = new StringBuilder();
+        before.forEach((flight, epochDay, cabin, seats) -> order.append(IataCodes.cabinCode(cabin)).append(seats).append(' '));
+        assertEquals("J1 Y1 Y2 Y3 Y4 Y5 Y6 Y7 Y8 Y9 Y10 ", order.toString());
+
+        assertEquals(6, dropped);
+        assertEquals(0, aggregator.expire());
+        assertEquals(0, aggregator.getSeats(QF123, day(2030, 1, 5), Y));
+        assertEquals(6, aggregator.getSeats(QF123, day(2030, 1, 6), Y));
+        assertEquals(5, aggregator.snapshot().size());
+    }
+
+    @Test
+    public void testConcurrentUpdaters() throws InterruptedException {
+        // Arrange
+        SeatDemandAggregator aggregator = new SeatDemandAggregator();
+        Thread[] workers = new Thread[4];
+
+        // Act: all threads hit the same 50 flights and dates
+        for (int t = 0; t < workers.length; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    aggregator.add(QF123 + i % 50, day(2030, 2, 1), Y, 1);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Assert
+        SeatDemandAggregator.Snapshot snapshot = aggregator.snapshot();
+        assertEquals(50, snapshot.size());
+        for (int f = 0; f < 50; f++) {
+            assertEquals(workers.length * 10_000 / 50, snapshot.getSeats(QF123 + f, day(2030, 2, 1), Y));
+        }
+    }
+
+    @Test
+    public void testTotalSaturatesAndCabinChecked() {
+        // Arrange
+        SeatDemandAggregator aggregator = new SeatDemandAggregator(1);
+        aggregator.add(QF123, day(2030, 2, 1), Y, Integer.MAX_VALUE - 1);
+
+        // Act: would wrap to a negative total
+        aggregator.add(QF123, day(2030, 2, 1), Y, 5);
+        aggregator.add(QF123 + 1, day(2030, 2, 1), Y, 1);
+
+        // Assert: the full total stays put and the slot is still found
+        assertEquals(Integer.MAX_VALUE, aggregator.getSeats(QF123, day(2030, 2, 1), Y));
+        assertEquals(1, aggregator.getSeats(QF123 + 1, day(2030, 2, 1), Y));
+        assertEquals(2, aggregator.snapshot().size());
+        assertThrows(IllegalArgumentException.class, () -> aggregator.getSeats(QF123, day(2030, 2, 1), -1));
+        assertThrows(IllegalArgumentException.class, () -> aggregator.snapshot().getSeats(QF123, day(2030, 2, 1), 99));
+    }
+
+    @Test
+    public void testLargeStripes_TotalsStayCorrect() {
+        // Arrange: 2 stripes of 150,000 keys each, so each table grows to 2^18 slots
+        SeatDemandAggregator aggregator = new SeatDemandAggregator(2);
+        int flights = 1000;
+        int days = 300;
+
+        // Act
+        for (int f = 0; f < flights; f++) {
+            for (int d = 0; d < days; d++) {
+                aggregator.add(QF123 + f, day(2030, 1, 1) + d, Y, 1 + (f + d) % 10);
+            }
+        }
+
+        // Assert
+        SeatDemandAggregator.Snapshot snapshot = aggregator.snapshot();
+        assertEquals(flights * days, snapshot.size());
+        for (int f = 0; f < flights; f++) {
+            for (int d = 0; d < days; d++) {
+                int expected = 1 + (f + d) % 10;
+                assertEquals(expected, aggregator.getSeats(QF123 + f, day(2030, 1, 1) + d, Y));
+                assertEquals(expected, snapshot.getSeats(QF123 + f, day(2030, 1, 1) + d, Y));
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+import java.time.LocalDate;
+
+/**
+ * One validated {@code seg} line of an {@code air book request}:
+ * {@code seg <airport> <airport> <flight_number> <date> <cabin> <people>}.
+ *
+ * Getters follow SegmentSubcommand, so a SegmentSubcommand can be built
+ * directly from a SegmentLine once the cabin code is mapped to a CabinType.
+ *
+ * Fields are held as primitives: codes as {@link IataCodes} IDs and the date as a
+ * YYYYMMDD key. A segment is a few dozen bytes with no references, and the String
+ * getters return the shared flyweight instances.
+ */
+public final class SegmentLine {
+
+    private final long line;
+    private final int origin;
+    private final int destination;
+    private final int flightNumber;
+    private final int departureDate;    // YYYYMMDD
+    private final byte cabin;
+    private final byte numPeople;
+
+    /**
+     * @param line          1-based line number
+     * @param origin        airport ID ({@link IataCodes#airport(CharSequence)})
+     * @param destination   airport ID
+     * @param flightNumber  flight number ID ({@link IataCodes#flightNumber(CharSequence)})
+     * @param departureDate date as a YYYYMMDD key
+     * @param cabin         cabin ID ({@link IataCodes#cabin(char)})
+     * @param numPeople     1 to 10
+     * @throws IllegalArgumentException if a code is INVALID or a field is out of range
+     */
+    public SegmentLine(long line, int origin, int destination, int flightNumber,
+            int departureDate, int cabin, int numPeople) {
+
+        if (!IataCodes.isAirportId(origin) || !IataCodes.isAirportId(destination) || flightNumber < 0
+                || cabin < 0 || cabin >= IataCodes.CABIN_CODES.length() || numPeople < 1 || numPeople > 10){
+            throw new IllegalArgumentException("segment field out of range");
+        }
+        this.line = line;
+        this.origin = origin;
+        this.destination = destination;
+        this.flightNumber = flightNumber;
+        this.departureDate = departureDate;
+        this.cabin = (byte) cabin;
+        this.numPeople = (byte) numPeople;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a code is not valid or numPeople is not 1 to 10
+     */
+    public SegmentLine(long line, String origin, String destination, String flightNumber,
+            LocalDate departureDate, char cabinCode, int numPeople) {
+
+        this(line, IataCodes.airport(origin), IataCodes.airport(destination), IataCodes.flightNumber(flightNumber),
+                DateTimeChecker.dateKey(departureDate.getYear(), departureDate.getMonthValue(),
+                        departureDate.getDayOfMonth()),
+                IataCodes.cabin(cabinCode), numPeople);
+    }
+
+    /**
+     * @return 1-based line number of the seg line in the input
+     */
+    public long getLine() {
+        return line;
+    }
+
+    public String getOrigin() {
+        return IataCodes.airportCode(origin);
+    }
+
+    public String getDestination() {
+        return IataCodes.airportCode(destination);
+    }
+
+    public String getFlightNumber() {
+        return IataCodes.flightNumberCode(flightNumber);
+    }
+
+    public LocalDate getDepartureDate() {
+        return LocalDate.of(departureDate / 10000, departureDate / 100 % 100, departureDate % 100);
+    }
+
+    /**
+     * @return cabin code from the grammar: P, F, J, C, S or Y
+     */
+    public char getCabinCode() {
+        return IataCodes.cabinCode(cabin);
+    }
+
+    public int getNumPeople() {
+        return numPeople;
+    }
+
+    public int getOriginId() {
+        return origin;
+    }
+
+    public int getDestinationId() {
+        return destination;
+    }
+
+    public int getFlightNumberId() {
+        return flightNumber;
+    }
+
+    /**
+     * @return departure date as a YYYYMMDD key
+     */
+    public int getDepartureDateKey() {
+        return departureDate;
+    }
+
+    public int getCabinId() {
+        return cabin;
+    }
+
+    @Override
+    public String toString() {
+        return "seg " + getOrigin() + " " + getDestination() + " " + getFlightNumber() + " "
+                + getDepartureDate() + " " + getCabinCode() + " " + numPeople;
+    }
+}
@@ -0,0 +1,143 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Append-only columnar store of segments held off the Java heap.
+ *
+ * Segments are kept as {@link PackedSegment} encodings split into two columns of
+ * direct ByteBuffers: the packed codes (8 bytes) and the departure epoch day (4 bytes).
+ * A store of n segments is 12n bytes outside the heap plus a few objects on it, so
+ * the garbage collector never walks the segments. Scans read the columns sequentially.
+ *
+ * Capacity is fixed when the store is created. SegmentLine objects are only built
+ * when asked for with {@link #get(int)}.
+ *
+ * Not thread-safe for writes. Once filled, concurrent reads are safe if the store is
+ * published safely (e.g. through a final or volatile field).
+ */
+public final class SegmentStore {
+
+    // Direct buffers are limited to Integer.MAX_VALUE bytes
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+    private final ByteBuffer codes;
+    private final ByteBuffer epochDays;
+    private final int capacity;
+    private int size;
+
+    /**
+     * @param capacity most segments the store can hold
+     * @throws IllegalArgumentException if capacity is negative or too large
+     */
+    public SegmentStore(int capacity) {
+
+        if (capacity < 0 || capacity > MAX_CAPACITY){
+            throw new IllegalArgumentException("capacity must be between 0 and " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.codes = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder());
+        this.epochDays = ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Append a segment.
+     *
+     * @param segment the segment
+     * @return its index in the store
+     * @throws IllegalStateException if the store is full
+     */
+    public int add(SegmentLine segment) {
+
+        return add(PackedSegment.packCodes(segment), PackedSegment.epochDay(segment));
+    }
+
+    /**
+     * Append a segment already in packed form.
+     *
+     * @param packedCodes codes from {@link PackedSegment#packCodes}
+     * @param epochDay    departure date as days since 1970-01-01
+     * @return its index in the store
+     * @throws IllegalStateException if the store is full
+     */
+    public int add(long packedCodes, int epochDay) {
+
+        if (size == capacity){
+            throw new IllegalStateException("segment store is full (" + capacity + ")");
+        }
+        codes.putLong(size * Long.BYTES, packedCodes);
+        epochDays.putInt(size * Integer.BYTES, epochDay);
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @param index segment index
+     * @return packed codes of that segment (see PackedSegment accessors)
+     */
+    public long getCodes(int index) {
+
+        checkIndex(index);
+        return codes.getLong(index * Long.BYTES);
+    }
+
+    /**
+     * @param index segment index
+     * @return departure date of that segment as days since 1970-01-01
+     */
+    public int getEpochDay(int index) {
+
+        checkIndex(index);
+        return epochDays.getInt(index * Integer.BYTES);
+    }
+
+    /**
+     * Rebuild the segment at index. Its line number is the index.
+     *
+     * @param index segment index
+     * @return the segment
+     */
+    public SegmentLine get(int index) {
+
+        return PackedSegment.toSegmentLine(index, getCodes(index), getEpochDay(index));
+    }
+
+    /**
+     * Total people booked on a route and cabin over a date range, for inventory checks.
+     * Reads only the two columns; nothing is allocated.
+     *
+     * @param origin       airport ID
+     * @param destination  airport ID
+     * @param cabin        cabin ID
+     * @param fromEpochDay first day, inclusive
+     * @param toEpochDay   last day, inclusive
+     * @return sum of numPeople over the matching segments
+     */
+    public long sumPeople(int origin, int destination, int cabin, int fromEpochDay, int toEpochDay) {
+
+        // Origin, destination and cabin are matched with one masked long compare
+        long probe = PackedSegment.routeAndCabin(origin, destination, cabin);
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            long segment = codes.getLong(i * Long.BYTES);
+            int day = epochDays.getInt(i * Integer.BYTES);
+            if ((segment & PackedSegment.ROUTE_AND_CABIN_MASK) == probe && day >= fromEpochDay && day <= toEpochDay){
+                total += PackedSegment.numPeople(segment);
+            }
+        }
+        return total;
+    }
+
+    private void checkIndex(int index) {
+
+        if (index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("index " + index + " out of range for size " + size);
+        }
+    }
+}
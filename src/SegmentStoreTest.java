@@ -0,0 +1,73 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+public class SegmentStoreTest {
+
+    private static SegmentLine segment(String origin, String destination, String flight, LocalDate date,
+            char cabin, int people) {
+        return new SegmentLine(1, origin, destination, flight, date, cabin, people);
+    }
+
+    @Test
+    public void testPackedSegment_RoundTrip() {
+        // Arrange: extremes of every field
+        SegmentLine original = segment("ZZZ", "AAA", "ZZ0999", LocalDate.of(9999, 12, 31), 'Y', 10);
+        ByteBuffer buffer = ByteBuffer.allocate(PackedSegment.BYTES);
+
+        // Act
+        PackedSegment.write(buffer, 0, PackedSegment.packCodes(original), PackedSegment.epochDay(original));
+        SegmentLine copy = PackedSegment.toSegmentLine(1, PackedSegment.readCodes(buffer, 0),
+                PackedSegment.readEpochDay(buffer, 0));
+
+        // Assert
+        assertEquals(12, PackedSegment.BYTES);
+        assertEquals(original.toString(), copy.toString());
+        assertEquals(LocalDate.of(9999, 12, 31).toEpochDay(), PackedSegment.readEpochDay(buffer, 0));
+    }
+
+    @Test
+    public void testPackedSegment_RejectsOutOfRange() {
+        int per = IataCodes.airport("PER");
+        assertThrows(IllegalArgumentException.class, () -> PackedSegment.packCodes(per, per, 0, 0, 11));
+        assertThrows(IllegalArgumentException.class, () -> PackedSegment.packCodes(per, per, 0, 6, 1));
+        assertThrows(IllegalArgumentException.class, () -> PackedSegment.packCodes(IataCodes.INVALID, per, 0, 0, 1));
+    }
+
+    @Test
+    public void testSegmentLine_RejectsInvalidFields() {
+        LocalDate date = LocalDate.of(2030, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> segment("per", "SYD", "QF123", date, 'Y', 1));
+        assertThrows(IllegalArgumentException.class, () -> segment("PER", "SY", "QF123", date, 'Y', 1));
+        assertThrows(IllegalArgumentException.class, () -> segment("PER", "SYD", "QF12345", date, 'Y', 1));
+        assertThrows(IllegalArgumentException.class, () -> segment("PER", "SYD", "QF123", date, 'X', 1));
+        assertThrows(IllegalArgumentException.class, () -> segment("PER", "SYD", "QF123", date, 'Y', 0));
+        assertThrows(IllegalArgumentException.class, () -> segment("PER", "SYD", "QF123", date, 'Y', 11));
+        assertThrows(IllegalArgumentException.class, () -> segment("PER", "SYD", "QF123", date, 'Y', 266));
+        assertEquals("seg PER SYD QF123 2030-01-01 Y 10", segment("PER", "SYD", "QF123", date, 'Y', 10).toString());
+    }
+
+    @Test
+    public void testStore_AddGetAndSum() {
+        // Arrange
+        SegmentStore store = new SegmentStore(4);
+        LocalDate day = LocalDate.of(2099, 1, 1);
+        store.add(segment("PER", "SYD", "QF123", day, 'Y', 2));
+        store.add(segment("PER", "SYD", "QF125", day.plusDays(1), 'Y', 3));
+        store.add(segment("PER", "SYD", "QF123", day, 'J', 4));
+        store.add(segment("SYD", "PER", "QF124", day, 'Y', 5));
+
+        // Act
+        long sum = store.sumPeople(IataCodes.airport("PER"), IataCodes.airport("SYD"), IataCodes.cabin('Y'),
+                (int) day.toEpochDay(), (int) day.plusDays(1).toEpochDay());
+
+        // Assert
+        assertEquals(5, sum);
+        assertEquals(4, store.size());
+        assertEquals("QF125", store.get(1).getFlightNumber());
+        assertEquals(day.plusDays(1), store.get(1).getDepartureDate());
+        assertThrows(IllegalStateException.class, () -> store.add(segment("PER", "SYD", "QF1", day, 'Y', 1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(4));
+    }
+}
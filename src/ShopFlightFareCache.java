@@ -0,0 +1,172 @@
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Optional bounded cache of {@code shop flight fare} validation results, keyed on the
+ * raw command text, for traffic that repeats the same command (client retries,
+ * polling UIs).
+ *
+ * Entries are dropped:
+ * <ul>
+ *   <li>least recently used first, once there are more than maximumSize</li>
+ *   <li>timeToLive after they were added</li>
+ *   <li>all at once when DateTimeChecker's "today" changes, because "date ≥ today"
+ *       then has a new meaning</li>
+ * </ul>
+ *
+ * Results are those of {@link CommandValidator#checkShopFlightFare(CharSequence, long)}
+ * for line 1. Validation on a miss runs outside the lock.
+ * Thread-safe.
+ */
+public final class ShopFlightFareCache {
+
+    private static final ThreadLocal<CommandValidator> VALIDATOR = ThreadLocal.withInitial(CommandValidator::new);
+
+    private final int maximumSize;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries;
+    private int cachedDay;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Result and expiry time of one command.
+     */
+    private static final class Entry {
+
+        // null if valid
+        final CommandError error;
+        final long expiresAtMillis;
+
+        Entry(CommandError error, long expiresAtMillis) {
+            this.error = error;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        boolean isValid() {
+            return error == null;
+        }
+    }
+
+    /**
+     * @param maximumSize most commands kept
+     * @param timeToLive  how long a result is kept after it was added
+     */
+    public ShopFlightFareCache(int maximumSize, Duration timeToLive) {
+
+        this(maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * @param maximumSize most commands kept
+     * @param timeToLive  how long a result is kept after it was added
+     * @param clock       clock for the time to live (tests)
+     * @throws IllegalArgumentException if maximumSize or timeToLive is not positive
+     */
+    public ShopFlightFareCache(int maximumSize, Duration timeToLive, Clock clock) {
+
+        if (maximumSize < 1 || timeToLive == null || timeToLive.isNegative() || timeToLive.isZero() || clock == null){
+            throw new IllegalArgumentException("maximumSize and timeToLive must be positive and clock not null");
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.cachedDay = DateTimeChecker.getTodayClock().today();
+    }
+
+    /**
+     * Validate a shop flight fare command, using the cached result if there is one.
+     *
+     * @param command the command text, without a trailing newline
+     * @return null if valid, otherwise the first error (line 1)
+     */
+    public CommandError check(CharSequence command) {
+
+        String key = command.toString();
+        int today = DateTimeChecker.getTodayClock().today();
+        long now = clock.millis();
+
+        synchronized (this) {
+            // only forward: a thread that read "today" just before midnight must not
+            // move it back and clear the cache a second time
+            if (today > cachedDay){
+                // "today" moved on: every cached date check may now be wrong
+                evictions += entries.size();
+                entries.clear();
+                cachedDay = today;
+            }
+            Entry entry = entries.get(key);
+            if (entry != null){
+                if (entry.expiresAtMillis > now){
+                    hits++;
+                    return entry.isValid() ? null : entry.error;
+                }
+                entries.remove(key);
+                evictions++;
+            }
+            misses++;
+        }
+
+        CommandError result = VALIDATOR.get().checkShopFlightFare(key, 1);
+
+        synchronized (this) {
+            // a result worked out against yesterday is not kept
+            if (today == cachedDay){
+                entries.put(key, new Entry(result, now + timeToLiveMillis));
+                evictOverflow();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return number of lookups answered from the cache
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * @return number of lookups that had to validate
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * @return number of entries dropped for size, age or a new day
+     */
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drop every entry. Counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private void evictOverflow() {
+
+        Iterator<Map.Entry<String, Entry>> oldest = entries.entrySet().iterator();
+        while (entries.size() > maximumSize && oldest.hasNext()) {
+            oldest.next();
+            oldest.remove();
+            evictions++;
+        }
+    }
+}
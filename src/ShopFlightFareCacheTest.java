@@ -0,0 +1,138 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+public class ShopFlightFareCacheTest {
+
+    private static final String VALID = "shop flight fare PER SYD Return 7 Y 2030-01-02";
+    private static final String SEMANTIC = "shop flight fare PER SYD Return 25 Y 2030-01-02";
+
+    /**
+     * Clock the test moves by hand; drives both the cache TTL and "today".
+     */
+    private static final class MutableClock extends Clock {
+
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private MutableClock clock;
+
+    @BeforeEach
+    public void setUp() {
+        // 2030-01-01, a few hours into the day
+        clock = new MutableClock(Instant.parse("2030-01-01T02:00:00Z").toEpochMilli());
+        DateTimeChecker.setTodayClock(TodayClock.of(clock));
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        ShopFlightFareCache cache = new ShopFlightFareCache(10, Duration.ofMinutes(5), clock);
+
+        assertNull(cache.check(VALID));
+        assertNull(cache.check(new StringBuilder(VALID)));
+        assertEquals(CommandError.Kind.SEMANTIC, cache.check(SEMANTIC).getKind());
+        assertEquals(CommandError.Kind.SEMANTIC, cache.check(SEMANTIC).getKind());
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testSizeEviction_LeastRecentlyUsed() {
+        ShopFlightFareCache cache = new ShopFlightFareCache(2, Duration.ofMinutes(5), clock);
+        String other = "shop flight fare MEL SYD OneWay J 2030-01-02";
+
+        cache.check(VALID);
+        cache.check(SEMANTIC);
+        cache.check(VALID);     // VALID is now the most recently used
+        cache.check(other);     // evicts SEMANTIC
+
+        assertEquals(1, cache.getEvictionCount());
+        cache.check(VALID);
+        assertEquals(2, cache.getHitCount());
+        cache.check(SEMANTIC);
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void testTimeToLive() {
+        ShopFlightFareCache cache = new ShopFlightFareCache(10, Duration.ofSeconds(30), clock);
+        cache.check(VALID);
+        clock.millis += 29_000;
+        cache.check(VALID);
+        clock.millis += 1_000;
+        cache.check(VALID);
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testNewDay_DropsEverything() {
+        // Arrange: a date that is valid today and in the past tomorrow
+        String today = "shop flight fare PER SYD OneWay Y 2030-01-01";
+        ShopFlightFareCache cache = new ShopFlightFareCache(10, Duration.ofDays(2), clock);
+        assertNull(cache.check(today));
+        cache.check(VALID);
+
+        // Act: move past midnight of the TodayClock's day
+        clock.millis += Duration.ofDays(1).toMillis();
+
+        // Assert
+        assertEquals(CommandError.Kind.SEMANTIC, cache.check(today).getKind());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void testStaleToday_DoesNotClearAgain() {
+        // Arrange: the cache has moved on to 2030-01-02
+        ShopFlightFareCache cache = new ShopFlightFareCache(10, Duration.ofDays(2), clock);
+        clock.millis += Duration.ofDays(1).toMillis();
+        cache.check(VALID);
+
+        // Act: a thread that read "today" just before midnight, then one that read it after
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+        CommandError stale = cache.check(VALID);
+        DateTimeChecker.setTodayClock(TodayClock.of(clock));
+        CommandError current = cache.check(VALID);
+
+        // Assert: both answered from the cache; nothing dropped
+        assertNull(stale);
+        assertNull(current);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(0, cache.getEvictionCount());
+    }
+}
@@ -0,0 +1,211 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Tachi command grammar, read from tachi_grammer.txt.
+ *
+ * Supports the BNF used in that file: rules {@code <name> ::= ...}, alternatives
+ * separated by {@code |}, quoted terminals (with {@code \n} escapes), rule references
+ * {@code <name>} and {@code /* ... *&#47;} comments. Rules may span several lines.
+ */
+public final class TachiGrammar {
+
+    /**
+     * Name of the grammar file, on the classpath or in the working directory.
+     */
+    public static final String FILE_NAME = "tachi_grammer.txt";
+
+    /**
+     * One symbol of an alternative: a terminal string or a reference to a rule.
+     */
+    public static final class Symbol {
+
+        private final boolean terminal;
+        private final String text;
+
+        Symbol(boolean terminal, String text) {
+
+            this.terminal = terminal;
+            this.text = text;
+        }
+
+        public boolean isTerminal() {
+            return terminal;
+        }
+
+        /**
+         * @return the terminal text, or the rule name for a reference
+         */
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public String toString() {
+            return terminal ? '"' + text + '"' : '<' + text + '>';
+        }
+    }
+
+    // Rule name -> alternatives -> symbols, in file order
+    private final Map<String, List<List<Symbol>>> rules;
+
+    private TachiGrammar(Map<String, List<List<Symbol>>> rules) {
+
+        this.rules = rules;
+    }
+
+    /**
+     * Load the grammar from the classpath, falling back to the working directory.
+     *
+     * @return the parsed grammar
+     * @throws IllegalStateException if the file cannot be found or read
+     */
+    public static TachiGrammar load() {
+
+        try (InputStream in = TachiGrammar.class.getResourceAsStream("/" + FILE_NAME)) {
+            if (in != null){
+                return parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            return parse(Files.readString(Path.of(FILE_NAME), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot read " + FILE_NAME, e);
+        }
+    }
+
+    /**
+     * Parse grammar text.
+     *
+     * @param text grammar in the tachi_grammer.txt format
+     * @return the parsed grammar
+     * @throws IllegalArgumentException if the text is not well-formed
+     */
+    public static TachiGrammar parse(String text) {
+
+        List<String> tokens = tokenize(text);
+        Map<String, List<List<Symbol>>> rules = new LinkedHashMap<>();
+
+        int i = 0;
+        while (i < tokens.size()) {
+            String name = tokens.get(i);
+            if (!isReference(name) || i + 1 >= tokens.size() || !tokens.get(i + 1).equals("::=")){
+                throw new IllegalArgumentException("expected '<rule> ::=' but found " + name);
+            }
+            i += 2;
+
+            List<List<Symbol>> alternatives = new ArrayList<>();
+            List<Symbol> current = new ArrayList<>();
+            // A rule ends where the next "<name> ::=" starts
+            while (i < tokens.size()
+                    && !(isReference(tokens.get(i)) && i + 1 < tokens.size() && tokens.get(i + 1).equals("::="))) {
+                String token = tokens.get(i++);
+                if (token.equals("|")){
+                    alternatives.add(Collections.unmodifiableList(current));
+                    current = new ArrayList<>();
+                } else if (isReference(token)){
+                    current.add(new Symbol(false, token.substring(1, token.length() - 1)));
+                } else {
+                    current.add(new Symbol(true, token.substring(1)));
+                }
+            }
+            alternatives.add(Collections.unmodifiableList(current));
+            rules.put(name.substring(1, name.length() - 1), Collections.unmodifiableList(alternatives));
+        }
+
+        for (List<List<Symbol>> alternatives : rules.values()) {
+            for (List<Symbol> alternative : alternatives) {
+                for (Symbol symbol : alternative) {
+                    if (!symbol.isTerminal() && !rules.containsKey(symbol.getText())){
+                        throw new IllegalArgumentException("undefined rule <" + symbol.getText() + ">");
+                    }
+                }
+            }
+        }
+        return new TachiGrammar(Collections.unmodifiableMap(rules));
+    }
+
+    /**
+     * @param name rule name without angle brackets
+     * @return the rule's alternatives
+     * @throws IllegalArgumentException if there is no such rule
+     */
+    public List<List<Symbol>> getRule(String name) {
+
+        List<List<Symbol>> alternatives = rules.get(name);
+        if (alternatives == null){
+            throw new IllegalArgumentException("undefined rule <" + name + ">");
+        }
+        return alternatives;
+    }
+
+    public boolean hasRule(String name) {
+        return rules.containsKey(name);
+    }
+
+    /**
+     * Utility: split grammar text into tokens. Terminals are returned with a leading '"'
+     * and escapes resolved; everything else is returned as written.
+     */
+    private static List<String> tokenize(String text) {
+
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)){
+                i++;
+            } else if (text.startsWith("/*", i)){
+                int end = text.indexOf("*/", i + 2);
+                if (end < 0){
+                    throw new IllegalArgumentException("unterminated comment");
+                }
+                i = end + 2;
+            } else if (c == '"'){
+                StringBuilder terminal = new StringBuilder("\"");
+                i++;
+                while (i < text.length() && text.charAt(i) != '"') {
+                    char t = text.charAt(i++);
+                    if (t == '\\' && i < text.length()){
+                        char escaped = text.charAt(i++);
+                        terminal.append(escaped == 'n' ? '\n' : escaped == 't' ? '\t' : escaped);
+                    } else {
+                        terminal.append(t);
+                    }
+                }
+                if (i >= text.length()){
+                    throw new IllegalArgumentException("unterminated terminal");
+                }
+                i++;
+                tokens.add(terminal.toString());
+            } else if (c == '<'){
+                int end = text.indexOf('>', i);
+                if (end < 0){
+                    throw new IllegalArgumentException("unterminated rule name");
+                }
+                tokens.add(text.substring(i, end + 1));
+                i = end + 1;
+            } else if (text.startsWith("::=", i)){
+                tokens.add("::=");
+                i += 3;
+            } else if (c == '|'){
+                tokens.add("|");
+                i++;
+            } else {
+                throw new IllegalArgumentException("unexpected character '" + c + "' in grammar");
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isReference(String token) {
+
+        return token.length() > 2 && token.charAt(0) == '<';
+    }
+}
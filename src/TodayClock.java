@@ -0,0 +1,186 @@
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+/**
+ * Source of "today" for the DateTimeChecker semantic checks.
+ *
+ * "Today" is the date in a configurable time zone, UTC by default as the Tachi
+ * datetimes are UTC. The current date is worked out once per day and cached together
+ * with the instants of that day's first and next midnight in the zone, so a call to
+ * {@link #today()} is one clock read and two comparisons until the day rolls over.
+ * Daylight-saving changes are taken into account when the next midnight is worked out,
+ * so the zone rules are only consulted once per day.
+ *
+ * Dates are handled as keys of the form YYYYMMDD (e.g. 2099-12-31 → 20991231),
+ * so "date ≥ today" is a single int comparison.
+ *
+ * Use {@link #fixed(int, int, int)} or {@link #of(Clock)} with an offset clock
+ * to make tests and replays deterministic.
+ *
+ * Thread-safe without locks. The cached day is an immutable object with final fields,
+ * published through one volatile reference: a reader does one volatile load (a plain
+ * load on x86 and ARM64) and never blocks or retries. At rollover each thread that sees
+ * the old day works out the new one itself and stores it; the stores are identical, so
+ * whichever lands last is right. The reference is read before the clock, so a thread
+ * that sees a day published by another thread also reads a later instant than that
+ * thread did, and cannot put yesterday back after midnight.
+ */
+public final class TodayClock {
+
+    /**
+     * System property naming the zone of {@link #system()} (e.g. {@code Australia/Perth}); UTC if unset.
+     */
+    public static final String ZONE_PROPERTY = "tachi.zone";
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private final Clock clock;
+    private final ZoneId zone;
+    private final ZoneRules rules;
+
+    // Cached day, replaced as a whole when the day rolls over
+    private volatile Day current;
+
+    /**
+     * Immutable cached day: the date key and the instants it starts and ends at.
+     */
+    private static final class Day {
+
+        final int dateKey;
+        final long midnightMillis;
+        final long nextMidnightMillis;
+
+        Day(int dateKey, long midnightMillis, long nextMidnightMillis) {
+            this.dateKey = dateKey;
+            this.midnightMillis = midnightMillis;
+            this.nextMidnightMillis = nextMidnightMillis;
+        }
+    }
+
+    private TodayClock(Clock clock, ZoneId zone) {
+
+        if (clock == null || zone == null){
+            throw new IllegalArgumentException("clock and zone must not be null");
+        }
+        this.clock = clock;
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.current = computeDay(clock.millis());
+    }
+
+    /**
+     * Clock backed by the system clock, in the zone named by the {@value #ZONE_PROPERTY}
+     * system property, or UTC.
+     *
+     * @return a TodayClock reading System.currentTimeMillis()
+     * @throws java.time.DateTimeException if the property is not a valid zone ID
+     */
+    public static TodayClock system() {
+
+        String zone = System.getProperty(ZONE_PROPERTY);
+        return system(zone == null ? ZoneOffset.UTC : ZoneId.of(zone));
+    }
+
+    /**
+     * Clock backed by the system clock, taking today's date in the given zone.
+     *
+     * @param zone zone whose date is "today"
+     * @return a TodayClock reading System.currentTimeMillis()
+     */
+    public static TodayClock system(ZoneId zone) {
+
+        return new TodayClock(Clock.systemUTC(), zone);
+    }
+
+    /**
+     * Clock backed by an arbitrary java.time.Clock (e.g. Clock.offset for replays),
+     * taking today's date in the clock's zone.
+     *
+     * @param clock clock to read the current instant and zone from
+     * @return a TodayClock reading the given clock
+     */
+    public static TodayClock of(Clock clock) {
+
+        if (clock == null){
+            throw new IllegalArgumentException("clock must not be null");
+        }
+        return new TodayClock(clock, clock.getZone());
+    }
+
+    /**
+     * Clock backed by an arbitrary java.time.Clock, taking today's date in the given zone.
+     *
+     * @param clock clock to read the current instant from
+     * @param zone  zone whose date is "today"
+     * @return a TodayClock reading the given clock
+     */
+    public static TodayClock of(Clock clock, ZoneId zone) {
+
+        return new TodayClock(clock, zone);
+    }
+
+    /**
+     * Clock that always reports the given date as today.
+     *
+     * @param year  year (e.g. 2099)
+     * @param month month 1–12
+     * @param day   day of month 1–31
+     * @return a TodayClock fixed at the given date
+     */
+    public static TodayClock fixed(int year, int month, int day) {
+
+        Instant midnight = LocalDate.of(year, month, day).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return new TodayClock(Clock.fixed(midnight, ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+
+    /**
+     * @return the zone whose date is "today"
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Today's date as a YYYYMMDD key.
+     *
+     * @return key of the current date
+     */
+    public int today() {
+
+        Day day = current;
+        long now = clock.millis();
+        if (now >= day.nextMidnightMillis || now < day.midnightMillis){
+            day = computeDay(now);
+            current = day;
+        }
+        return day.dateKey;
+    }
+
+    /**
+     * Utility: work out the day containing the given instant.
+     * Fixed-offset zones (UTC included) need only arithmetic; other zones ask the zone
+     * rules for the offset now and for the next midnight, which may be 23 or 25 hours away.
+     *
+     * @param millis epoch milliseconds
+     * @return the cached day for that instant
+     */
+    private Day computeDay(long millis) {
+
+        Instant now = Instant.ofEpochMilli(millis);
+        long offsetMillis = rules.getOffset(now).getTotalSeconds() * 1000L;
+        long daysSinceEpoch = Math.floorDiv(millis + offsetMillis, MILLIS_PER_DAY);
+        int dateKey = DateTimeChecker.dateKeyOfEpochDay(daysSinceEpoch);
+
+        if (rules.isFixedOffset()){
+            long midnight = daysSinceEpoch * MILLIS_PER_DAY - offsetMillis;
+            return new Day(dateKey, midnight, midnight + MILLIS_PER_DAY);
+        }
+        LocalDate date = LocalDate.ofEpochDay(daysSinceEpoch);
+        return new Day(dateKey, date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,189 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TodayClockTest {
+
+    /**
+     * Clock whose instant can be moved by the test, to simulate midnight rollover.
+     */
+    private static final class MutableClock extends Clock {
+
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    /**
+     * Clock that moves forward a fixed step on every read, shared by many threads.
+     */
+    private static final class TickingClock extends Clock {
+
+        final AtomicLong millis;
+        final long step;
+
+        TickingClock(long millis, long step) {
+            this.millis = new AtomicLong(millis);
+            this.step = step;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis.addAndGet(step);
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+    }
+
+    private static int utcDateKey(long millis) {
+        return DateTimeChecker.dateKeyOfEpochDay(Math.floorDiv(millis, Duration.ofDays(1).toMillis()));
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    @Test
+    public void testFixedClock_ReportsGivenDate() {
+        // fixed clock should always report the same date key
+        TodayClock clock = TodayClock.fixed(2030, 2, 28);
+        assertEquals(20300228, clock.today());
+        assertEquals(20300228, clock.today());
+    }
+
+    @Test
+    public void testFixedClock_TodayIsValidYesterdayIsNot() {
+        // boundary on compare: = today passes, < today fails
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 3, 1));
+        assertTrue(DateTimeChecker.isValidDate("2030-03-01"));
+        assertFalse(DateTimeChecker.isValidDate("2030-02-28"));
+        assertTrue(DateTimeChecker.isValidDateTime("2030-03-01T00:00"));
+    }
+
+    @Test
+    public void testMidnightRollover() {
+        // "today" is the UTC date by default
+        long midnight = Instant.parse("2030-01-01T00:00:00Z").toEpochMilli();
+        MutableClock source = new MutableClock(midnight - 1);
+        TodayClock clock = TodayClock.of(source);
+        assertEquals(20291231, clock.today());
+
+        // one millisecond later the day rolls over
+        source.millis = midnight;
+        assertEquals(20300101, clock.today());
+
+        // replaying an earlier instant moves back again
+        source.millis = midnight - Duration.ofDays(1).toMillis();
+        assertEquals(20291231, clock.today());
+    }
+
+    @Test
+    public void testZone_MidnightInThatZone() {
+        // 2030-01-01T00:00 in Perth (UTC+8) is 2029-12-31T16:00Z
+        long midnight = Instant.parse("2029-12-31T16:00:00Z").toEpochMilli();
+        MutableClock source = new MutableClock(midnight - 1);
+        TodayClock clock = TodayClock.of(source, ZoneId.of("Australia/Perth"));
+        assertEquals(20291231, clock.today());
+        source.millis = midnight;
+        assertEquals(20300101, clock.today());
+        assertEquals(ZoneOffset.UTC, TodayClock.system().getZone());
+    }
+
+    @Test
+    public void testZone_DaylightSavingDayLengths() {
+        // London falls back on 2030-10-27: that day is 25 hours long (23:00Z to 00:00Z next day)
+        MutableClock source = new MutableClock(Instant.parse("2030-10-26T23:00:00Z").toEpochMilli());
+        TodayClock clock = TodayClock.of(source, ZoneId.of("Europe/London"));
+        assertEquals(20301027, clock.today());
+        source.millis = Instant.parse("2030-10-27T23:59:59Z").toEpochMilli();
+        assertEquals(20301027, clock.today());
+        source.millis = Instant.parse("2030-10-28T00:00:00Z").toEpochMilli();
+        assertEquals(20301028, clock.today());
+
+        // and springs forward on 2030-03-31: 23 hours (00:00Z to 23:00Z)
+        source.millis = Instant.parse("2030-03-31T22:59:59Z").toEpochMilli();
+        assertEquals(20300331, clock.today());
+        source.millis = Instant.parse("2030-03-31T23:00:00Z").toEpochMilli();
+        assertEquals(20300401, clock.today());
+    }
+
+    @Test
+    public void testOffsetClock_ShiftsToday() {
+        // an offset clock far in the future makes an otherwise valid date "past"
+        Clock future = Clock.offset(Clock.systemUTC(), Duration.ofDays(365L * 200));
+        DateTimeChecker.setTodayClock(TodayClock.of(future));
+        assertFalse(DateTimeChecker.isValidDate("2099-12-31"));
+    }
+
+    @Test
+    public void testConcurrentReaders_AcrossManyMidnights() throws InterruptedException {
+        // Arrange: every read moves the clock 1 minute on, so 8 threads cross midnight ~200 times
+        TickingClock source = new TickingClock(Instant.parse("2030-01-01T23:00:00Z").toEpochMilli(), 60_000);
+        TodayClock clock = TodayClock.of(source);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[8];
+
+        // Act: each result must be the date at some instant between before and after the call
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                int last = 0;
+                for (int i = 0; i < 40_000; i++) {
+                    long before = source.millis.get();
+                    int today = clock.today();
+                    long after = source.millis.get();
+                    if (today < utcDateKey(before) || today > utcDateKey(after) || today < last) {
+                        failure.compareAndSet(null, today + " outside " + utcDateKey(before) + ".." + utcDateKey(after));
+                    }
+                    last = today;
+                }
+            });
+            readers[t].start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        // Assert
+        assertNull(failure.get());
+        long now = source.millis.get();
+        assertEquals(utcDateKey(now + source.step), clock.today());
+    }
+}
@@ -0,0 +1,315 @@
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Built-in counters for the validation hot paths: calls, rejections by reason and a
+ * latency histogram for {@link DateTimeChecker#isValidDate(CharSequence)},
+ * {@link DateTimeChecker#isValidDateTime(CharSequence)} and the
+ * {@link CommandValidator} shop flight fare and seg line checks.
+ *
+ * Off by default. Start the JVM with {@code -Dtachi.metrics=true} to turn it on; the
+ * flag is a static final, so when it is off the JIT drops the recording code and the
+ * hot paths cost the same as without metrics. When on, each call adds two
+ * {@code System.nanoTime()} reads and two {@link LongAdder} increments (calls and
+ * latency), plus a third for the reason when the input is rejected. The increments
+ * stay uncontended across request threads.
+ *
+ * Read the counters through JMX ({@value #OBJECT_NAME}) or {@link #snapshot()}.
+ * Counters are updated without locks, so a snapshot taken under load is not
+ * an exact point in time.
+ */
+public final class ValidationMetrics implements ValidationMetricsMXBean {
+
+    public static final String ENABLED_PROPERTY = "tachi.metrics";
+    public static final String OBJECT_NAME = "tachi:type=ValidationMetrics";
+
+    /**
+     * True if metrics were turned on at startup. Hot paths test this before recording.
+     */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /**
+     * Bucket i counts calls taking [2^(i-1), 2^i) ns (bucket 0: under 1 ns);
+     * the last bucket takes everything from about 1 s up.
+     */
+    static final int LATENCY_BUCKETS = 32;
+
+    /**
+     * Instrumented entry points.
+     */
+    public enum Operation {
+        IS_VALID_DATE,
+        IS_VALID_DATE_TIME,
+        SHOP_FLIGHT_FARE,
+        SEG_LINE
+    }
+
+    private static final String[] COMMAND_OUTCOMES = {"OK", "SYNTACTIC", "SEMANTIC"};
+
+    private static final ValidationMetrics INSTANCE = new ValidationMetrics();
+
+    static {
+        if (ENABLED){
+            INSTANCE.register();
+        }
+    }
+
+    private final Counters[] counters = new Counters[Operation.values().length];
+
+    /**
+     * Counters of one operation.
+     */
+    private static final class Counters {
+
+        final LongAdder calls = new LongAdder();
+        final String[] outcomeNames;
+        final LongAdder[] outcomes;       // index 0 is OK
+        final LongAdder[] latency = adders(LATENCY_BUCKETS);
+
+        Counters(String[] outcomeNames) {
+            this.outcomeNames = outcomeNames;
+            this.outcomes = adders(outcomeNames.length);
+        }
+    }
+
+    private ValidationMetrics() {
+
+        String[] dateOutcomes = new String[DateTimeResult.values().length];
+        for (DateTimeResult result : DateTimeResult.values()) {
+            dateOutcomes[result.ordinal()] = result.name();
+        }
+        counters[Operation.IS_VALID_DATE.ordinal()] = new Counters(dateOutcomes);
+        counters[Operation.IS_VALID_DATE_TIME.ordinal()] = new Counters(dateOutcomes);
+        counters[Operation.SHOP_FLIGHT_FARE.ordinal()] = new Counters(COMMAND_OUTCOMES);
+        counters[Operation.SEG_LINE.ordinal()] = new Counters(COMMAND_OUTCOMES);
+    }
+
+    /**
+     * @return the process-wide metrics (all zero if metrics are disabled)
+     */
+    public static ValidationMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return true if the JVM was started with {@code -Dtachi.metrics=true}
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Record one date or datetime check.
+     *
+     * @param operation IS_VALID_DATE or IS_VALID_DATE_TIME
+     * @param result    outcome of the check
+     * @param nanos     time the check took
+     */
+    static void recordDate(Operation operation, DateTimeResult result, long nanos) {
+
+        INSTANCE.record(operation, result.ordinal(), nanos);
+    }
+
+    /**
+     * Record one command check.
+     *
+     * @param operation SHOP_FLIGHT_FARE or SEG_LINE
+     * @param error     the error returned, or null if the command was valid
+     * @param nanos     time the check took
+     */
+    static void recordCommand(Operation operation, CommandError error, long nanos) {
+
+        INSTANCE.record(operation, error == null ? 0 : error.getKind().ordinal() + 1, nanos);
+    }
+
+    private void record(Operation operation, int outcome, long nanos) {
+
+        Counters c = counters[operation.ordinal()];
+        c.calls.increment();
+        if (outcome != 0){
+            c.outcomes[outcome].increment();
+        }
+        c.latency[Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos))].increment();
+    }
+
+    /**
+     * @param operation an instrumented entry point
+     * @return number of calls so far
+     */
+    public long getCalls(Operation operation) {
+        return counters[operation.ordinal()].calls.sum();
+    }
+
+    /**
+     * @param operation IS_VALID_DATE or IS_VALID_DATE_TIME
+     * @param reason    a rejection reason
+     * @return number of calls rejected for that reason
+     */
+    public long getRejections(Operation operation, DateTimeResult reason) {
+        return counters[operation.ordinal()].outcomes[reason.ordinal()].sum();
+    }
+
+    /**
+     * @param operation SHOP_FLIGHT_FARE or SEG_LINE
+     * @param kind      error kind
+     * @return number of commands rejected with that kind of error
+     */
+    public long getRejections(Operation operation, CommandError.Kind kind) {
+        return counters[operation.ordinal()].outcomes[kind.ordinal() + 1].sum();
+    }
+
+    @Override
+    public Map<String, Long> getCalls() {
+
+        Map<String, Long> calls = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            calls.put(operation.name(), getCalls(operation));
+        }
+        return calls;
+    }
+
+    @Override
+    public Map<String, Long> getRejections() {
+
+        Map<String, Long> rejections = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            Counters c = counters[operation.ordinal()];
+            for (int i = 1; i < c.outcomes.length; i++) {
+                long count = c.outcomes[i].sum();
+                if (count != 0){
+                    rejections.put(operation.name() + "." + c.outcomeNames[i], count);
+                }
+            }
+        }
+        return rejections;
+    }
+
+    @Override
+    public long[] getLatencyBucketBoundsNanos() {
+
+        long[] bounds = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS - 1; i++) {
+            bounds[i] = (1L << i) - 1;
+        }
+        bounds[LATENCY_BUCKETS - 1] = Long.MAX_VALUE;
+        return bounds;
+    }
+
+    @Override
+    public long[] latencyHistogram(String operation) {
+
+        return latencyHistogram(Operation.valueOf(operation));
+    }
+
+    /**
+     * @param operation an instrumented entry point
+     * @return number of calls in each latency bucket
+     */
+    public long[] latencyHistogram(Operation operation) {
+
+        LongAdder[] latency = counters[operation.ordinal()].latency;
+        long[] histogram = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            histogram[i] = latency[i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * One line per operation: calls, rejections by reason and approximate latency
+     * percentiles (upper bound of the bucket holding the percentile), e.g.
+     * <pre>
+     * IS_VALID_DATE calls=1000 BEFORE_TODAY=3 NON_DIGIT=1 p50&lt;=31ns p99&lt;=127ns max&lt;=1023ns
+     * </pre>
+     */
+    @Override
+    public String snapshot() {
+
+        StringBuilder text = new StringBuilder();
+        long[] bounds = getLatencyBucketBoundsNanos();
+        for (Operation operation : Operation.values()) {
+            Counters c = counters[operation.ordinal()];
+            long calls = c.calls.sum();
+            text.append(operation.name()).append(" calls=").append(calls);
+            for (int i = 1; i < c.outcomes.length; i++) {
+                long count = c.outcomes[i].sum();
+                if (count != 0){
+                    text.append(' ').append(c.outcomeNames[i]).append('=').append(count);
+                }
+            }
+            long[] histogram = latencyHistogram(operation);
+            if (calls > 0){
+                text.append(" p50<=").append(bound(bounds, percentileBucket(histogram, 0.50)))
+                        .append(" p99<=").append(bound(bounds, percentileBucket(histogram, 0.99)))
+                        .append(" max<=").append(bound(bounds, percentileBucket(histogram, 1.0)));
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    @Override
+    public void reset() {
+
+        for (Counters c : counters) {
+            c.calls.reset();
+            for (LongAdder adder : c.outcomes) {
+                adder.reset();
+            }
+            for (LongAdder adder : c.latency) {
+                adder.reset();
+            }
+        }
+    }
+
+    /**
+     * Register with the platform MBean server. Done at startup when metrics are enabled;
+     * registering again does nothing.
+     */
+    public void register() {
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // already registered
+        } catch (JMException e) {
+            throw new IllegalStateException("cannot register " + OBJECT_NAME, e);
+        }
+    }
+
+    private static int percentileBucket(long[] histogram, double p) {
+
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        long rank = Math.max(1, (long) Math.ceil(p * total));
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank){
+                return i;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    private static String bound(long[] bounds, int bucket) {
+
+        return bucket == bounds.length - 1 ? "inf" : bounds[bucket] + "ns";
+    }
+
+    private static LongAdder[] adders(int count) {
+
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,41 @@
+import java.util.Map;
+
+/**
+ * JMX view of {@link ValidationMetrics}, registered as {@value ValidationMetrics#OBJECT_NAME}
+ * when metrics are enabled.
+ */
+public interface ValidationMetricsMXBean {
+
+    /**
+     * @return calls per operation (IS_VALID_DATE, IS_VALID_DATE_TIME, SHOP_FLIGHT_FARE, SEG_LINE)
+     */
+    Map<String, Long> getCalls();
+
+    /**
+     * @return rejections per operation and reason, e.g. {@code IS_VALID_DATE.BEFORE_TODAY}
+     *         or {@code SEG_LINE.SEMANTIC}; reasons never seen are left out
+     */
+    Map<String, Long> getRejections();
+
+    /**
+     * @return inclusive upper bound in nanoseconds of each latency bucket;
+     *         the last bucket has no bound (Long.MAX_VALUE)
+     */
+    long[] getLatencyBucketBoundsNanos();
+
+    /**
+     * @param operation operation name, as in {@link #getCalls()}
+     * @return number of calls in each latency bucket
+     */
+    long[] latencyHistogram(String operation);
+
+    /**
+     * @return all counters as text, one line per operation
+     */
+    String snapshot();
+
+    /**
+     * Set every counter to zero.
+     */
+    void reset();
+}
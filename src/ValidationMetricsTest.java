@@ -0,0 +1,96 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import javax.management.ObjectName;
+
+/**
+ * Needs -Dtachi.metrics=true, which the Maven build sets for this class only
+ * (surefire execution metrics-test); skipped without it.
+ */
+public class ValidationMetricsTest {
+
+    private final ValidationMetrics metrics = ValidationMetrics.get();
+
+    @BeforeEach
+    public void setUp() {
+        assumeTrue(ValidationMetrics.isEnabled(), "run with -Dtachi.metrics=true");
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+        metrics.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    @Test
+    public void testDateRejectionsCountedByReason() {
+        // Arrange
+        String[] inputs = {"2030-01-01", "2030-1-01", "2030/01/01", "20a0-01-01", "2030-13-01",
+                "2030-02-29", "2029-12-31", "2030-01-01T24:00", "2030-01-01T23:60"};
+
+        // Act
+        for (String input : inputs) {
+            DateTimeChecker.isValidDate(input);
+        }
+        DateTimeChecker.isValidDateTime("2030-01-01T24:00");
+        DateTimeChecker.isValidDateTime("2030-01-01T23:60");
+        DateTimeChecker.isValidDateTime("2030-01-01T23:59");
+
+        // Assert
+        ValidationMetrics.Operation date = ValidationMetrics.Operation.IS_VALID_DATE;
+        ValidationMetrics.Operation dateTime = ValidationMetrics.Operation.IS_VALID_DATE_TIME;
+        assertEquals(9, metrics.getCalls(date));
+        assertEquals(3, metrics.getRejections(date, DateTimeResult.BAD_LENGTH));
+        assertEquals(1, metrics.getRejections(date, DateTimeResult.BAD_SEPARATOR));
+        assertEquals(1, metrics.getRejections(date, DateTimeResult.NON_DIGIT));
+        assertEquals(1, metrics.getRejections(date, DateTimeResult.MONTH_RANGE));
+        assertEquals(1, metrics.getRejections(date, DateTimeResult.DAY_RANGE));
+        assertEquals(1, metrics.getRejections(date, DateTimeResult.BEFORE_TODAY));
+        assertEquals(3, metrics.getCalls(dateTime));
+        assertEquals(1, metrics.getRejections(dateTime, DateTimeResult.HOUR_RANGE));
+        assertEquals(1, metrics.getRejections(dateTime, DateTimeResult.MINUTE_RANGE));
+        assertEquals(9, Arrays.stream(metrics.latencyHistogram(date)).sum());
+    }
+
+    @Test
+    public void testCommandRejectionsCountedByKind() {
+        // Arrange
+        CommandValidator validator = new CommandValidator();
+
+        // Act
+        validator.checkShopFlightFare("shop flight fare PER SYD OneWay Y 2030-01-02", 1);
+        validator.checkShopFlightFare("shop flight fare PER PER OneWay Y 2030-01-02", 1);
+        validator.checkShopFlightFare("shop flight fare PE SYD OneWay Y 2030-01-02", 1);
+        validator.checkSegLine("seg PER SYD QF123 2029-01-01 Y 1", 1);
+
+        // Assert
+        assertEquals(3, metrics.getCalls(ValidationMetrics.Operation.SHOP_FLIGHT_FARE));
+        assertEquals(1, metrics.getRejections(ValidationMetrics.Operation.SHOP_FLIGHT_FARE, CommandError.Kind.SEMANTIC));
+        assertEquals(1, metrics.getRejections(ValidationMetrics.Operation.SHOP_FLIGHT_FARE, CommandError.Kind.SYNTACTIC));
+        assertEquals(1, metrics.getRejections(ValidationMetrics.Operation.SEG_LINE, CommandError.Kind.SEMANTIC));
+        // the date inside a command is not counted as an isValidDate call
+        assertEquals(0, metrics.getCalls(ValidationMetrics.Operation.IS_VALID_DATE));
+    }
+
+    @Test
+    public void testJmxAndSnapshot() throws Exception {
+        // Arrange
+        DateTimeChecker.isValidDate("2029-12-31");
+
+        // Act
+        Object rejections = ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName(ValidationMetrics.OBJECT_NAME), "Rejections");
+        String snapshot = metrics.snapshot();
+
+        // Assert
+        assertNotNull(rejections);
+        assertEquals(Long.valueOf(1), metrics.getRejections().get("IS_VALID_DATE.BEFORE_TODAY"));
+        assertTrue(snapshot.startsWith("IS_VALID_DATE calls=1 BEFORE_TODAY=1 p50<="), snapshot);
+        assertTrue(snapshot.contains("SEG_LINE calls=0\n"), snapshot);
+    }
+}
@@ -0,0 +1,251 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived Tachi command validation service over TCP or a Unix-domain socket.
+ *
+ * Clients send newline-framed commands ({@code shop flight fare ...} lines and
+ * {@code air book request ... EOC} blocks, see {@link CommandStreamValidator}) and get
+ * one reply line per command, in order:
+ *
+ * <pre>
+ * OK
+ * SYNTACTIC &lt;line&gt;:&lt;column&gt; &lt;message&gt;
+ * SEMANTIC &lt;line&gt;:&lt;column&gt; &lt;message&gt;
+ * </pre>
+ *
+ * Line numbers count from 1 per connection. Requests are pipelined: a client may send
+ * any number of commands before reading replies. Each connection is served by one task
+ * with a blocking channel and its own reusable input and reply buffers; replies for all
+ * the commands in one read are written together.
+ *
+ * Connections run on the executor given to {@link #start}. The default is one thread per
+ * connection; on JDK 21+ pass {@code Executors.newVirtualThreadPerTaskExecutor()}.
+ */
+public final class ValidationServer implements Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private static final byte[] OK = {'O', 'K', '\n'};
+
+    private final ServerSocketChannel server;
+    private final SocketAddress address;
+    private final ExecutorService connections;
+    private final Thread acceptor;
+    private final Set<SocketChannel> open = ConcurrentHashMap.newKeySet();
+
+    private ValidationServer(ServerSocketChannel server, ExecutorService connections) throws IOException {
+
+        this.server = server;
+        this.address = server.getLocalAddress();
+        this.connections = connections;
+        this.acceptor = new Thread(this::acceptLoop, "tachi-validation-acceptor");
+        this.acceptor.setDaemon(true);
+    }
+
+    /**
+     * Start a server with one thread per connection.
+     *
+     * @param address an InetSocketAddress (port 0 picks a free port) or a
+     *                UnixDomainSocketAddress (the socket file must not exist)
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static ValidationServer start(SocketAddress address) throws IOException {
+
+        return start(address, Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "tachi-validation-connection");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Start a server whose connections run on the given executor. The executor is shut
+     * down when the server is closed.
+     *
+     * @param address     an InetSocketAddress or a UnixDomainSocketAddress
+     * @param connections runs one task per connection for as long as it is open
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static ValidationServer start(SocketAddress address, ExecutorService connections) throws IOException {
+
+        ServerSocketChannel server = address instanceof UnixDomainSocketAddress
+                ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open();
+        try {
+            server.bind(address);
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        ValidationServer result = new ValidationServer(server, connections);
+        result.acceptor.start();
+        return result;
+    }
+
+    /**
+     * Usage: {@code java ValidationServer <port> | unix:<socket path>}
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+
+        if (args.length != 1){
+            System.err.println("usage: java ValidationServer <port> | unix:<socket path>");
+            System.exit(2);
+        }
+        SocketAddress address = args[0].startsWith("unix:")
+                ? UnixDomainSocketAddress.of(args[0].substring("unix:".length()))
+                : new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0]));
+        ValidationServer server = start(address);
+        System.out.println("listening on " + server.getAddress());
+        server.acceptor.join();
+    }
+
+    /**
+     * @return the bound address (with the actual port if port 0 was asked for)
+     */
+    public SocketAddress getAddress() {
+        return address;
+    }
+
+    /**
+     * Stop accepting, close all connections and shut down the executor.
+     * A Unix-domain socket file is deleted.
+     */
+    @Override
+    public void close() throws IOException {
+
+        server.close();
+        for (SocketChannel channel : open) {
+            channel.close();
+        }
+        connections.shutdownNow();
+        try {
+            connections.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (address instanceof UnixDomainSocketAddress){
+            Files.deleteIfExists(((UnixDomainSocketAddress) address).getPath());
+        }
+    }
+
+    private void acceptLoop() {
+
+        while (server.isOpen()) {
+            try {
+                SocketChannel channel = server.accept();
+                open.add(channel);
+                try {
+                    connections.execute(() -> serve(channel));
+                } catch (RejectedExecutionException e) {
+                    // close() shut the executor down after this accept: no task will close the channel
+                    open.remove(channel);
+                    channel.close();
+                    throw e;
+                }
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                // keep accepting: one failed connection must not stop the service
+                if (!server.isOpen()){
+                    return;
+                }
+            }
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+
+        try (channel) {
+            Connection connection = new Connection(channel);
+            connection.run();
+        } catch (IOException e) {
+            // client went away; nothing to report to
+        } finally {
+            open.remove(channel);
+        }
+    }
+
+    /**
+     * State of one client connection: the stream validator and the reusable buffers.
+     */
+    private static final class Connection implements CommandStreamValidator.Listener {
+
+        private final SocketChannel channel;
+        private final CommandStreamValidator stream = new CommandStreamValidator(this);
+        private final ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);
+        private ByteBuffer replies = ByteBuffer.allocate(BUFFER_SIZE);
+
+        Connection(SocketChannel channel) {
+
+            this.channel = channel;
+        }
+
+        void run() throws IOException {
+
+            while (true) {
+                input.clear();
+                int read = channel.read(input);
+                if (read < 0){
+                    stream.finish();
+                    flush();
+                    return;
+                }
+                stream.feed(input.array(), 0, read);
+                flush();
+            }
+        }
+
+        @Override
+        public void onCommand(long line, CommandError error) {
+
+            if (error == null){
+                reserve(OK.length).put(OK);
+                return;
+            }
+            // errors are rare; building the text is fine here
+            byte[] reply = (error.getKind() + " " + error.getLine() + ":" + error.getColumn() + " "
+                    + error.getMessage() + "\n").getBytes(StandardCharsets.US_ASCII);
+            reserve(reply.length).put(reply);
+        }
+
+        private ByteBuffer reserve(int bytes) {
+
+            if (replies.remaining() < bytes){
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(replies.capacity() * 2, replies.position() + bytes));
+                replies.flip();
+                replies = larger.put(replies);
+            }
+            return replies;
+        }
+
+        private void flush() throws IOException {
+
+            replies.flip();
+            while (replies.hasRemaining()) {
+                channel.write(replies);
+            }
+            replies.clear();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ValidationServerTest {
+
+    private static final String COMMANDS = "shop flight fare PER SYD OneWay Y 2030-01-02\n"
+            + "air book request\nseg PER SYD QF123 2099-01-01 Y 1\nEOC\n"
+            + "shop flight fare PER SYD Return 25 Y 2030-01-02\n"
+            + "air book request\nseg P3R SYD QF123 2099-01-01 Y 1\nEOC\n";
+
+    private static final List<String> REPLIES = List.of(
+            "OK",
+            "OK",
+            "SEMANTIC 5:33 length of stay must be between 0 and 20",
+            "SYNTACTIC 7:5 airport must be 3 uppercase letters");
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    public void setUp() {
+        DateTimeChecker.setTodayClock(TodayClock.fixed(2030, 1, 1));
+    }
+
+    @AfterEach
+    public void restoreSystemClock() {
+        DateTimeChecker.setTodayClock(TodayClock.system());
+    }
+
+    /**
+     * Utility: send everything first (pipelined), then read one reply per command.
+     */
+    private static List<String> exchange(SocketChannel channel, String commands, int replies) throws IOException {
+        ByteBuffer out = ByteBuffer.wrap(commands.getBytes(StandardCharsets.US_ASCII));
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel),
+                StandardCharsets.US_ASCII));
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < replies; i++) {
+            lines.add(in.readLine());
+        }
+        return lines;
+    }
+
+    @Test
+    public void testTcp_PipelinedReplies() throws IOException {
+        // Arrange
+        try (ValidationServer server = ValidationServer.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             SocketChannel client = SocketChannel.open(server.getAddress())) {
+
+            // Act: the same commands twice on one connection
+            List<String> replies = exchange(client, COMMANDS + COMMANDS, 8);
+
+            // Assert: line numbers continue on the connection
+            assertEquals(REPLIES, replies.subList(0, 4));
+            assertEquals("OK", replies.get(4));
+            assertEquals("SYNTACTIC 15:5 airport must be 3 uppercase letters", replies.get(7));
+        }
+    }
+
+    @Test
+    public void testUnixDomainSocket() throws IOException {
+        SocketAddress address = UnixDomainSocketAddress.of(dir.resolve("tachi.sock"));
+        try (ValidationServer server = ValidationServer.start(address);
+             SocketChannel client = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            client.connect(server.getAddress());
+            assertEquals(REPLIES, exchange(client, COMMANDS, 4));
+        }
+    }
+
+    @Test
+    public void testUnfinishedRequestAtDisconnect() throws IOException {
+        try (ValidationServer server = ValidationServer.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             SocketChannel client = SocketChannel.open(server.getAddress())) {
+            client.write(ByteBuffer.wrap("air book request\nseg PER SYD QF123 2099-01-01 Y 1\n"
+                    .getBytes(StandardCharsets.US_ASCII)));
+            client.shutdownOutput();
+            assertEquals(List.of("SYNTACTIC 3:1 input ended before EOC"), exchange(client, "", 1));
+        }
+    }
+
+    @Test
+    public void testRejectedConnection_Closed() throws IOException {
+        // Arrange: an executor that refuses every connection, as after close() shut it down
+        ExecutorService refusing = Executors.newSingleThreadExecutor();
+        refusing.shutdown();
+        try (ValidationServer server = ValidationServer.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), refusing);
+             SocketChannel client = SocketChannel.open(server.getAddress())) {
+
+            // Act / Assert: the server closes the accepted channel instead of leaking it
+            assertEquals(-1, assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> client.read(ByteBuffer.allocate(1))));
+        }
+    }
+}